@@ -0,0 +1,236 @@
+package io.github.junhkang.springboottesting.benchmark;
+
+import io.github.junhkang.springboottesting.SpringBootTestingFromZeroToHeroApplication;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 비교 벤치마크의 공통 실행기
+ *
+ * 주어진 프로파일로 애플리케이션을 띄우고, 동시에 concurrency개의 요청을 유지하며 requests번 호출한 결과
+ * (처리량, p50/p99 지연 시간, 서버 최대 동시 처리 수, 오류 수)를 반환합니다.
+ *
+ * 요청은 load.write-percent(기본 20)%의 주문 생성(POST /orders), 같은 비율의 방금 생성한 주문 조회(GET /orders/{id}),
+ * 나머지 사용자별 주문 조회(GET /orders/user/{1..3})로 섞습니다.
+ * r2dbc 프로파일에는 사용자별 주문 목록 캐시가 없으므로, 블로킹 프로파일도 캐시를 끄고(order.user-cache.enabled=false)
+ * 모든 요청이 데이터베이스를 거치도록 하여 같은 조건으로 비교합니다.
+ * 주문 생성은 준비 단계에서 만든 전용 사용자와 재고가 충분한 상품을 사용하므로, 조회 대상 사용자의 목록 크기와 재고 부족 오류에 영향을 주지 않습니다.
+ */
+final class LoadDriver {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private LoadDriver() {
+    }
+
+    static void printHeader() {
+        System.out.printf("%-16s %10s %10s %10s %15s %8s%n", "mode", "req/s", "p50(ms)", "p99(ms)", "max in-flight", "errors");
+    }
+
+    static Result run(String[] profiles, int concurrency, int requests) throws Exception {
+        InFlightCounter inFlight = new InFlightCounter();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringBootTestingFromZeroToHeroApplication.class)
+                .profiles(profiles)
+                .properties(
+                        "server.port=0",
+                        "order.user-cache.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.springframework=WARN",
+                        "logging.level.io.github.junhkang.springboottesting=WARN")
+                .initializers(ctx -> ctx.getBeanFactory().registerSingleton("inFlightCounter", inFlight))
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Target target = Target.create(port);
+
+            // 준비 단계: 클래스 로딩과 JIT 워밍업
+            fire(target, Math.min(concurrency, 100), Math.min(requests, 2000));
+            inFlight.reset();
+
+            long start = System.nanoTime();
+            Latencies latencies = fire(target, concurrency, requests);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            return new Result(requests / seconds, latencies.percentile(50), latencies.percentile(99),
+                    inFlight.max.get(), latencies.errors.get());
+        }
+    }
+
+    private static Latencies fire(Target target, int concurrency, int requests) throws InterruptedException {
+        Latencies latencies = new Latencies(requests);
+        Semaphore permits = new Semaphore(concurrency);
+        int writePercent = Integer.getInteger("load.write-percent", 20);
+
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                permits.acquire();
+                int dice = ThreadLocalRandom.current().nextInt(100);
+                boolean write = dice < writePercent;
+                HttpRequest request = write ? target.createOrder()
+                        : dice < writePercent * 2 ? target.getLastOrder()
+                        : target.getUserOrders(ThreadLocalRandom.current().nextLong(1, 4));
+                executor.submit(() -> {
+                    long begin = System.nanoTime();
+                    try {
+                        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                        if (response.statusCode() != 200) {
+                            latencies.errors.incrementAndGet();
+                        } else if (write) {
+                            target.lastOrderId.accumulateAndGet(parseId(response.body()), Math::max);
+                        }
+                    } catch (IOException | InterruptedException e) {
+                        latencies.errors.incrementAndGet();
+                    } finally {
+                        latencies.record(System.nanoTime() - begin);
+                        permits.release();
+                    }
+                });
+            }
+        }
+        return latencies;
+    }
+
+    // 응답 JSON의 첫 번째 id (주문과 사용자, 상품 모두 id가 첫 필드)
+    private static long parseId(String body) {
+        Matcher matcher = ID_PATTERN.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No id in response: " + body);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    // 요청 대상: 주문 생성 전용 사용자와 상품, 마지막으로 생성된 주문 ID
+    private static final class Target {
+        private final String baseUrl;
+        private final long userId;
+        private final long productId;
+        private final AtomicLong lastOrderId = new AtomicLong(1);
+
+        private Target(String baseUrl, long userId, long productId) {
+            this.baseUrl = baseUrl;
+            this.userId = userId;
+            this.productId = productId;
+        }
+
+        static Target create(int port) throws IOException, InterruptedException {
+            String baseUrl = "http://localhost:" + port;
+            try (HttpClient client = HttpClient.newHttpClient()) {
+                long userId = post(client, baseUrl + "/users",
+                        "{\"username\":\"load_user\",\"email\":\"load_user@example.com\"}");
+                long productId = post(client, baseUrl + "/products",
+                        "{\"name\":\"Load Product\",\"price\":1.00,\"stock\":" + Integer.MAX_VALUE + "}");
+                return new Target(baseUrl, userId, productId);
+            }
+        }
+
+        HttpRequest createOrder() {
+            return request("/orders?userId=" + userId + "&productId=" + productId + "&quantity=1")
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+        }
+
+        HttpRequest getLastOrder() {
+            return request("/orders/" + lastOrderId.get()).build();
+        }
+
+        HttpRequest getUserOrders(long id) {
+            return request("/orders/user/" + id).build();
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+        }
+
+        private static long post(HttpClient client, String url, String json) throws IOException, InterruptedException {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Setup request failed: " + url + " -> " + response.statusCode() + " " + response.body());
+            }
+            return parseId(response.body());
+        }
+    }
+
+    // 서버에서 동시에 처리 중인 요청 수와 그 최댓값을 기록 (서블릿 스택은 Filter, WebFlux 스택은 WebFilter로 등록됨)
+    private static final class InFlightCounter implements Filter, WebFilter {
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger max = new AtomicInteger();
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+            max.accumulateAndGet(current.incrementAndGet(), Math::max);
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                current.decrementAndGet();
+            }
+        }
+
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+            max.accumulateAndGet(current.incrementAndGet(), Math::max);
+            return chain.filter(exchange).doFinally(signal -> current.decrementAndGet());
+        }
+
+        void reset() {
+            max.set(0);
+        }
+    }
+
+    private static final class Latencies {
+        private final long[] nanos;
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicInteger errors = new AtomicInteger();
+
+        Latencies(int capacity) {
+            this.nanos = new long[capacity];
+        }
+
+        void record(long elapsed) {
+            nanos[count.getAndIncrement()] = elapsed;
+        }
+
+        double percentile(int percentile) {
+            long[] sorted = Arrays.copyOf(nanos, count.get());
+            Arrays.sort(sorted);
+            int index = Math.max(0, (int) Math.ceil(sorted.length * percentile / 100.0) - 1);
+            return sorted[index] / 1_000_000.0;
+        }
+    }
+
+    record Result(double throughput, double p50, double p99, int maxInFlight, int errors) {
+        void print(String mode) {
+            System.out.printf("%-16s %10.0f %10.2f %10.2f %15d %8d%n", mode, throughput, p50, p99, maxInFlight, errors);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package io.github.junhkang.springboottesting.benchmark;
+
+import io.github.junhkang.springboottesting.SpringBootTestingFromZeroToHeroApplication;
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.service.OrderService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderService 주요 경로의 처리량 벤치마크
+ *
+ * 프로파일(jpa, mybatis)과 주문 데이터 수마다 H2 위에서 Spring 컨텍스트를 새로 띄우고 데이터를 채운 뒤 측정합니다.
+ *
+ * 실행 예:
+ * ./mvnw -Pbenchmark test-compile exec:exec
+ * ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="OrderServiceBenchmark -p datasetSize=100000 -t 8 -prof gc"
+ *
+ * -p profile=..., -p datasetSize=...로 파라미터를, -t로 스레드 수를 지정하고, -prof gc로 할당률(gc.alloc.rate)을 함께 출력합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderServiceBenchmark {
+
+    // 사용자 한 명당 평균 주문 수, 상품 수, 주문 날짜가 분포하는 기간
+    private static final int ORDERS_PER_USER = 20;
+    private static final int PRODUCT_COUNT = 100;
+    private static final int ORDER_DAYS = 365;
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    @Param({"jpa", "mybatis"})
+    public String profile;
+
+    @Param({"1000", "10000"})
+    public int datasetSize;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+
+    private long minUserId;
+    private long maxUserId;
+    // 상품 ID는 시퀀스 증가폭(50)만큼 떨어져 있으므로 범위가 아니라 실제 ID 중에서 고름
+    private long[] productIds;
+    private LocalDateTime seedEnd;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(SpringBootTestingFromZeroToHeroApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(profile)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.springframework=WARN",
+                        "logging.level.io.github.junhkang.springboottesting=WARN")
+                .run();
+        orderService = context.getBean(OrderService.class);
+
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        return orderService.createOrder(randomUserId(), randomProductId(), 1);
+    }
+
+    @Benchmark
+    public Order cancelOrder(PendingOrder pendingOrder) {
+        return orderService.cancelOrder(pendingOrder.orderId);
+    }
+
+    @Benchmark
+    public List<Order> getOrdersByUserId() {
+        return orderService.getOrdersByUserId(randomUserId());
+    }
+
+    @Benchmark
+    public List<Order> getOrdersByDateRange() {
+        // 하루 범위 조회: 주문 데이터 수 / ORDER_DAYS 건 정도가 반환됨
+        LocalDateTime start = seedEnd.minusDays(ThreadLocalRandom.current().nextInt(1, ORDER_DAYS));
+        return orderService.getOrdersByDateRange(start, start.plusDays(1));
+    }
+
+    /**
+     * 취소 벤치마크용 주문: 측정 호출마다 PENDING 상태의 주문을 새로 만들어 둠
+     */
+    @State(Scope.Thread)
+    public static class PendingOrder {
+        Long orderId;
+
+        @Setup(Level.Invocation)
+        public void createOrder(OrderServiceBenchmark benchmark) {
+            orderId = benchmark.createOrder().getId();
+        }
+    }
+
+    // 서비스 계층을 거치지 않고 JDBC 배치로 사용자, 상품, 주문을 채움 (두 프로파일이 같은 스키마를 사용)
+    private void seed(JdbcTemplate jdbcTemplate) {
+        int userCount = Math.max(1, datasetSize / ORDERS_PER_USER);
+
+        List<Object[]> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            users.add(new Object[]{"bench_user_" + i, "bench.user" + i + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (username, email) VALUES (?, ?)", users);
+
+        List<Object[]> products = new ArrayList<>(PRODUCT_COUNT);
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            // 가격은 센트 단위, 재고는 측정 중 주문으로 바닥나지 않도록 충분히 크게
+            products.add(new Object[]{"Bench Product " + i, "Benchmark product " + i, 1000L + i * 100L, Integer.MAX_VALUE / 2});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO product (name, description, price, stock, version) VALUES (?, ?, ?, ?, 0)", products);
+
+        minUserId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users WHERE username LIKE 'bench_user_%'", Long.class);
+        maxUserId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+        productIds = jdbcTemplate.queryForList("SELECT id FROM product WHERE name LIKE 'Bench Product %'", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+
+        seedEnd = LocalDateTime.now();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Object[]> orders = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < datasetSize; i++) {
+            int quantity = random.nextInt(1, 5);
+            orders.add(new Object[]{
+                    Timestamp.valueOf(seedEnd.minusMinutes(random.nextLong(ORDER_DAYS * 24L * 60L))),
+                    random.nextLong(minUserId, maxUserId + 1),
+                    randomProductId(),
+                    quantity,
+                    1000L * quantity
+            });
+            if (orders.size() == SEED_BATCH_SIZE || i == datasetSize - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO orders (order_date, user_id, product_id, quantity, status, total_amount, version) "
+                        + "VALUES (?, ?, ?, ?, 'COMPLETED', ?, 0)", orders);
+                orders.clear();
+            }
+        }
+    }
+
+    private long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(minUserId, maxUserId + 1);
+    }
+
+    private long randomProductId() {
+        return productIds[ThreadLocalRandom.current().nextInt(productIds.length)];
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.junhkang.springboottesting.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 블로킹 프로파일(jpa, mybatis)과 리액티브 프로파일(r2dbc)의 부하 비교
+ *
+ * 프로파일마다 애플리케이션을 한 번씩 띄워 같은 조건으로 주문 생성과 조회를 섞어 호출하고({@link LoadDriver}),
+ * 처리량과 p50/p99 지연 시간, 서버에서 동시에 처리된 최대 요청 수를 출력합니다.
+ * 블로킹 프로파일의 사용자별 주문 목록 캐시는 끄므로, 모든 모드가 매 요청 데이터베이스를 조회합니다.
+ * load.virtual-threads=true이면 블로킹 프로파일을 가상 스레드 모드로도 한 번 더 실행합니다.
+ *
+ * 실행 예:
+ * ./mvnw -Pbenchmark test-compile exec:exec@reactive-load -Dload.args="-Dload.concurrency=2000 -Dload.virtual-threads=true"
+ */
+public final class ReactiveLoadBenchmark {
+
+    private ReactiveLoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("load.concurrency", 1000);
+        int requests = Integer.getInteger("load.requests", 20000);
+        boolean virtualThreads = Boolean.getBoolean("load.virtual-threads");
+
+        Map<String, LoadDriver.Result> results = new LinkedHashMap<>();
+        for (String profile : new String[]{"jpa", "mybatis"}) {
+            results.put(profile, LoadDriver.run(new String[]{profile}, concurrency, requests));
+            if (virtualThreads) {
+                results.put(profile + "+virtual", LoadDriver.run(new String[]{profile, "virtual-threads"}, concurrency, requests));
+            }
+        }
+        results.put("r2dbc", LoadDriver.run(new String[]{"r2dbc"}, concurrency, requests));
+
+        System.out.printf("%nconcurrency=%d, requests=%d%n", concurrency, requests);
+        LoadDriver.printHeader();
+        results.forEach((mode, result) -> result.print(mode));
+    }
+}
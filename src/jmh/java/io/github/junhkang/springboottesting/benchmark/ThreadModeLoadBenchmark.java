@@ -0,0 +1,34 @@
+package io.github.junhkang.springboottesting.benchmark;
+
+/**
+ * 플랫폼 스레드 모드와 가상 스레드 모드(virtual-threads 프로파일)의 부하 비교
+ *
+ * 같은 프로파일로 애플리케이션을 두 번 띄워, 동시에 load.concurrency개의 요청을 유지하며
+ * 주문 생성과 조회를 섞어({@link LoadDriver}) load.requests번 호출하고 p50/p99 지연 시간과 서버에서 동시에 처리된 최대 요청 수를 출력합니다.
+ * 사용자별 주문 목록 캐시를 끄므로 모든 요청이 JDBC 호출에서 대기하며, 가상 스레드가 이 대기 동안 캐리어 스레드를 양보하는지 비교할 수 있습니다.
+ *
+ * 실행 예:
+ * ./mvnw -Pbenchmark test-compile exec:exec@thread-mode-load -Dload.args="-Dload.profile=mybatis -Dload.concurrency=2000"
+ *
+ * 내장 H2는 JDBC 호출이 같은 프로세스 안에서 끝나므로, 실제 DB 대기 시간을 반영하려면
+ * -Dspring.datasource.url=...로 외부 데이터베이스를 지정합니다.
+ */
+public final class ThreadModeLoadBenchmark {
+
+    private ThreadModeLoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String profile = System.getProperty("load.profile", "jpa");
+        int concurrency = Integer.getInteger("load.concurrency", 1000);
+        int requests = Integer.getInteger("load.requests", 20000);
+
+        LoadDriver.Result platform = LoadDriver.run(new String[]{profile}, concurrency, requests);
+        LoadDriver.Result virtual = LoadDriver.run(new String[]{profile, "virtual-threads"}, concurrency, requests);
+
+        System.out.printf("%nprofile=%s, concurrency=%d, requests=%d%n", profile, concurrency, requests);
+        LoadDriver.printHeader();
+        platform.print("platform");
+        virtual.print("virtual");
+    }
+}
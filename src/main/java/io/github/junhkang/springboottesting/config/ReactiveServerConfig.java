@@ -0,0 +1,22 @@
+package io.github.junhkang.springboottesting.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * r2dbc 프로파일의 웹 서버 설정
+ *
+ * Tomcat(spring-boot-starter-web)도 클래스패스에 있으면 리액티브 애플리케이션이 Tomcat 위에서 실행되므로,
+ * 이벤트 루프 기반 Netty를 명시적으로 사용합니다.
+ */
+@Configuration
+@Profile("r2dbc")
+public class ReactiveServerConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
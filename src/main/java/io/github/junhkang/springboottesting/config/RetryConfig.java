@@ -0,0 +1,14 @@
+package io.github.junhkang.springboottesting.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+/**
+ * {@link RetryOnConflict}가 붙은 메서드에 재시도 프록시를 적용하기 위한 설정
+ *
+ * 재시도 인터셉터는 트랜잭션 인터셉터보다 바깥에서 동작하므로, 매 시도는 새로운 트랜잭션에서 실행됩니다.
+ */
+@Configuration
+@EnableRetry
+public class RetryConfig {
+}
@@ -0,0 +1,26 @@
+package io.github.junhkang.springboottesting.config;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+import java.lang.annotation.*;
+
+/**
+ * 낙관적 락 충돌(OptimisticLockingFailureException) 발생 시 메서드를 다시 실행
+ *
+ * 최대 시도 횟수와 백오프는 order.retry.* 프로퍼티로 설정합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Retryable(
+        retryFor = OptimisticLockingFailureException.class,
+        maxAttemptsExpression = "${order.retry.max-attempts:3}",
+        backoff = @Backoff(
+                delayExpression = "${order.retry.backoff-delay:50}",
+                multiplierExpression = "${order.retry.backoff-multiplier:2}"
+        )
+)
+public @interface RetryOnConflict {
+}
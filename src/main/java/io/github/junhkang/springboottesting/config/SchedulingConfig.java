@@ -0,0 +1,15 @@
+package io.github.junhkang.springboottesting.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 실행을 위한 설정
+ *
+ * 재고 원장 정산({@link io.github.junhkang.springboottesting.service.StockLedger})처럼 기능이 꺼져 있으면
+ * 작업 자체에서 바로 반환합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
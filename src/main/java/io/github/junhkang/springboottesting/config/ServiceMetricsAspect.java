@@ -0,0 +1,88 @@
+package io.github.junhkang.springboottesting.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서비스 구현체(service.impl)의 public 메서드 실행 시간을 service.method 타이머로 기록
+ *
+ * 태그는 service(구현한 서비스 인터페이스), method, profile(구현체의 @Profile 값), exception(예외 클래스, 정상 종료는 none)이며
+ * 백분위 히스토그램을 함께 기록합니다. 재시도·트랜잭션 프록시보다 바깥에서 동작하므로 재시도 시간까지 포함됩니다.
+ * Mono/Flux를 반환하는 리액티브 구현체는 반환 시점이 아니라 완료·오류 시점까지를 기록하며, 구독 취소는 기록하지 않습니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+
+    static final String METRIC_NAME = "service.method";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Tags> classTags = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(io.github.junhkang.springboottesting.service.impl..*) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Tags tags = classTags.computeIfAbsent(AopUtils.getTargetClass(joinPoint.getTarget()), ServiceMetricsAspect::tagsOf)
+                .and("method", joinPoint.getSignature().getName());
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            stop(sample, tags, e);
+            throw e;
+        }
+
+        if (result instanceof Mono<?> mono) {
+            return mono.doOnSuccess(value -> stop(sample, tags, null))
+                    .doOnError(e -> stop(sample, tags, e));
+        }
+        if (result instanceof Flux<?> flux) {
+            return flux.doOnComplete(() -> stop(sample, tags, null))
+                    .doOnError(e -> stop(sample, tags, e));
+        }
+        stop(sample, tags, null);
+        return result;
+    }
+
+    private void stop(Timer.Sample sample, Tags tags, Throwable error) {
+        sample.stop(Timer.builder(METRIC_NAME)
+                .description("Service method execution time")
+                .tags(tags)
+                .tag("exception", error == null ? "none" : error.getClass().getSimpleName())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private static Tags tagsOf(Class<?> targetClass) {
+        String service = Arrays.stream(targetClass.getInterfaces())
+                .map(Class::getSimpleName)
+                .filter(name -> name.endsWith("Service"))
+                .findFirst()
+                .orElse(targetClass.getSimpleName());
+        Profile profile = AnnotatedElementUtils.findMergedAnnotation(targetClass, Profile.class);
+        String profileName = profile == null ? "default" : String.join(",", profile.value());
+        return Tags.of("service", service, "profile", profileName);
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.junhkang.springboottesting.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * JDBC 문장 모니터링 설정 (jpa, mybatis 프로파일)
+ *
+ * DataSource를 datasource-proxy로 감싸 모든 문장을 {@link SqlMonitoringListener}로 전달하고,
+ * 컨트롤러 요청 단위 집계와 {@link SqlStatementBudget} 검사를 위해 {@link SqlMonitoringInterceptor}를 등록합니다.
+ * <ul>
+ *     <li>sql.monitor.slow-query-threshold: 이 시간 이상 걸린 문장을 바인드 파라미터와 함께 WARN 로그로 남김</li>
+ *     <li>sql.budget.enforce: true이면 상한을 넘는 문장에서 바로 예외를 던짐 (테스트용, 운영에서는 경고 로그만 남김)</li>
+ * </ul>
+ */
+@Configuration
+@Profile("!r2dbc")
+public class SqlMonitoringConfig {
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어져야 하므로 static으로 선언
+    @Bean
+    public static BeanPostProcessor sqlMonitoringDataSourcePostProcessor(
+            @Value("${sql.monitor.slow-query-threshold:200ms}") Duration slowQueryThreshold) {
+        SqlMonitoringListener listener = new SqlMonitoringListener(slowQueryThreshold);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public WebMvcConfigurer sqlMonitoringWebMvcConfigurer(MeterRegistry meterRegistry,
+                                                          @Value("${sql.budget.enforce:false}") boolean enforceBudget) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new SqlMonitoringInterceptor(meterRegistry, enforceBudget));
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.junhkang.springboottesting.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * 컨트롤러 요청마다 JDBC 문장 수와 DB 시간을 집계하고, {@link SqlStatementBudget}으로 선언한 상한과 비교
+ *
+ * 집계는 sql.request.statements(문장 수), sql.request.time(DB 시간) 지표로 handler(컨트롤러.메서드) 태그와 함께 기록합니다.
+ */
+@Slf4j
+class SqlMonitoringInterceptor implements AsyncHandlerInterceptor {
+
+    static final String STATEMENTS_METRIC = "sql.request.statements";
+    static final String TIME_METRIC = "sql.request.time";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enforceBudget;
+
+    SqlMonitoringInterceptor(MeterRegistry meterRegistry, boolean enforceBudget) {
+        this.meterRegistry = meterRegistry;
+        this.enforceBudget = enforceBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            SqlStatementBudget budget = handlerMethod.getMethodAnnotation(SqlStatementBudget.class);
+            String name = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+            SqlRequestStats.begin(name, budget == null ? SqlRequestStats.NO_BUDGET : budget.value(), enforceBudget);
+        }
+        return true;
+    }
+
+    // 스트리밍 응답처럼 다른 스레드로 넘어가는 요청은 요청 스레드에서 실행된 문장까지만 집계
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        complete();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        complete();
+    }
+
+    private void complete() {
+        SqlRequestStats stats = SqlRequestStats.end();
+        if (stats == null) {
+            return;
+        }
+
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .description("JDBC statements executed per request")
+                .tag("handler", stats.getHandler())
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder(TIME_METRIC)
+                .description("Total JDBC execution time per request")
+                .tag("handler", stats.getHandler())
+                .register(meterRegistry)
+                .record(Duration.ofMillis(stats.getElapsedMillis()));
+
+        if (stats.isOverBudget()) {
+            log.warn("SQL statement budget exceeded in {}: {} > {}", stats.getHandler(), stats.getStatements(), stats.getBudget());
+        } else {
+            log.debug("{}: {} statements, {} ms", stats.getHandler(), stats.getStatements(), stats.getElapsedMillis());
+        }
+    }
+}
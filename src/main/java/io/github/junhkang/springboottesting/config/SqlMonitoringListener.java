@@ -0,0 +1,42 @@
+package io.github.junhkang.springboottesting.config;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.logging.DefaultQueryLogEntryCreator;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * JDBC 문장 실행마다 호출되어 요청별 집계({@link SqlRequestStats})에 더하고, 느린 문장을 바인드 파라미터와 함께 로그로 남김
+ */
+@Slf4j
+class SqlMonitoringListener implements QueryExecutionListener {
+
+    private final long slowQueryThresholdMillis;
+    private final DefaultQueryLogEntryCreator logEntryCreator = new DefaultQueryLogEntryCreator();
+
+    SqlMonitoringListener(Duration slowQueryThreshold) {
+        this.slowQueryThresholdMillis = slowQueryThreshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() >= slowQueryThresholdMillis) {
+            log.warn("Slow query ({} ms): {}", execInfo.getElapsedTime(),
+                    logEntryCreator.getLogEntry(execInfo, queryInfoList, true, true, false));
+        }
+
+        // 예산 초과 시 예외가 JDBC 호출자에게 그대로 전달되어 요청이 바로 실패함
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.record(execInfo.getElapsedTime());
+        }
+    }
+}
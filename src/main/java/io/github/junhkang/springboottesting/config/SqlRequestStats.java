@@ -0,0 +1,70 @@
+package io.github.junhkang.springboottesting.config;
+
+import io.github.junhkang.springboottesting.exception.SqlBudgetExceededException;
+
+/**
+ * 현재 요청 스레드에서 실행된 JDBC 문장 수와 DB 시간
+ *
+ * {@link SqlMonitoringInterceptor}가 요청 시작 시 만들고 끝날 때 제거하며, 그 사이 {@link SqlMonitoringListener}가 문장마다 기록합니다.
+ * 다른 스레드에서 실행되는 문장(스트리밍 응답, 비동기 주문 큐 워커 등)은 집계되지 않습니다.
+ */
+final class SqlRequestStats {
+
+    static final int NO_BUDGET = -1;
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final String handler;
+    private final int budget;
+    private final boolean enforce;
+    private int statements;
+    private long elapsedMillis;
+
+    private SqlRequestStats(String handler, int budget, boolean enforce) {
+        this.handler = handler;
+        this.budget = budget;
+        this.enforce = enforce;
+    }
+
+    static void begin(String handler, int budget, boolean enforce) {
+        CURRENT.set(new SqlRequestStats(handler, budget, enforce));
+    }
+
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    static SqlRequestStats end() {
+        SqlRequestStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    void record(long elapsed) {
+        statements++;
+        elapsedMillis += elapsed;
+        if (enforce && isOverBudget()) {
+            throw new SqlBudgetExceededException(handler, budget, statements);
+        }
+    }
+
+    boolean isOverBudget() {
+        return budget != NO_BUDGET && statements > budget;
+    }
+
+    String getHandler() {
+        return handler;
+    }
+
+    int getBudget() {
+        return budget;
+    }
+
+    int getStatements() {
+        return statements;
+    }
+
+    long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.junhkang.springboottesting.config;
+
+import java.lang.annotation.*;
+
+/**
+ * 컨트롤러 메서드 한 번의 요청에서 실행할 수 있는 JDBC 문장 수의 상한
+ *
+ * 상한을 넘으면 경고 로그를 남기고, sql.budget.enforce=true(테스트)이면 넘는 문장에서 바로
+ * {@link io.github.junhkang.springboottesting.exception.SqlBudgetExceededException}을 던집니다.
+ * 배치로 전송된 문장은 한 번으로 셉니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SqlStatementBudget {
+    int value();
+}
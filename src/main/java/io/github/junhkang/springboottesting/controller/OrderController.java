@@ -1,56 +1,126 @@
 package io.github.junhkang.springboottesting.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.junhkang.springboottesting.config.SqlStatementBudget;
+import io.github.junhkang.springboottesting.domain.Money;
 import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.OrderPage;
+import io.github.junhkang.springboottesting.domain.OrderStats;
+import io.github.junhkang.springboottesting.domain.OrderTicket;
+import io.github.junhkang.springboottesting.domain.UserOrdersCacheStats;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
+import io.github.junhkang.springboottesting.service.OrderPlacementQueue;
 import io.github.junhkang.springboottesting.service.OrderService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.List;
 
 
 @RestController
+@Profile("!r2dbc")
 @RequestMapping("/orders")
 public class OrderController {
     private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+    private final OrderPlacementQueue orderPlacementQueue;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, ObjectMapper objectMapper, OrderPlacementQueue orderPlacementQueue) {
         this.orderService = orderService;
+        this.objectMapper = objectMapper;
+        this.orderPlacementQueue = orderPlacementQueue;
     }
 
+    @SqlStatementBudget(2)
     @GetMapping
-    public List<Order> getAllOrders() {
-        return orderService.getAllOrders();
+    public OrderPage getOrders(@RequestParam(required = false) Long cursor,
+                               @RequestParam(defaultValue = "20") int size) {
+        return orderService.getOrders(cursor, size);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        // 한 줄에 주문 하나씩(NDJSON) 바로 써서 전체 목록을 메모리에 만들지 않음
+        StreamingResponseBody body = out -> orderService.exportOrders(order -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(order));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @SqlStatementBudget(2)
     @GetMapping("/{id}")
     public ResponseEntity<Order> getOrderById(@PathVariable Long id) {
         Order order = orderService.getOrderById(id);
         return ResponseEntity.ok(order);
     }
 
+    @SqlStatementBudget(8)
     @PostMapping
     public Order createOrder(@RequestParam Long userId, @RequestParam Long productId, @RequestParam Integer quantity) {
         return orderService.createOrder(userId, productId, quantity);
     }
 
+    // 큐에 접수만 하고 202로 응답: 결과는 GET /orders/tickets/{id}로 조회
+    @PostMapping("/async")
+    public ResponseEntity<OrderTicket> createOrderAsync(@RequestParam Long userId, @RequestParam Long productId, @RequestParam Integer quantity) {
+        OrderTicket ticket = orderPlacementQueue.submit(userId, productId, quantity);
+        return ResponseEntity.accepted()
+                .location(URI.create("/orders/tickets/" + ticket.getId()))
+                .body(ticket);
+    }
+
+    @GetMapping("/tickets/{id}")
+    public OrderTicket getOrderTicket(@PathVariable String id) {
+        return orderPlacementQueue.getTicket(id);
+    }
+
+    @SqlStatementBudget(10)
+    @PostMapping("/batch")
+    public List<Order> createOrders(@RequestBody List<OrderLine> lines) {
+        return orderService.createOrders(lines);
+    }
+
+    @SqlStatementBudget(6)
     @DeleteMapping("/{id}/cancel")
     public ResponseEntity<Order> cancelOrder(@PathVariable Long id) {
         Order canceledOrder = orderService.cancelOrder(id);
         return ResponseEntity.ok(canceledOrder);
     }
 
+    @SqlStatementBudget(6)
     @PutMapping("/{id}/quantity")
     public ResponseEntity<Order> updateOrderQuantity(@PathVariable Long id, @RequestParam Integer newQuantity) {
         Order updatedOrder = orderService.updateOrderQuantity(id, newQuantity);
         return ResponseEntity.ok(updatedOrder);
     }
 
+    // 조건부 GET: If-None-Match가 현재 집계 값과 같으면 주문 그래프를 조회하지 않고 304로 응답
+    // 주문이 없으면(존재하지 않는 사용자 포함) 비교하지 않고 그대로 조회
+    @SqlStatementBudget(5)
     @GetMapping("/user/{userId}")
-    public List<Order> getOrdersByUserId(@PathVariable Long userId) {
+    public List<Order> getOrdersByUserId(@PathVariable Long userId, WebRequest request) {
+        VersionStamp stamp = orderService.getOrdersVersionStampByUserId(userId);
+        if (stamp != null && stamp.getRowCount() > 0 && request.checkNotModified(stamp.toETag())) {
+            return null;
+        }
         return orderService.getOrdersByUserId(userId);
     }
 
+    @SqlStatementBudget(3)
     @GetMapping("/date")
     public List<Order> getOrdersByDateRange(@RequestParam String startDate, @RequestParam String endDate) {
         LocalDateTime start = LocalDateTime.parse(startDate);
@@ -58,9 +128,23 @@ public class OrderController {
         return orderService.getOrdersByDateRange(start, end);
     }
 
+    @SqlStatementBudget(8)
+    @GetMapping("/stats")
+    public OrderStats getOrderStats(@RequestParam String startDate, @RequestParam String endDate) {
+        LocalDateTime start = LocalDateTime.parse(startDate);
+        LocalDateTime end = LocalDateTime.parse(endDate);
+        return orderService.getOrderStats(start, end);
+    }
+
+    @GetMapping("/cache-stats")
+    public UserOrdersCacheStats getCacheStats() {
+        return orderService.getCacheStats();
+    }
+
+    @SqlStatementBudget(2)
     @GetMapping("/{id}/totalAmount")
-    public ResponseEntity<Double> calculateTotalAmount(@PathVariable Long id) {
-        Double totalAmount = orderService.calculateTotalAmount(id);
+    public ResponseEntity<Money> calculateTotalAmount(@PathVariable Long id) {
+        Money totalAmount = orderService.calculateTotalAmount(id);
         return ResponseEntity.ok(totalAmount);
     }
 }
\ No newline at end of file
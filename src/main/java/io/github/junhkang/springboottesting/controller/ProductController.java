@@ -1,30 +1,70 @@
 package io.github.junhkang.springboottesting.controller;
 
 import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductCacheStats;
+import io.github.junhkang.springboottesting.domain.ProductImportResult;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
+import io.github.junhkang.springboottesting.service.ProductCatalogImporter;
 import io.github.junhkang.springboottesting.service.ProductService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
+@Profile("!r2dbc")
 @RequestMapping("/products")
 public class ProductController {
     private final ProductService productService;
+    private final ProductCatalogImporter productCatalogImporter;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, ProductCatalogImporter productCatalogImporter) {
         this.productService = productService;
+        this.productCatalogImporter = productCatalogImporter;
     }
 
+    // 조건부 GET: If-None-Match가 현재 집계 값과 같으면 목록을 조회하지 않고 304로 응답
+    // 집계 값을 목록보다 먼저 읽으므로, 그 사이에 변경되더라도 다음 요청에서 다시 200으로 응답함
     @GetMapping
-    public List<Product> getAllProducts() {
+    public List<Product> getAllProducts(WebRequest request) {
+        VersionStamp stamp = productService.getCatalogVersionStamp();
+        if (stamp != null && request.checkNotModified(stamp.toETag())) {
+            return null;
+        }
         return productService.getAllProducts();
     }
 
+    // GET /products?ids=1,2,3 : 여러 상품을 한 번의 요청으로 조회
+    @GetMapping(params = "ids")
+    public List<Product> getProductsByIds(@RequestParam List<Long> ids) {
+        return productService.getProductsByIds(ids);
+    }
+
+    @GetMapping("/cache-stats")
+    public ProductCacheStats getCacheStats() {
+        return productService.getCacheStats();
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Product> getProductById(@PathVariable Long id) {
+    public ResponseEntity<Product> getProductById(@PathVariable Long id, WebRequest request) {
+        Long version = productService.getProductVersion(id);
+        if (version != null && request.checkNotModified(eTag(version))) {
+            return null;
+        }
+        // 캐시에서 읽은 상품이 DB보다 오래되었을 수 있으므로, 응답 ETag는 본문의 버전으로 지정
         Product product = productService.getProductById(id);
-        return ResponseEntity.ok(product);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (product.getVersion() != null) {
+            response.eTag(eTag(product.getVersion()));
+        }
+        return response.body(product);
     }
 
     @PostMapping
@@ -32,4 +72,18 @@ public class ProductController {
         return productService.createProduct(product);
     }
 
-}
\ No newline at end of file
+    // 요청 본문을 스트림으로 받아 한 행씩 처리 (본문 전체를 메모리에 올리지 않음)
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ProductImportResult importProductsCsv(InputStream body) throws IOException {
+        return productCatalogImporter.importCsv(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ProductImportResult importProductsJson(InputStream body) throws IOException {
+        return productCatalogImporter.importJson(body);
+    }
+
+    private static String eTag(Long version) {
+        return "\"" + version + "\"";
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.junhkang.springboottesting.controller;
+
+import io.github.junhkang.springboottesting.domain.Money;
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.OrderPage;
+import io.github.junhkang.springboottesting.domain.OrderStats;
+import io.github.junhkang.springboottesting.service.ReactiveOrderService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * r2dbc 프로파일의 주문 API ({@link OrderController}와 같은 경로)
+ *
+ * 조건부 GET은 응답에 ETag를 지정하고, If-None-Match가 같으면 WebFlux가 본문을 구독하지 않고 304로 응답합니다.
+ * 비동기 주문 큐(/async, /tickets)는 요청 스레드를 잡아 두지 않는 이 프로파일에는 필요하지 않아 블로킹 프로파일에서만 제공합니다.
+ */
+@RestController
+@Profile("r2dbc")
+@RequestMapping("/orders")
+public class ReactiveOrderController {
+    private final ReactiveOrderService orderService;
+
+    public ReactiveOrderController(ReactiveOrderService orderService) {
+        this.orderService = orderService;
+    }
+
+    @GetMapping
+    public Mono<OrderPage> getOrders(@RequestParam(required = false) Long cursor,
+                                     @RequestParam(defaultValue = "20") int size) {
+        return orderService.getOrders(cursor, size);
+    }
+
+    // 한 줄에 주문 하나씩(NDJSON) 읽는 대로 내보냄
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Order> exportOrders() {
+        return orderService.exportOrders();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<Order> getOrderById(@PathVariable Long id) {
+        return orderService.getOrderById(id);
+    }
+
+    @PostMapping
+    public Mono<Order> createOrder(@RequestParam Long userId, @RequestParam Long productId, @RequestParam Integer quantity) {
+        return orderService.createOrder(userId, productId, quantity);
+    }
+
+    @PostMapping("/batch")
+    public Flux<Order> createOrders(@RequestBody List<OrderLine> lines) {
+        return orderService.createOrders(lines);
+    }
+
+    @DeleteMapping("/{id}/cancel")
+    public Mono<Order> cancelOrder(@PathVariable Long id) {
+        return orderService.cancelOrder(id);
+    }
+
+    @PutMapping("/{id}/quantity")
+    public Mono<Order> updateOrderQuantity(@PathVariable Long id, @RequestParam Integer newQuantity) {
+        return orderService.updateOrderQuantity(id, newQuantity);
+    }
+
+    @GetMapping("/user/{userId}")
+    public Mono<ResponseEntity<Flux<Order>>> getOrdersByUserId(@PathVariable Long userId) {
+        // 주문이 없으면 ETag를 지정하지 않음 (존재하지 않는 사용자는 본문 조회에서 404)
+        return orderService.getOrdersVersionStampByUserId(userId)
+                .map(stamp -> stamp.getRowCount() > 0 ? ResponseEntity.ok().eTag(stamp.toETag()) : ResponseEntity.ok())
+                .map(response -> response.body(orderService.getOrdersByUserId(userId)));
+    }
+
+    @GetMapping("/date")
+    public Flux<Order> getOrdersByDateRange(@RequestParam String startDate, @RequestParam String endDate) {
+        LocalDateTime start = LocalDateTime.parse(startDate);
+        LocalDateTime end = LocalDateTime.parse(endDate);
+        return orderService.getOrdersByDateRange(start, end);
+    }
+
+    @GetMapping("/stats")
+    public Mono<OrderStats> getOrderStats(@RequestParam String startDate, @RequestParam String endDate) {
+        LocalDateTime start = LocalDateTime.parse(startDate);
+        LocalDateTime end = LocalDateTime.parse(endDate);
+        return orderService.getOrderStats(start, end);
+    }
+
+    @GetMapping("/{id}/totalAmount")
+    public Mono<Money> calculateTotalAmount(@PathVariable Long id) {
+        return orderService.calculateTotalAmount(id);
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.junhkang.springboottesting.controller;
+
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.service.ReactiveProductService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * r2dbc 프로파일의 상품 API ({@link ProductController}와 같은 경로)
+ *
+ * 조건부 GET은 응답에 ETag를 지정하고, If-None-Match가 같으면 WebFlux가 본문을 구독하지 않고 304로 응답합니다.
+ * 일괄 등록(/import)과 캐시 통계(/cache-stats)는 블로킹 프로파일에서만 제공합니다.
+ */
+@RestController
+@Profile("r2dbc")
+@RequestMapping("/products")
+public class ReactiveProductController {
+    private final ReactiveProductService productService;
+
+    public ReactiveProductController(ReactiveProductService productService) {
+        this.productService = productService;
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<Product>>> getAllProducts() {
+        return productService.getCatalogVersionStamp()
+                .map(stamp -> ResponseEntity.ok().eTag(stamp.toETag()).body(productService.getAllProducts()));
+    }
+
+    @GetMapping(params = "ids")
+    public Flux<Product> getProductsByIds(@RequestParam List<Long> ids) {
+        return productService.getProductsByIds(ids);
+    }
+
+    // 캐시 없이 DB에서 읽으므로 본문의 버전을 그대로 ETag로 사용
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Product>> getProductById(@PathVariable Long id) {
+        return productService.getProductById(id)
+                .map(product -> ResponseEntity.ok().eTag(eTag(product.getVersion())).body(product));
+    }
+
+    @PostMapping
+    public Mono<Product> createProduct(@RequestBody Product product) {
+        return productService.createProduct(product);
+    }
+
+    private static String eTag(Long version) {
+        return "\"" + version + "\"";
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.junhkang.springboottesting.controller;
+
+import io.github.junhkang.springboottesting.domain.User;
+import io.github.junhkang.springboottesting.service.ReactiveUserService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * r2dbc 프로파일의 사용자 API ({@link UserController}와 같은 경로)
+ */
+@RestController
+@Profile("r2dbc")
+@RequestMapping("/users")
+public class ReactiveUserController {
+    private final ReactiveUserService userService;
+
+    public ReactiveUserController(ReactiveUserService userService) {
+        this.userService = userService;
+    }
+
+    @GetMapping
+    public Flux<User> getAllUsers() {
+        return userService.getAllUsers();
+    }
+
+    @GetMapping(params = "ids")
+    public Flux<User> getUsersByIds(@RequestParam List<Long> ids) {
+        return userService.getUsersByIds(ids);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<User> getUserById(@PathVariable Long id) {
+        return userService.getUserById(id);
+    }
+
+    @PostMapping
+    public Mono<User> createUser(@RequestBody User user) {
+        return userService.createUser(user);
+    }
+}
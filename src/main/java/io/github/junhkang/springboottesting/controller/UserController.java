@@ -2,12 +2,14 @@ package io.github.junhkang.springboottesting.controller;
 
 import io.github.junhkang.springboottesting.domain.User;
 import io.github.junhkang.springboottesting.service.UserService;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
 @RestController
+@Profile("!r2dbc")
 @RequestMapping("/users")
 public class UserController {
     private final UserService userService;
@@ -21,6 +23,12 @@ public class UserController {
         return userService.getAllUsers();
     }
 
+    // GET /users?ids=1,2,3 : 여러 사용자를 한 번의 요청으로 조회
+    @GetMapping(params = "ids")
+    public List<User> getUsersByIds(@RequestParam List<Long> ids) {
+        return userService.getUsersByIds(ids);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<User> getUserById(@PathVariable Long id) {
         User user = userService.getUserById(id);
@@ -0,0 +1,47 @@
+package io.github.junhkang.springboottesting.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 테이블(orders_archive)로 옮겨진 주문 (order.archive.enabled=true일 때 사용)
+ *
+ * 완료·취소된 지 오래된 주문을 orders에서 옮겨 두는 테이블로, 주문 ID와 버전을 그대로 유지합니다.
+ * 행은 OrderArchive가 JDBC로 옮기고 조회하며, 이 엔티티는 스키마 정의를 위해 사용합니다.
+ */
+@Entity
+@Table(name = "orders_archive", indexes = {
+        // 사용자별 조회, 날짜 범위 조회용 (orders와 같은 구성)
+        @Index(name = "idx_orders_archive_user_id_order_date", columnList = "user_id, order_date"),
+        @Index(name = "idx_orders_archive_order_date", columnList = "order_date")
+})
+@Data
+public class ArchivedOrder {
+    // orders의 ID를 그대로 사용
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDateTime orderDate;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    private Integer quantity;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    // 센트 단위 BIGINT로 저장 (MoneyConverter)
+    private Money totalAmount;
+
+    private Long version;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
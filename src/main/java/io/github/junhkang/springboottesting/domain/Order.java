@@ -5,20 +5,30 @@ import lombok.Data;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // 사용자별 주문 조회(user_id 조건 + order_date 정렬), 날짜 범위 조회, 상태별 조회용 인덱스
+        // 운영 DB에는 src/main/resources/db/migration의 DDL 스크립트로 동일하게 적용
+        @Index(name = "idx_orders_user_id_order_date", columnList = "user_id, order_date"),
+        @Index(name = "idx_orders_order_date", columnList = "order_date"),
+        @Index(name = "idx_orders_status", columnList = "status")
+})
 @Data
 public class Order {
+    // 시퀀스 기반 ID: IDENTITY와 달리 INSERT 전에 ID를 할당할 수 있어 JDBC 배치 INSERT가 가능
+    // MyBatis INSERT와 data.sql은 컬럼 기본값으로 같은 시퀀스를 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
+    @Column(columnDefinition = "bigint default next value for orders_seq")
     private Long id;
 
     private LocalDateTime orderDate;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id")
     private Product product;
 
@@ -27,5 +37,9 @@ public class Order {
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
 
-    private Double totalAmount;
+    // 센트 단위 BIGINT로 저장 (MoneyConverter)
+    private Money totalAmount;
+
+    @Version
+    private Long version;
 }
\ No newline at end of file
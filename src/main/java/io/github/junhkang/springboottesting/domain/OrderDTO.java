@@ -14,9 +14,10 @@ public class OrderDTO {
     private Long productId;
     private String productName;
     private String productDescription;
-    private Double productPrice;
+    private Money productPrice;
     private Integer productStock;
     private Integer quantity;
     private String status;
-    private Double totalAmount;
+    private Money totalAmount;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 주문 생성 요청의 한 줄 (사용자, 상품, 수량)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLine {
+    private Long userId;
+    private Long productId;
+    private Integer quantity;
+}
@@ -0,0 +1,20 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 주문 ID 기반 키셋(커서) 페이지네이션 결과
+ *
+ * nextCursor는 다음 페이지 요청 시 cursor로 전달할 마지막 주문 ID이며, 마지막 페이지이면 null입니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPage {
+    private List<Order> content;
+    private Long nextCursor;
+}
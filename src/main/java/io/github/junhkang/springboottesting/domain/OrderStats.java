@@ -0,0 +1,22 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 기간 내 주문의 상태별, 상품별, 사용자별, 일별 집계
+ *
+ * 각 집계는 데이터베이스에서 GROUP BY로 계산되며, 모든 상태의 주문을 포함합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStats {
+    private List<OrderStatsRow> byStatus;
+    private List<OrderStatsRow> byProduct;
+    private List<OrderStatsRow> byUser;
+    private List<OrderStatsRow> byDay;
+}
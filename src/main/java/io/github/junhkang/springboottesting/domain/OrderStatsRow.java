@@ -0,0 +1,25 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 집계 결과의 한 행
+ *
+ * groupKey는 집계 기준 값으로, 상태 이름, 상품 ID, 사용자 ID 또는 날짜(yyyy-MM-dd)입니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatsRow {
+    private String groupKey;
+    private Long orderCount;
+    private Long totalQuantity;
+    private Money totalRevenue;
+
+    // JPQL 생성자 표현식용: 매출 합계를 센트 단위 long으로 받음
+    public OrderStatsRow(String groupKey, Long orderCount, Long totalQuantity, Long totalRevenueCents) {
+        this(groupKey, orderCount, totalQuantity, Money.ofCents(totalRevenueCents));
+    }
+}
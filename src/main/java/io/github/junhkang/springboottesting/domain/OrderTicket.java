@@ -0,0 +1,23 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 주문 접수 티켓
+ *
+ * 처리가 끝나면 COMPLETED와 생성된 주문 ID, 또는 FAILED와 실패 사유가 채워집니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderTicket {
+    private String id;
+    private TicketStatus status;
+    private Long orderId;
+    private String error;
+    private LocalDateTime createdAt;
+}
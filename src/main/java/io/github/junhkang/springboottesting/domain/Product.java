@@ -1,18 +1,28 @@
 package io.github.junhkang.springboottesting.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.Data;
 
 @Entity
 @Table(name = "product")
 @Data
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Product {
+    // 시퀀스 기반 ID: 상품 일괄 등록 시 JDBC 배치 INSERT가 가능하도록 IDENTITY 대신 사용
+    // MyBatis INSERT와 data.sql은 컬럼 기본값으로 같은 시퀀스를 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
+    @Column(columnDefinition = "bigint default next value for product_seq")
     private Long id;
 
     private String name;
     private String description;
-    private Double price;
+    // 센트 단위 BIGINT로 저장 (MoneyConverter)
+    private Money price;
     private Integer stock;
+
+    @Version
+    private Long version;
 }
\ No newline at end of file
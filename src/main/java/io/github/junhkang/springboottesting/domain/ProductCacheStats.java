@@ -0,0 +1,21 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 캐시 통계
+ *
+ * evictionCount는 크기·TTL 제한으로 제거된 항목 수이며, 재고 변경에 따른 무효화는 invalidationCount로 집계합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductCacheStats {
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long invalidationCount;
+    private long size;
+}
@@ -7,6 +7,7 @@ public class ProductDTO {
     private Long id;
     private String name;
     private String description;
-    private Double price;
+    private Money price;
     private Integer stock;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 일괄 등록에서 실패한 행 번호(헤더를 제외하고 1부터 시작)와 사유
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportError {
+    private long row;
+    private String message;
+}
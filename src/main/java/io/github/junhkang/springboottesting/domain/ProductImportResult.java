@@ -0,0 +1,21 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 상품 일괄 등록 결과
+ *
+ * errors에는 실패한 행이 최대 product.import.max-errors건까지 담기며, failedCount는 전체 실패 건수입니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportResult {
+    private int importedCount;
+    private int failedCount;
+    private List<ProductImportError> errors;
+}
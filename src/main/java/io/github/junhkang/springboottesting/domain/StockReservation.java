@@ -0,0 +1,40 @@
+package io.github.junhkang.springboottesting.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 예약 원장의 한 행 (stock.ledger.enabled=true일 때 사용)
+ *
+ * 주문 흐름은 product.stock을 직접 갱신하지 않고 재고 변화량(delta)만 추가하며,
+ * 주기적인 정산 작업이 applied=false인 행을 product.stock에 반영합니다.
+ * 행은 StockLedger가 JDBC로 기록하며, 이 엔티티는 스키마 정의를 위해 사용합니다.
+ */
+@Entity
+@Table(name = "stock_reservation", indexes = {
+        // 정산 대상(미반영 행) 조회용
+        @Index(name = "idx_stock_reservation_applied", columnList = "applied, id")
+})
+@Data
+public class StockReservation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    private Long orderId;
+
+    // 예약(주문 생성, 수량 증가)은 음수, 반환(취소, 수량 감소)은 양수
+    @Column(nullable = false)
+    private Integer delta;
+
+    @Column(nullable = false)
+    private boolean applied;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
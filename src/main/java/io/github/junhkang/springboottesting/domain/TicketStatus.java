@@ -0,0 +1,10 @@
+package io.github.junhkang.springboottesting.domain;
+
+/**
+ * 비동기 주문 접수 티켓의 처리 상태
+ */
+public enum TicketStatus {
+    QUEUED,
+    COMPLETED,
+    FAILED
+}
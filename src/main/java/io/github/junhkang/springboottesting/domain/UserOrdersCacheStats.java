@@ -0,0 +1,25 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 주문 목록 캐시 통계
+ *
+ * bypassCount는 쓰기 트랜잭션 안에서 호출되어 캐시를 거치지 않고 조회한 횟수이며,
+ * knownUserCount는 존재 확인을 마친 사용자 ID 수, indexedProductCount는 상품 무효화용 색인에 남은 상품 수입니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserOrdersCacheStats {
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long invalidationCount;
+    private long bypassCount;
+    private long size;
+    private long knownUserCount;
+    private long indexedProductCount;
+}
@@ -0,0 +1,27 @@
+package io.github.junhkang.springboottesting.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 목록 응답의 변경 여부를 판단하기 위한 집계 값 (조건부 GET의 ETag)
+ *
+ * 행이 추가·삭제되면 rowCount나 idSum이, 행이 수정되면(@Version 증가) versionSum이 바뀌므로,
+ * 목록을 조회하지 않고 집계 쿼리 한 번으로 응답이 바뀌었는지 알 수 있습니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VersionStamp {
+    private Long rowCount;
+    private Long idSum;
+    private Long versionSum;
+
+    /**
+     * 약한 ETag 값 (응답 바이트가 아니라 내용이 같음을 의미)
+     */
+    public String toETag() {
+        return "W/\"" + rowCount + "-" + idSum + "-" + versionSum + "\"";
+    }
+}
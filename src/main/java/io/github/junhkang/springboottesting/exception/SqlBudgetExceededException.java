@@ -0,0 +1,13 @@
+package io.github.junhkang.springboottesting.exception;
+
+/**
+ * 요청 하나가 {@link io.github.junhkang.springboottesting.config.SqlStatementBudget}로 선언한 SQL 문장 수를 넘은 경우
+ * (sql.budget.enforce=true일 때만 발생)
+ */
+public class SqlBudgetExceededException extends IllegalStateException {
+
+    public SqlBudgetExceededException(String handler, int budget, int statements) {
+        super("SQL statement budget exceeded in " + handler + ": " + statements + " > " + budget);
+    }
+
+}
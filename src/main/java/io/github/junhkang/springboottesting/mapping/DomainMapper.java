@@ -0,0 +1,52 @@
+package io.github.junhkang.springboottesting.mapping;
+
+import io.github.junhkang.springboottesting.domain.*;
+import org.mapstruct.*;
+
+import java.util.List;
+
+/**
+ * MyBatis DTO와 도메인 객체 간 변환 매퍼
+ *
+ * MapStruct가 컴파일 시점에 리플렉션 없이 필드를 하나씩 복사하는 구현 클래스를 생성합니다.
+ * 주문 목록 변환 시에는 {@link OrderMappingContext}로 같은 ID의 User/Product 인스턴스를 한 번만 만들어 공유합니다.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface DomainMapper {
+
+    User toUser(UserDTO dto);
+
+    List<User> toUsers(List<UserDTO> dtos);
+
+    UserDTO toUserDTO(User user);
+
+    Product toProduct(ProductDTO dto);
+
+    List<Product> toProducts(List<ProductDTO> dtos);
+
+    ProductDTO toProductDTO(Product product);
+
+    @Mapping(target = "user", ignore = true)
+    @Mapping(target = "product", ignore = true)
+    Order toOrder(OrderDTO dto, @Context OrderMappingContext context);
+
+    List<Order> toOrders(List<OrderDTO> dtos, @Context OrderMappingContext context);
+
+    @Mapping(target = "id", source = "userId")
+    @Mapping(target = "email", source = "userEmail")
+    User toOrderUser(OrderDTO dto);
+
+    @Mapping(target = "id", source = "productId")
+    @Mapping(target = "name", source = "productName")
+    @Mapping(target = "description", source = "productDescription")
+    @Mapping(target = "price", source = "productPrice")
+    @Mapping(target = "stock", source = "productStock")
+    @Mapping(target = "version", ignore = true)
+    Product toOrderProduct(OrderDTO dto);
+
+    @AfterMapping
+    default void linkUserAndProduct(OrderDTO dto, @MappingTarget Order order, @Context OrderMappingContext context) {
+        order.setUser(context.user(dto.getUserId(), () -> toOrderUser(dto)));
+        order.setProduct(context.product(dto.getProductId(), () -> toOrderProduct(dto)));
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.junhkang.springboottesting.mapping;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.User;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 하나의 결과 집합을 변환하는 동안 ID별 User/Product 인스턴스를 재사용하기 위한 컨텍스트
+ *
+ * 목록 변환마다 새로 생성하여 사용하며, 단건 변환이나 스트리밍처럼 공유가 필요 없는 경우에는 {@link #NONE}을 사용합니다.
+ */
+public class OrderMappingContext {
+
+    public static final OrderMappingContext NONE = new OrderMappingContext(false);
+
+    private final Map<Long, User> users;
+    private final Map<Long, Product> products;
+
+    public OrderMappingContext() {
+        this(true);
+    }
+
+    private OrderMappingContext(boolean shared) {
+        this.users = shared ? new HashMap<>() : null;
+        this.products = shared ? new HashMap<>() : null;
+    }
+
+    public User user(Long id, Supplier<User> factory) {
+        return users == null || id == null ? factory.get() : users.computeIfAbsent(id, key -> factory.get());
+    }
+
+    public Product product(Long id, Supplier<Product> factory) {
+        return products == null || id == null ? factory.get() : products.computeIfAbsent(id, key -> factory.get());
+    }
+
+    /**
+     * 이미 생성된 주문 그래프의 User/Product를 ID별로 처음 나온 인스턴스로 교체
+     *
+     * MyBatis의 중첩 resultMap은 association 객체를 부모 행 단위로만 재사용하므로, 주문 간 공유는 여기서 맞춥니다.
+     */
+    public List<Order> share(List<Order> orders) {
+        for (Order order : orders) {
+            User user = order.getUser();
+            Product product = order.getProduct();
+            order.setUser(user(user.getId(), () -> user));
+            order.setProduct(product(product.getId(), () -> product));
+        }
+        return orders;
+    }
+}
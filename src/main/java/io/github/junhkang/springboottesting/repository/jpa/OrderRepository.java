@@ -1,13 +1,72 @@
 package io.github.junhkang.springboottesting.repository.jpa;
 
 import io.github.junhkang.springboottesting.domain.Order;
-import io.github.junhkang.springboottesting.domain.User;
+import io.github.junhkang.springboottesting.domain.OrderStatsRow;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * Order의 user/product 연관관계는 LAZY이므로, 주문을 반환하는 조회 메서드는
+ * 엔티티 그래프(JOIN FETCH)로 연관 엔티티를 한 번의 SQL로 함께 로드합니다.
+ */
 public interface OrderRepository extends JpaRepository<Order, Long> {
-    List<Order> findByUser(User user);
-    List<Order> findByOrderDateBetween(LocalDateTime startDate, LocalDateTime endDate);
-}
\ No newline at end of file
+
+    @Override
+    @EntityGraph(attributePaths = {"user", "product"})
+    List<Order> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = {"user", "product"})
+    Optional<Order> findById(Long id);
+
+    @EntityGraph(attributePaths = {"user", "product"})
+    List<Order> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @EntityGraph(attributePaths = {"user", "product"})
+    List<Order> findByUserIdOrderByOrderDateAsc(Long userId);
+
+    @EntityGraph(attributePaths = {"user", "product"})
+    List<Order> findByOrderDateBetweenOrderByOrderDateAsc(LocalDateTime startDate, LocalDateTime endDate);
+
+    // 조건부 GET용: 주문 그래프를 로드하지 않고, 주문과 주문이 참조하는 상품의 버전만 집계
+    @Query("SELECT new io.github.junhkang.springboottesting.domain.VersionStamp(COUNT(o), COALESCE(SUM(o.id), 0L), "
+            + "COALESCE(SUM(o.version), 0L) + COALESCE(SUM(p.version), 0L)) "
+            + "FROM Order o JOIN o.product p WHERE o.user.id = :userId")
+    VersionStamp findVersionStampByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT o FROM Order o JOIN FETCH o.user JOIN FETCH o.product ORDER BY o.id")
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    Stream<Order> streamAll();
+
+    // 집계 쿼리: 주문 행을 가져오지 않고 데이터베이스에서 GROUP BY로 계산
+    @Query("SELECT new io.github.junhkang.springboottesting.domain.OrderStatsRow(CAST(o.status AS String), COUNT(o), SUM(o.quantity), SUM(CAST(o.totalAmount AS Long))) "
+            + "FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate "
+            + "GROUP BY o.status ORDER BY o.status")
+    List<OrderStatsRow> aggregateByStatus(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT new io.github.junhkang.springboottesting.domain.OrderStatsRow(CAST(o.product.id AS String), COUNT(o), SUM(o.quantity), SUM(CAST(o.totalAmount AS Long))) "
+            + "FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate "
+            + "GROUP BY o.product.id ORDER BY o.product.id")
+    List<OrderStatsRow> aggregateByProduct(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT new io.github.junhkang.springboottesting.domain.OrderStatsRow(CAST(o.user.id AS String), COUNT(o), SUM(o.quantity), SUM(CAST(o.totalAmount AS Long))) "
+            + "FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate "
+            + "GROUP BY o.user.id ORDER BY o.user.id")
+    List<OrderStatsRow> aggregateByUser(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT new io.github.junhkang.springboottesting.domain.OrderStatsRow(CAST(CAST(o.orderDate AS LocalDate) AS String), COUNT(o), SUM(o.quantity), SUM(CAST(o.totalAmount AS Long))) "
+            + "FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate "
+            + "GROUP BY CAST(o.orderDate AS LocalDate) ORDER BY CAST(o.orderDate AS LocalDate)")
+    List<OrderStatsRow> aggregateByDay(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+}
@@ -0,0 +1,41 @@
+package io.github.junhkang.springboottesting.repository.mybatis;
+
+import io.github.junhkang.springboottesting.domain.Money;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedTypes;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * {@link Money}를 센트 단위 BIGINT 컬럼과 변환하는 MyBatis 타입 핸들러
+ */
+@MappedTypes(Money.class)
+public class MoneyTypeHandler extends BaseTypeHandler<Money> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, Money parameter, JdbcType jdbcType) throws SQLException {
+        ps.setLong(i, parameter.getCents());
+    }
+
+    @Override
+    public Money getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        long cents = rs.getLong(columnName);
+        return rs.wasNull() ? null : Money.ofCents(cents);
+    }
+
+    @Override
+    public Money getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        long cents = rs.getLong(columnIndex);
+        return rs.wasNull() ? null : Money.ofCents(cents);
+    }
+
+    @Override
+    public Money getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        long cents = cs.getLong(columnIndex);
+        return cs.wasNull() ? null : Money.ofCents(cents);
+    }
+}
@@ -1,20 +1,28 @@
 package io.github.junhkang.springboottesting.repository.mybatis;
 
+import io.github.junhkang.springboottesting.domain.Order;
 import io.github.junhkang.springboottesting.domain.OrderDTO;
+import io.github.junhkang.springboottesting.domain.OrderStatsRow;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface OrderMapper {
-    List<OrderDTO> findAll();
+    List<Order> findAll();
+    List<Order> findPage(@Param("cursor") Long cursor, @Param("limit") int limit);
+    Cursor<Order> streamAll();
     OrderDTO findById(@Param("id") Long id);
-    List<OrderDTO> findByUserId(@Param("userId") Long userId);
-    List<OrderDTO> findByOrderDateBetween(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    List<Order> findByUserId(@Param("userId") Long userId);
+    VersionStamp findVersionStampByUserId(@Param("userId") Long userId);
+    List<Order> findByOrderDateBetween(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    List<OrderStatsRow> aggregate(@Param("groupBy") String groupBy, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
     void insert(OrderDTO order);
-    void update(OrderDTO order);
+    int update(OrderDTO order);
     void delete(@Param("id") Long id);
 }
\ No newline at end of file
@@ -1,15 +1,23 @@
 package io.github.junhkang.springboottesting.repository.mybatis;
 
 import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
 public interface ProductMapper {
     List<ProductDTO> findAll();
     ProductDTO findById(Long id);
+    List<ProductDTO> findByIds(@Param("ids") Collection<Long> ids);
+    Long findVersionById(@Param("id") Long id);
+    VersionStamp findCatalogVersionStamp();
     void insert(ProductDTO product);
-    void update(ProductDTO product);
+    int update(ProductDTO product);
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+    int increaseStock(@Param("id") Long id, @Param("quantity") int quantity);
     void delete(Long id);
 }
\ No newline at end of file
@@ -2,13 +2,16 @@ package io.github.junhkang.springboottesting.repository.mybatis;
 
 import io.github.junhkang.springboottesting.domain.UserDTO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
 public interface UserMapper {
     List<UserDTO> findAll();
     UserDTO findById(Long id);
+    List<UserDTO> findByIds(@Param("ids") Collection<Long> ids);
     void insert(UserDTO user);
     void update(UserDTO user);
     void delete(Long id);
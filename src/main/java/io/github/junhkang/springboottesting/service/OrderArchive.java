@@ -0,0 +1,364 @@
+package io.github.junhkang.springboottesting.service;
+
+import io.github.junhkang.springboottesting.domain.Money;
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderStats;
+import io.github.junhkang.springboottesting.domain.OrderStatsRow;
+import io.github.junhkang.springboottesting.domain.OrderStatus;
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.User;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 주문 보관 계층 (order.archive.enabled=true일 때 보관 작업 실행)
+ *
+ * {@link #archive()}가 주기적으로 order.archive.min-age보다 오래된 완료·취소 주문을 batch-size개씩
+ * orders에서 orders_archive로 옮겨, 운영 테이블과 인덱스를 최근 주문 위주로 작게 유지합니다.
+ * 사용자별·날짜 범위 조회와 그 ETag, 기간 집계는 조회 범위가 보관된 주문의 가장 늦은 주문일(워터마크)에 닿을 때만
+ * 보관 테이블을 함께 조회해 합칩니다. ID 조회는 운영 테이블에 없을 때만 보관 테이블을 조회하고,
+ * 전체 목록, 페이지, 내보내기는 운영 테이블만 대상으로 합니다.
+ *
+ * 워터마크는 DB 값을 order.archive.watermark-ttl 동안 재사용하고, 지나면 다시 읽습니다.
+ * 다른 인스턴스가 옮긴 주문이나 롤백된 보관 작업은 최대 TTL 뒤에 반영됩니다. 실제보다 늦게 잡히는 것은
+ * 불필요한 조회가 한 번 더 생길 뿐이므로, 이 인스턴스에서 옮길 때는 즉시(커밋 전) 올립니다.
+ */
+@Component
+@Profile("!r2dbc")
+public class OrderArchive {
+
+    static final List<String> TERMINAL_STATUSES = List.of(OrderStatus.COMPLETED.name(), OrderStatus.CANCELED.name());
+
+    private static final String ARCHIVE_GRAPH_SELECT = """
+            SELECT a.id, a.order_date, a.quantity, a.status, a.total_amount, a.version,
+                   a.user_id, u.username, u.email AS user_email,
+                   a.product_id, p.name AS product_name, p.description AS product_description,
+                   p.price AS product_price, p.stock AS product_stock, p.version AS product_version
+            FROM orders_archive a
+                     JOIN users u ON a.user_id = u.id
+                     JOIN product p ON a.product_id = p.id
+            """;
+
+    // 보관 대상 조회: 종료 상태 조건은 idx_orders_status로 탐색
+    static final String CANDIDATE_SELECT = """
+            SELECT id, user_id, order_date FROM orders
+            WHERE status IN (:statuses) AND order_date < :cutoff
+            ORDER BY order_date, id
+            LIMIT :limit
+            """;
+
+    private static final Map<String, String> STATS_GROUP_COLUMNS = Map.of(
+            "status", "a.status",
+            "product", "a.product_id",
+            "user", "a.user_id",
+            "day", "CAST(a.order_date AS DATE)");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserOrdersCache userOrdersCache;
+    private final boolean enabled;
+    private final Duration minAge;
+    private final int batchSize;
+    private final long watermarkTtlNanos;
+
+    // null이면 아직 읽지 않음
+    private final AtomicReference<Watermark> watermark = new AtomicReference<>();
+
+    public OrderArchive(NamedParameterJdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                        UserOrdersCache userOrdersCache,
+                        @Value("${order.archive.enabled:false}") boolean enabled,
+                        @Value("${order.archive.min-age:365d}") Duration minAge,
+                        @Value("${order.archive.batch-size:1000}") int batchSize,
+                        @Value("${order.archive.watermark-ttl:PT10S}") Duration watermarkTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.userOrdersCache = userOrdersCache;
+        this.enabled = enabled;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+        this.watermarkTtlNanos = watermarkTtl.toNanos();
+    }
+
+    @Scheduled(initialDelayString = "${order.archive.interval:PT1H}", fixedDelayString = "${order.archive.interval:PT1H}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        refreshWatermark();
+        archiveOlderThan(LocalDateTime.now().minus(minAge));
+    }
+
+    /**
+     * cutoff 이전에 생성된 완료·취소 주문을 모두 보관 테이블로 옮기고, 옮긴 건수를 반환
+     *
+     * batchSize개씩 각각 한 트랜잭션(진행 중인 트랜잭션이 있으면 그 트랜잭션)에서 복사 후 삭제합니다.
+     */
+    public int archiveOlderThan(LocalDateTime cutoff) {
+        int total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> moveBatch(cutoff));
+            total += moved;
+        } while (moved == batchSize);
+        return total;
+    }
+
+    /**
+     * 보관된 주문 중 가장 늦은 주문일 (보관된 주문이 없으면 null)
+     */
+    public LocalDateTime getWatermark() {
+        Watermark current = watermark.get();
+        if (current == null || System.nanoTime() - current.loadedAt() >= watermarkTtlNanos) {
+            current = refreshWatermark();
+        }
+        return current.orderDate();
+    }
+
+    /**
+     * 운영 테이블에 없는 주문을 보관 테이블에서 ID로 조회
+     *
+     * 운영 테이블 조회가 실패했을 때만 호출되므로, 워터마크가 늦게 잡혀 있어도 놓치지 않도록 항상 조회합니다.
+     */
+    public Optional<Order> findById(Long id) {
+        return jdbcTemplate.query(ARCHIVE_GRAPH_SELECT + " WHERE a.id = :id", Map.of("id", id), OrderArchive::toOrder)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * startDate부터의 조회 범위에 보관된 주문이 있을 수 있는지
+     */
+    public boolean overlaps(LocalDateTime startDate) {
+        LocalDateTime current = getWatermark();
+        return current != null && !startDate.isAfter(current);
+    }
+
+    /**
+     * 운영 테이블의 사용자별 주문(주문일 순)에 보관된 주문을 합침
+     */
+    public List<Order> mergeByUserId(Long userId, List<Order> orders) {
+        if (getWatermark() == null) {
+            return orders;
+        }
+        List<Order> archived = jdbcTemplate.query(ARCHIVE_GRAPH_SELECT + " WHERE a.user_id = :userId ORDER BY a.order_date",
+                Map.of("userId", userId), OrderArchive::toOrder);
+        return merge(archived, orders);
+    }
+
+    /**
+     * 운영 테이블의 날짜 범위 주문(주문일 순)에, 범위가 워터마크에 닿으면 보관된 주문을 합침
+     */
+    public List<Order> mergeByOrderDate(LocalDateTime startDate, LocalDateTime endDate, List<Order> orders) {
+        if (!overlaps(startDate)) {
+            return orders;
+        }
+        List<Order> archived = jdbcTemplate.query(
+                ARCHIVE_GRAPH_SELECT + " WHERE a.order_date BETWEEN :startDate AND :endDate ORDER BY a.order_date",
+                dateRange(startDate, endDate), OrderArchive::toOrder);
+        return merge(archived, orders);
+    }
+
+    /**
+     * 사용자별 주문 목록의 ETag에 보관된 주문의 집계 값을 더함
+     */
+    public VersionStamp mergeVersionStamp(Long userId, VersionStamp stamp) {
+        if (getWatermark() == null) {
+            return stamp;
+        }
+        VersionStamp archived = jdbcTemplate.queryForObject("""
+                        SELECT COUNT(*) AS row_count, COALESCE(SUM(a.id), 0) AS id_sum,
+                               COALESCE(SUM(a.version), 0) + COALESCE(SUM(p.version), 0) AS version_sum
+                        FROM orders_archive a
+                                 JOIN product p ON p.id = a.product_id
+                        WHERE a.user_id = :userId
+                        """,
+                Map.of("userId", userId),
+                (rs, rowNum) -> new VersionStamp(rs.getLong("row_count"), rs.getLong("id_sum"), rs.getLong("version_sum")));
+        if (stamp == null) {
+            return archived;
+        }
+        return new VersionStamp(stamp.getRowCount() + archived.getRowCount(),
+                stamp.getIdSum() + archived.getIdSum(),
+                stamp.getVersionSum() + archived.getVersionSum());
+    }
+
+    /**
+     * 운영 테이블의 기간 집계에, 기간이 워터마크에 닿으면 보관된 주문의 집계를 더함
+     */
+    public OrderStats mergeStats(LocalDateTime startDate, LocalDateTime endDate, OrderStats stats) {
+        if (!overlaps(startDate)) {
+            return stats;
+        }
+        return new OrderStats(
+                mergeStatsRows(stats.getByStatus(), aggregate("status", startDate, endDate), false),
+                mergeStatsRows(stats.getByProduct(), aggregate("product", startDate, endDate), true),
+                mergeStatsRows(stats.getByUser(), aggregate("user", startDate, endDate), true),
+                mergeStatsRows(stats.getByDay(), aggregate("day", startDate, endDate), false));
+    }
+
+    private int moveBatch(LocalDateTime cutoff) {
+        // 주문일 순으로 가장 오래된 주문부터 옮김
+        List<Object[]> rows = jdbcTemplate.query(CANDIDATE_SELECT,
+                new MapSqlParameterSource()
+                        .addValue("statuses", TERMINAL_STATUSES)
+                        .addValue("cutoff", Timestamp.valueOf(cutoff))
+                        .addValue("limit", batchSize),
+                (rs, rowNum) -> new Object[]{rs.getLong("id"), rs.getLong("user_id"), rs.getTimestamp("order_date").toLocalDateTime()});
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        Set<Long> userIds = new HashSet<>();
+        LocalDateTime latest = null;
+        for (Object[] row : rows) {
+            ids.add((Long) row[0]);
+            userIds.add((Long) row[1]);
+            LocalDateTime orderDate = (LocalDateTime) row[2];
+            if (latest == null || orderDate.isAfter(latest)) {
+                latest = orderDate;
+            }
+        }
+
+        // 복사와 삭제 모두 종료 상태 조건을 다시 확인하여, 조회 이후 바뀐 주문은 옮기지 않음
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("statuses", TERMINAL_STATUSES)
+                .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+        jdbcTemplate.update("""
+                INSERT INTO orders_archive (id, order_date, user_id, product_id, quantity, status, total_amount, version, archived_at)
+                SELECT id, order_date, user_id, product_id, quantity, status, total_amount, version, :archivedAt
+                FROM orders WHERE id IN (:ids) AND status IN (:statuses)
+                """, params);
+        int moved = jdbcTemplate.update("""
+                DELETE FROM orders WHERE id IN (:ids) AND status IN (:statuses)
+                  AND id IN (SELECT id FROM orders_archive WHERE id IN (:ids))
+                """, params);
+        if (moved == 0) {
+            return 0;
+        }
+
+        raiseWatermark(latest);
+        // 합친 목록의 내용은 그대로지만, 옮기는 도중에 읽어 캐시된 목록이 남지 않도록 커밋 후 무효화
+        userIds.forEach(userOrdersCache::evictUser);
+        // 옮기지 못한 주문이 있으면 batchSize보다 작아지므로, 같은 주문을 다시 고르며 반복하지 않음
+        return moved;
+    }
+
+    // 아직 읽지 않았으면 DB 값을 읽은 것과 같으므로, 올린 값도 TTL 동안 재사용
+    private void raiseWatermark(LocalDateTime orderDate) {
+        watermark.updateAndGet(current -> {
+            if (current == null) {
+                return new Watermark(orderDate, System.nanoTime());
+            }
+            if (current.orderDate() == null || orderDate.isAfter(current.orderDate())) {
+                return new Watermark(orderDate, current.loadedAt());
+            }
+            return current;
+        });
+    }
+
+    // 락 없이 DB에서 읽고 교체하므로, 동시에 만료되면 여러 스레드가 한 번씩 읽을 수 있음
+    private Watermark refreshWatermark() {
+        Timestamp max = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT MAX(order_date) FROM orders_archive", Timestamp.class);
+        Watermark loaded = new Watermark(max == null ? null : max.toLocalDateTime(), System.nanoTime());
+        watermark.set(loaded);
+        return loaded;
+    }
+
+    private List<OrderStatsRow> aggregate(String groupBy, LocalDateTime startDate, LocalDateTime endDate) {
+        String column = STATS_GROUP_COLUMNS.get(groupBy);
+        return jdbcTemplate.query("SELECT CAST(" + column + " AS VARCHAR) AS group_key, COUNT(*) AS order_count, "
+                        + "SUM(a.quantity) AS total_quantity, SUM(a.total_amount) AS total_revenue "
+                        + "FROM orders_archive a WHERE a.order_date BETWEEN :startDate AND :endDate "
+                        + "GROUP BY " + column,
+                dateRange(startDate, endDate),
+                (rs, rowNum) -> new OrderStatsRow(rs.getString("group_key"), rs.getLong("order_count"),
+                        rs.getLong("total_quantity"), rs.getLong("total_revenue")));
+    }
+
+    // 같은 groupKey의 건수·수량·매출을 더하고, 운영 테이블 집계와 같은 순서(ID는 숫자 순)로 정렬
+    private List<OrderStatsRow> mergeStatsRows(List<OrderStatsRow> rows, List<OrderStatsRow> archived, boolean numericKey) {
+        if (archived.isEmpty()) {
+            return rows;
+        }
+        Map<String, OrderStatsRow> merged = new HashMap<>();
+        for (OrderStatsRow row : rows) {
+            merged.put(row.getGroupKey(), row);
+        }
+        for (OrderStatsRow row : archived) {
+            merged.merge(row.getGroupKey(), row, (a, b) -> new OrderStatsRow(a.getGroupKey(),
+                    a.getOrderCount() + b.getOrderCount(),
+                    a.getTotalQuantity() + b.getTotalQuantity(),
+                    a.getTotalRevenue().plus(b.getTotalRevenue())));
+        }
+        List<OrderStatsRow> result = new ArrayList<>(merged.values());
+        result.sort(numericKey
+                ? Comparator.comparing((OrderStatsRow row) -> Long.valueOf(row.getGroupKey()))
+                : Comparator.comparing(OrderStatsRow::getGroupKey));
+        return result;
+    }
+
+    // 주문일(같으면 ID) 순으로 합침
+    // 보관 작업이 커밋되는 사이에 두 테이블을 읽으면 같은 주문이 양쪽에 보일 수 있으므로 ID로 한 번만 남김
+    private List<Order> merge(List<Order> archived, List<Order> orders) {
+        if (archived.isEmpty()) {
+            return orders;
+        }
+        Map<Long, Order> byId = new LinkedHashMap<>();
+        archived.forEach(order -> byId.put(order.getId(), order));
+        orders.forEach(order -> byId.put(order.getId(), order));
+        List<Order> merged = new ArrayList<>(byId.values());
+        merged.sort(Comparator.comparing(Order::getOrderDate).thenComparing(Order::getId));
+        return merged;
+    }
+
+    private MapSqlParameterSource dateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        return new MapSqlParameterSource()
+                .addValue("startDate", Timestamp.valueOf(startDate))
+                .addValue("endDate", Timestamp.valueOf(endDate));
+    }
+
+    private record Watermark(LocalDateTime orderDate, long loadedAt) {
+    }
+
+    private static Order toOrder(ResultSet rs, int rowNum) throws SQLException {
+        User user = new User();
+        user.setId(rs.getLong("user_id"));
+        user.setUsername(rs.getString("username"));
+        user.setEmail(rs.getString("user_email"));
+
+        Product product = new Product();
+        product.setId(rs.getLong("product_id"));
+        product.setName(rs.getString("product_name"));
+        product.setDescription(rs.getString("product_description"));
+        product.setPrice(Money.ofCents(rs.getLong("product_price")));
+        product.setStock(rs.getInt("product_stock"));
+        product.setVersion(rs.getLong("product_version"));
+
+        Order order = new Order();
+        order.setId(rs.getLong("id"));
+        order.setOrderDate(rs.getTimestamp("order_date").toLocalDateTime());
+        order.setUser(user);
+        order.setProduct(product);
+        order.setQuantity(rs.getInt("quantity"));
+        order.setStatus(OrderStatus.valueOf(rs.getString("status")));
+        order.setTotalAmount(Money.ofCents(rs.getLong("total_amount")));
+        order.setVersion(rs.getLong("version"));
+        return order;
+    }
+}
@@ -0,0 +1,236 @@
+package io.github.junhkang.springboottesting.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.OrderTicket;
+import io.github.junhkang.springboottesting.domain.TicketStatus;
+import io.github.junhkang.springboottesting.exception.QueueFullException;
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 비동기 주문 접수 큐
+ *
+ * 요청은 상품 ID로 나뉜 제한 크기 큐에 들어가고, 큐마다 하나의 워커가 꺼내어 처리합니다.
+ * 같은 상품의 요청은 항상 같은 워커가 처리하므로, 한 번에 꺼낸 요청을 상품별로 묶어
+ * {@link OrderService#createOrders}로 재고 갱신 한 번과 트랜잭션 하나에 처리합니다.
+ * 큐가 가득 차면 {@link QueueFullException}을 던져 호출자가 잠시 후 다시 시도하게 합니다.
+ * 대기 중인 티켓은 큐 용량만큼만 존재하므로 따로 보관하고, 처리가 끝난 티켓은 TTL(order.async.ticket-ttl)과
+ * 최대 개수(order.async.ticket-maximum-size)로 제한된 캐시에 보관하여 요청량이 많아도 메모리가 일정 수준을 넘지 않습니다.
+ * 묶음 처리 중 예상하지 못한 오류가 나면 그 묶음의 남은 티켓을 실패로 기록하고 워커는 다음 묶음을 계속 처리합니다.
+ */
+@Slf4j
+@Component
+@Profile("!r2dbc")
+public class OrderPlacementQueue {
+
+    private final OrderService orderService;
+    private final List<BlockingQueue<PendingOrder>> queues;
+    private final int batchSize;
+    // 큐에 있거나 처리 중인 티켓 (큐 용량과 처리 중인 묶음 크기로 제한됨)
+    private final Map<String, OrderTicket> pendingTickets = new ConcurrentHashMap<>();
+    // 처리가 끝난 티켓
+    private final Cache<String, OrderTicket> tickets;
+    private ExecutorService workers;
+
+    public OrderPlacementQueue(OrderService orderService,
+                               @Value("${order.async.workers:4}") int workerCount,
+                               @Value("${order.async.queue-capacity:10000}") int queueCapacity,
+                               @Value("${order.async.batch-size:100}") int batchSize,
+                               @Value("${order.async.ticket-ttl:10m}") Duration ticketTtl,
+                               @Value("${order.async.ticket-maximum-size:100000}") long ticketMaximumSize) {
+        if (workerCount < 1 || queueCapacity < workerCount || batchSize < 1 || ticketMaximumSize < 1) {
+            throw new IllegalArgumentException("Invalid async order queue settings.");
+        }
+        this.orderService = orderService;
+        this.batchSize = Math.min(batchSize, OrderService.MAX_BATCH_SIZE);
+        this.queues = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            queues.add(new ArrayBlockingQueue<>(queueCapacity / workerCount));
+        }
+        // 처리가 끝난 티켓은 TTL 동안만 조회 가능하며, 최대 개수를 넘으면 제거
+        // 제거는 티켓을 저장한 워커 스레드에서 바로 실행하여, 공용 풀이 밀려도 최대 개수를 넘어 쌓이지 않도록 함
+        this.tickets = Caffeine.newBuilder()
+                .maximumSize(ticketMaximumSize)
+                .executor(Runnable::run)
+                .expireAfterWrite(ticketTtl)
+                .build();
+    }
+
+    @PostConstruct
+    public void start() {
+        workers = Executors.newFixedThreadPool(queues.size(), Thread.ofPlatform().name("order-placement-", 0).factory());
+        for (BlockingQueue<PendingOrder> queue : queues) {
+            workers.execute(() -> runWorker(queue));
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+        // 처리되지 못한 요청은 실패로 기록하여 폴링하는 클라이언트가 무한히 기다리지 않도록 함
+        List<PendingOrder> remaining = new ArrayList<>();
+        queues.forEach(queue -> queue.drainTo(remaining));
+        remaining.forEach(pending -> fail(pending, "Order placement was stopped before processing."));
+    }
+
+    /**
+     * 주문 요청을 큐에 넣고 QUEUED 상태의 티켓을 반환
+     */
+    public OrderTicket submit(Long userId, Long productId, Integer quantity) {
+        if (userId == null || productId == null) {
+            throw new IllegalArgumentException("User id and product id are required.");
+        }
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("Order quantity must be positive.");
+        }
+
+        OrderTicket ticket = new OrderTicket(UUID.randomUUID().toString(), TicketStatus.QUEUED, null, null, LocalDateTime.now());
+        pendingTickets.put(ticket.getId(), ticket);
+
+        PendingOrder pending = new PendingOrder(ticket, new OrderLine(userId, productId, quantity));
+        if (!queues.get(shardOf(productId)).offer(pending)) {
+            pendingTickets.remove(ticket.getId());
+            throw new QueueFullException("Order queue is full. Please retry later.");
+        }
+        return ticket;
+    }
+
+    public OrderTicket getTicket(String id) {
+        // 완료 처리는 결과 티켓을 저장한 뒤 대기 티켓을 지우므로, 대기 티켓부터 확인하면 그 사이에도 놓치지 않음
+        OrderTicket ticket = pendingTickets.get(id);
+        if (ticket == null) {
+            ticket = tickets.getIfPresent(id);
+        }
+        if (ticket == null) {
+            throw new ResourceNotFoundException("Order ticket not found with id " + id);
+        }
+        return ticket;
+    }
+
+    /**
+     * 현재 큐에 쌓인 요청을 호출한 스레드에서 모두 처리 (워커를 띄우지 않는 테스트용)
+     */
+    void drainPending() {
+        for (BlockingQueue<PendingOrder> queue : queues) {
+            List<PendingOrder> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                processOrFail(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void runWorker(BlockingQueue<PendingOrder> queue) {
+        List<PendingOrder> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                processOrFail(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // Error를 포함한 예상하지 못한 오류로 워커 스레드가 끝나면 그 큐의 티켓이 계속 QUEUED로 남으므로,
+    // 묶음에서 아직 끝나지 않은 티켓만 실패로 기록하고 반환
+    private void processOrFail(List<PendingOrder> batch) {
+        try {
+            process(batch);
+        } catch (Throwable e) {
+            log.error("Unexpected failure while placing {} queued orders", batch.size(), e);
+            for (PendingOrder pending : batch) {
+                if (pendingTickets.containsKey(pending.ticket().getId())) {
+                    fail(pending, "Order placement failed unexpectedly.");
+                }
+            }
+        }
+    }
+
+    // 꺼낸 요청을 상품별로 묶어 처리 (도착 순서 유지)
+    private void process(List<PendingOrder> batch) {
+        Map<Long, List<PendingOrder>> byProduct = new LinkedHashMap<>();
+        for (PendingOrder pending : batch) {
+            byProduct.computeIfAbsent(pending.line().getProductId(), key -> new ArrayList<>()).add(pending);
+        }
+        byProduct.values().forEach(this::place);
+    }
+
+    private void place(List<PendingOrder> group) {
+        if (group.size() > 1) {
+            List<Order> orders = null;
+            try {
+                orders = orderService.createOrders(group.stream().map(PendingOrder::line).toList());
+            } catch (RuntimeException e) {
+                // 한 건이라도 실패하면 묶음 전체가 롤백되므로, 아래에서 한 건씩 다시 처리하여 요청별 결과를 확정
+            }
+            if (orders != null) {
+                // 이미 커밋되었으므로 건별로 다시 처리하면 주문이 중복됨: 결과 수가 다르면 묶음 전체를 실패로 기록
+                if (orders.size() != group.size()) {
+                    throw new IllegalStateException("Batch order returned " + orders.size() + " orders for " + group.size() + " requests.");
+                }
+                for (int i = 0; i < group.size(); i++) {
+                    complete(group.get(i), orders.get(i));
+                }
+                return;
+            }
+        }
+        for (PendingOrder pending : group) {
+            OrderLine line = pending.line();
+            try {
+                complete(pending, orderService.createOrder(line.getUserId(), line.getProductId(), line.getQuantity()));
+            } catch (RuntimeException e) {
+                fail(pending, e.getMessage());
+            }
+        }
+    }
+
+    // 티켓은 조회 스레드와 공유되므로 수정하지 않고 새 객체로 교체
+    private void complete(PendingOrder pending, Order order) {
+        OrderTicket ticket = pending.ticket();
+        finish(new OrderTicket(ticket.getId(), TicketStatus.COMPLETED, order.getId(), null, ticket.getCreatedAt()));
+    }
+
+    private void fail(PendingOrder pending, String error) {
+        OrderTicket ticket = pending.ticket();
+        finish(new OrderTicket(ticket.getId(), TicketStatus.FAILED, null, error, ticket.getCreatedAt()));
+    }
+
+    private void finish(OrderTicket ticket) {
+        tickets.put(ticket.getId(), ticket);
+        pendingTickets.remove(ticket.getId());
+    }
+
+    private int shardOf(Long productId) {
+        return Math.floorMod(productId.hashCode(), queues.size());
+    }
+
+    private record PendingOrder(OrderTicket ticket, OrderLine line) {
+    }
+}
@@ -1,18 +1,38 @@
 package io.github.junhkang.springboottesting.service;
 
+import io.github.junhkang.springboottesting.domain.Money;
 import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.OrderPage;
+import io.github.junhkang.springboottesting.domain.OrderStats;
+import io.github.junhkang.springboottesting.domain.UserOrdersCacheStats;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 @Service
 public interface OrderService {
+    int MAX_PAGE_SIZE = 100;
+    int MAX_BATCH_SIZE = 500;
+
     List<Order> getAllOrders();
+    OrderPage getOrders(Long cursor, int size);
+    void exportOrders(Consumer<Order> consumer);
     Order getOrderById(Long id);
     Order createOrder(Long userId, Long productId, Integer quantity);
+    List<Order> createOrders(List<OrderLine> lines);
     Order cancelOrder(Long id);
     Order updateOrderQuantity(Long id, Integer newQuantity);
     List<Order> getOrdersByUserId(Long userId);
+
+    /**
+     * 사용자의 주문 목록 응답이 바뀌었는지 판단하기 위한 집계 값 (주문과 주문이 참조하는 상품의 버전 포함)
+     */
+    VersionStamp getOrdersVersionStampByUserId(Long userId);
     List<Order> getOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate);
-    Double calculateTotalAmount(Long id);
+    Money calculateTotalAmount(Long id);
+    OrderStats getOrderStats(LocalDateTime startDate, LocalDateTime endDate);
+    UserOrdersCacheStats getCacheStats();
 }
\ No newline at end of file
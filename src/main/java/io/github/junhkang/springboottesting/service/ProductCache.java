@@ -0,0 +1,115 @@
+package io.github.junhkang.springboottesting.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductCacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 상품 단건 조회를 위한 크기·TTL 제한 인메모리 캐시
+ *
+ * 재고를 바꾸는 주문 흐름은 {@link #evict(Long)}로 항목을 무효화합니다. 무효화는 즉시 한 번,
+ * 트랜잭션 종료 후 한 번 더 수행되며, 같은 상품의 무효화 이전에 시작된 조회 결과는 캐시에 저장되지 않으므로
+ * 커밋된 주문 이후에 이전 재고가 캐시에서 조회되지 않습니다. 무효화 횟수는 상품별로 세므로,
+ * 다른 상품의 재고 변경은 진행 중인 조회의 저장을 막지 않습니다.
+ * 사용자별 주문 목록도 상품 정보를 담고 있으므로, 같은 상품을 포함한 {@link UserOrdersCache} 항목을 함께 무효화합니다.
+ */
+@Component
+public class ProductCache {
+
+    private final Cache<Long, Product> cache;
+    private final UserOrdersCache userOrdersCache;
+
+    // 상품별 무효화 횟수: 조회 시작 시점의 값과 다르면 그 상품의 조회 결과를 저장하지 않음 (재고가 바뀐 상품 수만큼만 커짐)
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    public ProductCache(@Value("${product.cache.maximum-size:1000}") long maximumSize,
+                        @Value("${product.cache.ttl:10m}") Duration ttl,
+                        UserOrdersCache userOrdersCache) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.userOrdersCache = userOrdersCache;
+    }
+
+    /**
+     * 캐시된 상품을 반환하고, 없으면 loader로 조회하여 캐시에 저장
+     *
+     * 호출자가 반환된 객체를 수정해도 캐시 항목에 영향이 없도록 복사본을 저장하고 반환합니다.
+     */
+    public Product get(Long id, Function<Long, Product> loader) {
+        Product cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return copyOf(cached);
+        }
+
+        long observed = generationOf(id);
+        Product loaded = loader.apply(id);
+        Product entry = copyOf(loaded);
+        // 같은 키의 compute는 직렬화되므로, 조회 중 이 상품이 무효화되었다면 기존 상태를 유지
+        cache.asMap().compute(id, (key, current) -> generationOf(id) == observed ? entry : current);
+        return loaded;
+    }
+
+    /**
+     * 상품 캐시 항목을 무효화
+     *
+     * 트랜잭션 안에서 호출되면 트랜잭션 종료(커밋 또는 롤백) 후에도 다시 무효화하여,
+     * 트랜잭션 도중 다른 요청이 읽어 간 이전 값이 남지 않도록 합니다.
+     */
+    public void evict(Long id) {
+        invalidate(id);
+        userOrdersCache.evictProduct(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(id);
+                }
+            });
+        }
+    }
+
+    public ProductCacheStats stats() {
+        CacheStats stats = cache.stats();
+        return new ProductCacheStats(stats.hitCount(), stats.missCount(), stats.evictionCount(),
+                invalidationCount.sum(), cache.estimatedSize());
+    }
+
+    private void invalidate(Long id) {
+        cache.asMap().compute(id, (key, current) -> {
+            generations.merge(id, 1L, Long::sum);
+            return null;
+        });
+        invalidationCount.increment();
+    }
+
+    private long generationOf(Long id) {
+        return generations.getOrDefault(id, 0L);
+    }
+
+    private Product copyOf(Product source) {
+        Product product = new Product();
+        product.setId(source.getId());
+        product.setName(source.getName());
+        product.setDescription(source.getDescription());
+        product.setPrice(source.getPrice());
+        product.setStock(source.getStock());
+        product.setVersion(source.getVersion());
+        return product;
+    }
+}
@@ -0,0 +1,209 @@
+package io.github.junhkang.springboottesting.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.junhkang.springboottesting.domain.Money;
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductImportError;
+import io.github.junhkang.springboottesting.domain.ProductImportResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 카탈로그 일괄 등록 (POST /products/import)
+ *
+ * 요청 본문을 한 행씩 읽어 검증하고, 검증을 통과한 행을 product.import.batch-size개씩 모아
+ * {@link ProductService#createProducts}로 등록합니다. 본문 전체를 메모리에 올리지 않으며,
+ * 한 묶음의 등록이 실패하면 그 묶음의 행만 실패로 기록하고 다음 행을 계속 처리합니다.
+ *
+ * CSV는 첫 줄에 name, description, price, stock 헤더가 있어야 하며(순서 무관), 따옴표로 감싼 값 안의 쉼표와 ""를 지원합니다.
+ * JSON은 상품 객체의 배열입니다.
+ */
+@Component
+@Profile("!r2dbc")
+public class ProductCatalogImporter {
+
+    private static final List<String> CSV_COLUMNS = List.of("name", "description", "price", "stock");
+
+    private final ProductService productService;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public ProductCatalogImporter(ProductService productService, ObjectMapper objectMapper,
+                                  @Value("${product.import.batch-size:500}") int batchSize,
+                                  @Value("${product.import.max-errors:1000}") int maxErrors) {
+        this.productService = productService;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    public ProductImportResult importCsv(Reader body) throws IOException {
+        BufferedReader reader = body instanceof BufferedReader buffered ? buffered : new BufferedReader(body);
+        String header = reader.readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV header is required.");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> headerFields = parseCsvLine(header);
+        for (int i = 0; i < headerFields.size(); i++) {
+            columns.put(headerFields.get(i).trim().toLowerCase(), i);
+        }
+        if (!columns.containsKey("name")) {
+            throw new IllegalArgumentException("CSV header must contain " + CSV_COLUMNS + ".");
+        }
+
+        ImportBatch batch = new ImportBatch();
+        long row = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            row++;
+            try {
+                List<String> fields = parseCsvLine(line);
+                Product product = new Product();
+                product.setName(field(fields, columns, "name"));
+                product.setDescription(field(fields, columns, "description"));
+                String price = field(fields, columns, "price");
+                product.setPrice(price == null ? null : Money.of(new BigDecimal(price)));
+                String stock = field(fields, columns, "stock");
+                product.setStock(stock == null ? null : Integer.valueOf(stock));
+                batch.add(row, product);
+            } catch (IllegalArgumentException e) {
+                // NumberFormatException 포함
+                batch.fail(row, "Invalid row: " + e.getMessage());
+            }
+        }
+        return batch.finish();
+    }
+
+    public ProductImportResult importJson(InputStream body) throws IOException {
+        ImportBatch batch = new ImportBatch();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON body must be an array of products.");
+            }
+            long row = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                row++;
+                // 한 요소씩 트리로 읽으므로, 형식이 맞지 않는 요소가 있어도 다음 요소를 계속 읽을 수 있음
+                JsonNode node = objectMapper.readTree(parser);
+                try {
+                    batch.add(row, objectMapper.treeToValue(node, Product.class));
+                } catch (IOException | IllegalArgumentException e) {
+                    batch.fail(row, "Invalid row: " + e.getMessage());
+                }
+            }
+        }
+        return batch.finish();
+    }
+
+    private String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field.");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    /**
+     * 검증을 통과한 행을 모아 두었다가 batchSize마다 등록하고, 결과를 집계
+     */
+    private class ImportBatch {
+        private final List<Product> products = new ArrayList<>(batchSize);
+        private final List<Long> rows = new ArrayList<>(batchSize);
+        private final List<ProductImportError> errors = new ArrayList<>();
+        private int importedCount;
+        private int failedCount;
+
+        void add(long row, Product product) {
+            String error = ProductValidator.findError(product);
+            if (error != null) {
+                fail(row, error);
+                return;
+            }
+            // 클라이언트가 보낸 ID와 버전은 무시
+            product.setId(null);
+            product.setVersion(null);
+            products.add(product);
+            rows.add(row);
+            if (products.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void fail(long row, String message) {
+            failedCount++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ProductImportError(row, message));
+            }
+        }
+
+        ProductImportResult finish() {
+            flush();
+            return new ProductImportResult(importedCount, failedCount, errors);
+        }
+
+        private void flush() {
+            if (products.isEmpty()) {
+                return;
+            }
+            try {
+                productService.createProducts(new ArrayList<>(products));
+                importedCount += products.size();
+            } catch (RuntimeException e) {
+                rows.forEach(row -> fail(row, "Batch insert failed: " + e.getMessage()));
+            }
+            products.clear();
+            rows.clear();
+        }
+    }
+}
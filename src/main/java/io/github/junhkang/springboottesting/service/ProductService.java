@@ -2,11 +2,31 @@ package io.github.junhkang.springboottesting.service;
 
 
 import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductCacheStats;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ProductService {
     List<Product> getAllProducts();
     Product getProductById(Long id);
+
+    /**
+     * 여러 ID의 상품을 한 번에 조회 (요청 순서 유지, 존재하지 않는 ID는 결과에서 제외)
+     */
+    List<Product> getProductsByIds(Collection<Long> ids);
     Product createProduct(Product product);
+
+    /**
+     * 상품의 현재 버전 (상품이 없으면 null), 엔티티를 로드하지 않음
+     */
+    Long getProductVersion(Long id);
+
+    /**
+     * 상품 목록 응답이 바뀌었는지 판단하기 위한 집계 값
+     */
+    VersionStamp getCatalogVersionStamp();
+    List<Product> createProducts(List<Product> products);
+    ProductCacheStats getCacheStats();
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package io.github.junhkang.springboottesting.service;
+
+import io.github.junhkang.springboottesting.domain.Product;
+
+/**
+ * 상품 등록 검증 규칙
+ *
+ * 모든 프로파일의 createProduct와 {@link ProductCatalogImporter}가 같은 규칙으로 검증하도록 한 곳에 둡니다.
+ */
+public final class ProductValidator {
+
+    private ProductValidator() {
+    }
+
+    /**
+     * 규칙에 맞지 않으면 첫 번째 오류 메시지를, 맞으면 null을 반환
+     */
+    public static String findError(Product product) {
+        if (product.getName() == null || product.getName().trim().isEmpty()) {
+            return "Product name is required.";
+        }
+        if (product.getPrice() == null || product.getPrice().isNegative()) {
+            return "Product price cannot be negative.";
+        }
+        if (product.getStock() == null || product.getStock() < 0) {
+            return "Product stock cannot be negative.";
+        }
+        return null;
+    }
+
+    /**
+     * 규칙에 맞지 않으면 IllegalArgumentException 발생
+     */
+    public static void validate(Product product) {
+        String error = findError(product);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
+    }
+}
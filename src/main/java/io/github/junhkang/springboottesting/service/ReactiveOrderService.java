@@ -0,0 +1,34 @@
+package io.github.junhkang.springboottesting.service;
+
+import io.github.junhkang.springboottesting.domain.Money;
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.OrderPage;
+import io.github.junhkang.springboottesting.domain.OrderStats;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * r2dbc 프로파일의 주문 서비스 ({@link OrderService}와 같은 동작을 논블로킹으로 제공)
+ *
+ * 페이지 크기와 일괄 주문 건수 제한은 {@link OrderService#MAX_PAGE_SIZE}, {@link OrderService#MAX_BATCH_SIZE}를 따릅니다.
+ */
+public interface ReactiveOrderService {
+    Flux<Order> getAllOrders();
+    Mono<OrderPage> getOrders(Long cursor, int size);
+    Flux<Order> exportOrders();
+    Mono<Order> getOrderById(Long id);
+    Mono<Order> createOrder(Long userId, Long productId, Integer quantity);
+    Flux<Order> createOrders(List<OrderLine> lines);
+    Mono<Order> cancelOrder(Long id);
+    Mono<Order> updateOrderQuantity(Long id, Integer newQuantity);
+    Flux<Order> getOrdersByUserId(Long userId);
+    Mono<VersionStamp> getOrdersVersionStampByUserId(Long userId);
+    Flux<Order> getOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate);
+    Mono<Money> calculateTotalAmount(Long id);
+    Mono<OrderStats> getOrderStats(LocalDateTime startDate, LocalDateTime endDate);
+}
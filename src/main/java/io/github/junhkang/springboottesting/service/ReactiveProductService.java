@@ -0,0 +1,19 @@
+package io.github.junhkang.springboottesting.service;
+
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * r2dbc 프로파일의 상품 서비스 ({@link ProductService}와 같은 동작을 논블로킹으로 제공)
+ */
+public interface ReactiveProductService {
+    Flux<Product> getAllProducts();
+    Mono<Product> getProductById(Long id);
+    Flux<Product> getProductsByIds(Collection<Long> ids);
+    Mono<Product> createProduct(Product product);
+    Mono<VersionStamp> getCatalogVersionStamp();
+}
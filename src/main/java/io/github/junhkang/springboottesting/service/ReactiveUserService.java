@@ -0,0 +1,17 @@
+package io.github.junhkang.springboottesting.service;
+
+import io.github.junhkang.springboottesting.domain.User;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * r2dbc 프로파일의 사용자 서비스 ({@link UserService}와 같은 동작을 논블로킹으로 제공)
+ */
+public interface ReactiveUserService {
+    Flux<User> getAllUsers();
+    Mono<User> getUserById(Long id);
+    Flux<User> getUsersByIds(Collection<Long> ids);
+    Mono<User> createUser(User user);
+}
@@ -0,0 +1,201 @@
+package io.github.junhkang.springboottesting.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재고 예약 원장 (stock.ledger.enabled=true일 때 사용)
+ *
+ * 주문 흐름은 product 행을 잠그지 않고 메모리의 {@link StripedStockCounter}에서 재고를 예약하며,
+ * 같은 트랜잭션에서 stock_reservation 테이블에 변화량을 추가합니다.
+ * <ul>
+ *     <li>{@link #reserve}: 카운터에서 차감하고, 트랜잭션이 커밋되지 않으면 되돌림</li>
+ *     <li>{@link #confirm}: 주문 ID와 함께 예약을 원장에 기록 (주문 INSERT와 같은 트랜잭션)</li>
+ *     <li>{@link #release}: 반환을 원장에 기록하고, 커밋된 후에 카운터에 더함</li>
+ * </ul>
+ * {@link #reconcile()}가 애플리케이션 시작 시 한 번, 그 후 주기적으로 원장을 product.stock에 반영하므로,
+ * 그 사이 product.stock은 정산 주기만큼 늦게 갱신됩니다.
+ * 카운터는 상품별 첫 예약 시 product.stock과 미반영 원장 합계로 초기화되고, 정산 때 다시 맞춰집니다.
+ */
+@Component
+@Profile("!r2dbc")
+public class StockLedger {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductCache productCache;
+    private final boolean enabled;
+    private final int stripeCount;
+    private final int reconcileBatchSize;
+    private final Map<Long, StripedStockCounter> counters = new ConcurrentHashMap<>();
+
+    public StockLedger(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, ProductCache productCache,
+                       @Value("${stock.ledger.enabled:false}") boolean enabled,
+                       @Value("${stock.ledger.stripes:0}") int stripes,
+                       @Value("${stock.ledger.reconcile-batch-size:10000}") int reconcileBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.productCache = productCache;
+        this.enabled = enabled;
+        this.stripeCount = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors();
+        this.reconcileBatchSize = reconcileBatchSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 가용 재고에서 수량을 예약하고, 모자라면 IllegalArgumentException을 던짐
+     *
+     * 진행 중인 트랜잭션 안에서 호출해야 하며, 트랜잭션이 롤백되면 예약한 수량은 카운터로 돌아갑니다.
+     */
+    public void reserve(Long productId, int quantity) {
+        requireTransaction();
+        StripedStockCounter counter = counter(productId);
+        counter.begin();
+        if (!counter.tryReserve(quantity)) {
+            counter.end();
+            throw new IllegalArgumentException("Insufficient stock for product id " + productId);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    counter.release(quantity);
+                }
+                counter.end();
+            }
+        });
+    }
+
+    /**
+     * 예약한 수량을 주문과 함께 원장에 기록
+     */
+    public void confirm(Long orderId, Long productId, int quantity) {
+        append(orderId, productId, -quantity);
+    }
+
+    /**
+     * 주문 취소·수량 감소로 돌려받는 수량을 원장에 기록하고, 커밋된 후 카운터에 더함
+     */
+    public void release(Long orderId, Long productId, int quantity) {
+        requireTransaction();
+        StripedStockCounter counter = counter(productId);
+        counter.begin();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    counter.release(quantity);
+                }
+                counter.end();
+            }
+        });
+        append(orderId, productId, quantity);
+    }
+
+    /**
+     * 현재 예약 가능한 수량 (product.stock에 아직 반영되지 않은 예약/반환 포함)
+     */
+    public long available(Long productId) {
+        return counter(productId).available();
+    }
+
+    /**
+     * 미반영 원장을 product.stock에 반영하고, 진행 중인 예약이 없는 상품의 카운터를 DB 값으로 다시 맞춤
+     *
+     * 반영은 상품 ID 순서로 한 트랜잭션에서 수행하며, 반영된 행은 applied=true로 표시합니다.
+     */
+    @Scheduled(initialDelayString = "${stock.ledger.reconcile-interval:PT5S}", fixedDelayString = "${stock.ledger.reconcile-interval:PT5S}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        List<Long> changed = transactionTemplate.execute(status -> applyPending());
+        changed.forEach(productCache::evict);
+        counters.forEach((productId, counter) -> counter.resync(() -> loadAvailable(productId)));
+    }
+
+    /**
+     * 이전 실행에서 반영되지 않은 원장을 첫 정산 주기까지 기다리지 않고 반영
+     *
+     * 상품 조회와 {@link ProductCache}는 product.stock을 읽으므로, 시작 직후에도 밀린 예약/반환이 반영된 재고를 보여 줍니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    // 읽어 온 행만 합산·표시하므로, 정산 중에 커밋된 행은 다음 정산에서 반영됨
+    private List<Long> applyPending() {
+        List<Object[]> rows = jdbcTemplate.query(
+                "SELECT id, product_id, delta FROM stock_reservation WHERE applied = FALSE ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new Object[]{rs.getLong("id"), rs.getLong("product_id"), rs.getInt("delta")},
+                reconcileBatchSize);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> deltaByProduct = new TreeMap<>();
+        List<Object[]> appliedIds = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            deltaByProduct.merge((Long) row[1], (Integer) row[2], Integer::sum);
+            appliedIds.add(new Object[]{row[0]});
+        }
+
+        List<Object[]> updates = new ArrayList<>(deltaByProduct.size());
+        deltaByProduct.forEach((productId, delta) -> updates.add(new Object[]{delta, productId}));
+        jdbcTemplate.batchUpdate("UPDATE product SET stock = stock + ?, version = version + 1 WHERE id = ?", updates);
+        jdbcTemplate.batchUpdate("UPDATE stock_reservation SET applied = TRUE WHERE id = ?", appliedIds);
+        return new ArrayList<>(deltaByProduct.keySet());
+    }
+
+    // 초기값 조회(JDBC)는 맵 잠금 밖에서 하고, 동시에 만든 카운터 중 먼저 등록된 것을 사용
+    // 등록 전에는 이 상품의 예약/반환이 원장에 기록될 수 없으므로, 먼저 읽은 값으로 만들어도 어긋나지 않음
+    private StripedStockCounter counter(Long productId) {
+        StripedStockCounter counter = counters.get(productId);
+        if (counter != null) {
+            return counter;
+        }
+        long available = loadAvailable(productId);
+        return counters.computeIfAbsent(productId, id -> new StripedStockCounter(stripeCount, available));
+    }
+
+    // product.stock에 아직 반영되지 않은 (커밋된) 원장 합계를 더한 가용 재고
+    private long loadAvailable(Long productId) {
+        Long available = jdbcTemplate.queryForObject(
+                "SELECT p.stock + COALESCE((SELECT SUM(r.delta) FROM stock_reservation r "
+                        + "WHERE r.product_id = p.id AND r.applied = FALSE), 0) FROM product p WHERE p.id = ?",
+                Long.class, productId);
+        return available == null ? 0 : available;
+    }
+
+    private void append(Long orderId, Long productId, int delta) {
+        jdbcTemplate.update("INSERT INTO stock_reservation (product_id, order_id, delta, applied, created_at) VALUES (?, ?, ?, FALSE, ?)",
+                productId, orderId, delta, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private void requireTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Stock reservations must run inside a transaction.");
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.junhkang.springboottesting.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 상품 하나의 가용 재고를 여러 칸(stripe)에 나누어 담은 카운터
+ *
+ * 예약은 스레드마다 다른 칸에서 CAS로 차감하므로 같은 상품을 동시에 주문해도 한 값을 두고 경합하지 않습니다.
+ * 어느 칸에도 수량이 모자라면 잠금을 잡고 전체를 모아 다시 나눈 뒤 판단하므로, 합계가 충분한데 실패하거나
+ * 합계보다 많이 예약되는 경우는 없습니다.
+ * 잠금은 메모리의 칸을 모으고 나누는 동안만 잡으며, 가상 스레드가 고정되지 않도록 synchronized 대신 ReentrantLock을 사용합니다.
+ */
+class StripedStockCounter {
+
+    private final AtomicLongArray stripes;
+    private final ReentrantLock rebalanceLock = new ReentrantLock();
+
+    // 트랜잭션이 끝나지 않은 예약/반환 수와 변경 횟수: 정산 시 카운터를 DB 값으로 맞춰도 되는지 판단
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong modifications = new AtomicLong();
+
+    StripedStockCounter(int stripeCount, long available) {
+        this.stripes = new AtomicLongArray(stripeCount);
+        distribute(available);
+    }
+
+    /**
+     * 수량만큼 차감하고 성공 여부를 반환
+     */
+    boolean tryReserve(int quantity) {
+        int count = stripes.length();
+        int start = probe();
+        for (int i = 0; i < count; i++) {
+            int index = (start + i) % count;
+            long current;
+            while ((current = stripes.get(index)) >= quantity) {
+                if (stripes.compareAndSet(index, current, current - quantity)) {
+                    return true;
+                }
+            }
+        }
+        return rebalanceAndReserve(quantity);
+    }
+
+    void release(int quantity) {
+        stripes.addAndGet(probe(), quantity);
+    }
+
+    long available() {
+        long sum = 0;
+        for (int i = 0; i < stripes.length(); i++) {
+            sum += stripes.get(i);
+        }
+        return sum;
+    }
+
+    // 예약/반환을 시작할 때 호출하고, 트랜잭션이 끝나 카운터 반영까지 마치면 end()를 호출
+    void begin() {
+        modifications.incrementAndGet();
+        inFlight.incrementAndGet();
+    }
+
+    void end() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 진행 중인 예약/반환이 없을 때만 카운터를 DB 기준 가용 재고로 다시 맞춤
+     *
+     * DB 값은 잠금 밖에서 읽고, 읽기 시작한 뒤로 예약/반환이 없었을 때만 잠금 안에서 칸을 교체합니다.
+     * 그 사이 예약/반환이 시작되었다면 카운터를 그대로 두고 false를 반환합니다.
+     */
+    boolean resync(LongSupplier expected) {
+        long observed = modifications.get();
+        if (inFlight.get() != 0) {
+            return false;
+        }
+        long value = expected.getAsLong();
+
+        rebalanceLock.lock();
+        try {
+            // 비운 뒤에 다시 확인: 비우기 전에 시작된 예약은 modifications로 드러나고, 이후의 예약은 잠금에서 기다림
+            long drained = drain();
+            if (inFlight.get() != 0 || modifications.get() != observed) {
+                stripes.addAndGet(0, drained);
+                return false;
+            }
+            distribute(value);
+            return true;
+        } finally {
+            rebalanceLock.unlock();
+        }
+    }
+
+    private boolean rebalanceAndReserve(int quantity) {
+        rebalanceLock.lock();
+        try {
+            long total = drain();
+            boolean reserved = total >= quantity;
+            distribute(reserved ? total - quantity : total);
+            return reserved;
+        } finally {
+            rebalanceLock.unlock();
+        }
+    }
+
+    private long drain() {
+        long total = 0;
+        for (int i = 0; i < stripes.length(); i++) {
+            total += stripes.getAndSet(i, 0);
+        }
+        return total;
+    }
+
+    // 나누고 남은 수량은 첫 칸에 더함 (drain 이후 다른 스레드가 반환한 수량은 그대로 유지)
+    private void distribute(long total) {
+        int count = stripes.length();
+        long share = total / count;
+        for (int i = 0; i < count; i++) {
+            stripes.addAndGet(i, share);
+        }
+        stripes.addAndGet(0, total - share * count);
+    }
+
+    private int probe() {
+        return (int) (Thread.currentThread().threadId() % stripes.length());
+    }
+}
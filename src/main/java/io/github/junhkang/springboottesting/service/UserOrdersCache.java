@@ -0,0 +1,308 @@
+package io.github.junhkang.springboottesting.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.User;
+import io.github.junhkang.springboottesting.domain.UserOrdersCacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 사용자별 주문 목록(GET /orders/user/{userId}) 조회 결과 캐시
+ *
+ * 항목은 주문 목록 전체이며, 크기(order.user-cache.maximum-size)와 TTL(order.user-cache.ttl)로 제한됩니다.
+ * 사용자 존재 확인은 확인을 마친 사용자 ID 집합으로 처리합니다 (사용자는 삭제되지 않으므로 존재하는 ID만 기억).
+ * <ul>
+ *     <li>{@link #evictUser}: 사용자의 주문이 생성·취소·변경되면 트랜잭션 커밋 후 해당 사용자 항목을 무효화</li>
+ *     <li>{@link #evictProduct}: 상품 재고·버전이 바뀌면 커밋 후 그 상품을 포함한 모든 사용자 항목을 무효화</li>
+ * </ul>
+ * 상품별 사용자 색인은 캐시에 남아 있는 항목만 가리키도록, 항목이 저장·무효화·만료·크기 초과로 제거될 때
+ * 해당 사용자 키의 원자적 연산 안에서 함께 갱신되므로 캐시 크기를 넘어 커지지 않습니다.
+ * 조회가 시작된 뒤 그 사용자나 조회 결과에 포함된 상품이 무효화되었다면 결과를 저장하지 않습니다.
+ * 무효화 시각은 사용자·상품별로 기록하므로, 다른 사용자나 상품의 주문 쓰기는 진행 중인 조회의 저장을 막지 않습니다.
+ * 커밋되지 않은 변경을 볼 수 있는 쓰기 트랜잭션 안의 조회는 캐시를 거치지 않습니다.
+ * order.user-cache.enabled=false이면 모든 호출이 조회 함수로 바로 전달됩니다.
+ */
+@Component
+public class UserOrdersCache {
+
+    private final boolean enabled;
+    private final Cache<Long, List<Order>> cache;
+    private final Cache<Long, Boolean> knownUsers;
+
+    // 상품 ID별로 그 상품의 주문을 캐시에 담고 있는 사용자 ID (사용자 항목과 같은 원자적 연산 안에서만 갱신)
+    private final Map<Long, Set<Long>> usersByProduct = new ConcurrentHashMap<>();
+
+    // 무효화 순서를 매기는 논리 시계
+    private final AtomicLong clock = new AtomicLong();
+    // 사용자·상품별 마지막 무효화 시각: 조회 시작 시각 이후의 기록이 있으면 그 조회 결과를 저장하지 않음
+    private final Map<Long, Long> userInvalidatedAt = new ConcurrentHashMap<>();
+    private final Map<Long, Long> productInvalidatedAt = new ConcurrentHashMap<>();
+    // 진행 중인 조회의 시작 시각별 개수: 가장 오래된 조회보다 이전의 무효화 기록은 더 필요 없으므로 정리
+    private final TreeMap<Long, Integer> loadsInFlight = new TreeMap<>();
+    private final LongAdder invalidationCount = new LongAdder();
+    private final LongAdder bypassCount = new LongAdder();
+
+    public UserOrdersCache(@Value("${order.user-cache.enabled:true}") boolean enabled,
+                           @Value("${order.user-cache.maximum-size:10000}") long maximumSize,
+                           @Value("${order.user-cache.ttl:10m}") Duration ttl,
+                           @Value("${order.user-cache.known-users-maximum-size:100000}") long knownUsersMaximumSize) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                // 크기 초과·만료 제거는 그 항목의 원자적 연산 안에서 동기적으로 통지됨
+                .<Long, List<Order>>evictionListener((userId, orders, cause) -> {
+                    if (userId != null && orders != null) {
+                        unindex(userId, productIds(orders));
+                    }
+                })
+                .recordStats()
+                .build();
+        this.knownUsers = Caffeine.newBuilder()
+                .maximumSize(knownUsersMaximumSize)
+                .build();
+    }
+
+    /**
+     * 사용자가 존재하는지 반환 (확인된 적 없는 ID만 lookup으로 조회)
+     */
+    public boolean userExists(Long userId, Predicate<Long> lookup) {
+        if (enabled && knownUsers.getIfPresent(userId) != null) {
+            return true;
+        }
+        boolean exists = lookup.test(userId);
+        if (exists && enabled && !inReadWriteTransaction()) {
+            knownUsers.put(userId, Boolean.TRUE);
+        }
+        return exists;
+    }
+
+    /**
+     * 캐시된 주문 목록을 반환하고, 없으면 loader로 조회하여 캐시에 저장
+     *
+     * 호출자가 반환된 목록이나 주문을 수정해도 캐시 항목에 영향이 없도록 복사본을 저장하고 반환합니다.
+     */
+    public List<Order> get(Long userId, Function<Long, List<Order>> loader) {
+        if (!enabled || inReadWriteTransaction()) {
+            bypassCount.increment();
+            return loader.apply(userId);
+        }
+
+        List<Order> cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return copyOf(cached);
+        }
+
+        long observed = beginLoad();
+        try {
+            List<Order> loaded = loader.apply(userId);
+            List<Order> entry = copyOf(loaded);
+            Set<Long> productIds = productIds(entry);
+            // 같은 키의 compute는 직렬화되므로, 조회 중 무효화가 있었다면 기존 상태를 유지
+            cache.asMap().compute(userId, (key, current) -> {
+                Set<Long> currentProductIds = current == null ? Set.of() : productIds(current);
+                // 무효화 시각 확인 전에 색인을 먼저 기록하여, 확인 직후의 상품 무효화가 이 항목을 놓치지 않도록 함
+                index(userId, productIds);
+                if (invalidatedSince(observed, userId, productIds)) {
+                    unindex(userId, difference(productIds, currentProductIds));
+                    return current;
+                }
+                unindex(userId, difference(currentProductIds, productIds));
+                return entry;
+            });
+            knownUsers.put(userId, Boolean.TRUE);
+            return loaded;
+        } finally {
+            endLoad(observed);
+        }
+    }
+
+    /**
+     * 사용자의 주문 목록 항목을 무효화 (트랜잭션 안이면 커밋된 후, 롤백되면 무효화하지 않음)
+     */
+    public void evictUser(Long userId) {
+        afterCommit(() -> {
+            invalidate(userId);
+            pruneInvalidations();
+        });
+    }
+
+    /**
+     * 상품을 포함한 모든 사용자의 주문 목록 항목을 무효화 (트랜잭션 안이면 커밋된 후)
+     */
+    public void evictProduct(Long productId) {
+        afterCommit(() -> {
+            // 색인을 비우기 전에 기록하여, 아직 색인에 오르지 않은 진행 중 조회도 이 상품이 결과에 있으면 저장되지 않도록 함
+            productInvalidatedAt.merge(productId, clock.incrementAndGet(), Math::max);
+            Set<Long> userIds = usersByProduct.remove(productId);
+            if (userIds != null) {
+                userIds.forEach(this::invalidate);
+            }
+            pruneInvalidations();
+        });
+    }
+
+    public UserOrdersCacheStats stats() {
+        // 대기 중인 크기 초과·만료 제거를 반영한 뒤 집계
+        cache.cleanUp();
+        CacheStats stats = cache.stats();
+        return new UserOrdersCacheStats(stats.hitCount(), stats.missCount(), stats.evictionCount(),
+                invalidationCount.sum(), bypassCount.sum(), cache.estimatedSize(), knownUsers.estimatedSize(),
+                usersByProduct.size());
+    }
+
+    private void afterCommit(Runnable invalidation) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        } else {
+            invalidation.run();
+        }
+    }
+
+    private void invalidate(Long userId) {
+        cache.asMap().compute(userId, (key, current) -> {
+            userInvalidatedAt.merge(userId, clock.incrementAndGet(), Math::max);
+            if (current != null) {
+                unindex(userId, productIds(current));
+            }
+            return null;
+        });
+        invalidationCount.increment();
+    }
+
+    private long beginLoad() {
+        synchronized (loadsInFlight) {
+            long observed = clock.get();
+            loadsInFlight.merge(observed, 1, Integer::sum);
+            return observed;
+        }
+    }
+
+    private void endLoad(long observed) {
+        synchronized (loadsInFlight) {
+            loadsInFlight.computeIfPresent(observed, (key, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    private boolean invalidatedSince(long observed, Long userId, Set<Long> productIds) {
+        if (userInvalidatedAt.getOrDefault(userId, 0L) > observed) {
+            return true;
+        }
+        for (Long productId : productIds) {
+            if (productInvalidatedAt.getOrDefault(productId, 0L) > observed) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 진행 중인 조회와 이후에 시작할 조회는 모두 이 시각 이후에 시작했으므로, 그 이전의 무효화 기록은 제거
+    private void pruneInvalidations() {
+        long oldest;
+        synchronized (loadsInFlight) {
+            oldest = loadsInFlight.isEmpty() ? clock.get() : loadsInFlight.firstKey();
+        }
+        userInvalidatedAt.values().removeIf(invalidatedAt -> invalidatedAt <= oldest);
+        productInvalidatedAt.values().removeIf(invalidatedAt -> invalidatedAt <= oldest);
+    }
+
+    // 상품별 집합의 생성·삭제는 상품 키의 compute로만 하여, 비워져 삭제되는 집합에 사용자가 추가되어 사라지지 않도록 함
+    private void index(Long userId, Set<Long> productIds) {
+        productIds.forEach(productId -> usersByProduct.compute(productId, (key, userIds) -> {
+            Set<Long> updated = userIds == null ? ConcurrentHashMap.newKeySet() : userIds;
+            updated.add(userId);
+            return updated;
+        }));
+    }
+
+    private void unindex(Long userId, Set<Long> productIds) {
+        productIds.forEach(productId -> usersByProduct.computeIfPresent(productId, (key, userIds) -> {
+            userIds.remove(userId);
+            return userIds.isEmpty() ? null : userIds;
+        }));
+    }
+
+    private Set<Long> productIds(List<Order> orders) {
+        Set<Long> productIds = new HashSet<>();
+        orders.forEach(order -> productIds.add(order.getProduct().getId()));
+        return productIds;
+    }
+
+    private Set<Long> difference(Set<Long> source, Set<Long> excluded) {
+        Set<Long> result = new HashSet<>(source);
+        result.removeAll(excluded);
+        return result;
+    }
+
+    private boolean inReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    // 같은 사용자·상품은 목록 안에서 하나의 복사본을 공유
+    private List<Order> copyOf(List<Order> source) {
+        Map<Long, User> users = new HashMap<>();
+        Map<Long, Product> products = new HashMap<>();
+        List<Order> orders = new ArrayList<>(source.size());
+        for (Order order : source) {
+            Order copy = new Order();
+            copy.setId(order.getId());
+            copy.setOrderDate(order.getOrderDate());
+            copy.setUser(users.computeIfAbsent(order.getUser().getId(), id -> copyOf(order.getUser())));
+            copy.setProduct(products.computeIfAbsent(order.getProduct().getId(), id -> copyOf(order.getProduct())));
+            copy.setQuantity(order.getQuantity());
+            copy.setStatus(order.getStatus());
+            copy.setTotalAmount(order.getTotalAmount());
+            copy.setVersion(order.getVersion());
+            orders.add(copy);
+        }
+        return orders;
+    }
+
+    private User copyOf(User source) {
+        User user = new User();
+        user.setId(source.getId());
+        user.setUsername(source.getUsername());
+        user.setEmail(source.getEmail());
+        return user;
+    }
+
+    private Product copyOf(Product source) {
+        Product product = new Product();
+        product.setId(source.getId());
+        product.setName(source.getName());
+        product.setDescription(source.getDescription());
+        product.setPrice(source.getPrice());
+        product.setStock(source.getStock());
+        product.setVersion(source.getVersion());
+        return product;
+    }
+}
@@ -2,10 +2,16 @@ package io.github.junhkang.springboottesting.service;
 
 import io.github.junhkang.springboottesting.domain.User;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface UserService {
     List<User> getAllUsers();
     User getUserById(Long id);
+
+    /**
+     * 여러 ID의 사용자를 한 번에 조회 (요청 순서 유지, 존재하지 않는 ID는 결과에서 제외)
+     */
+    List<User> getUsersByIds(Collection<Long> ids);
     User createUser(User user);
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * ID 목록 다건 조회 도우미
+ *
+ * IN 절에 넣는 ID 수를 CHUNK_SIZE로 제한하여, 요청된 ID가 아주 많아도 쿼리 길이와 바인드 변수 수가 일정 범위를 넘지 않게 합니다.
+ */
+final class IdChunks {
+
+    static final int CHUNK_SIZE = 500;
+
+    private IdChunks() {
+    }
+
+    /**
+     * 중복과 null을 제거한 ID를 요청 순서대로 CHUNK_SIZE개씩 나눔
+     */
+    static List<List<Long>> partition(Collection<Long> ids) {
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.removeIf(Objects::isNull);
+        List<List<Long>> chunks = new ArrayList<>((distinct.size() + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        for (int from = 0; from < distinct.size(); from += CHUNK_SIZE) {
+            chunks.add(distinct.subList(from, Math.min(from + CHUNK_SIZE, distinct.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * ID를 CHUNK_SIZE개씩 나누어 조회하고, 찾은 항목을 ID별로 담아 반환 (존재하지 않는 ID는 빠짐)
+     */
+    static <T> Map<Long, T> mapById(Collection<Long> ids, Function<List<Long>, ? extends Collection<T>> fetcher,
+                                    Function<T, Long> idExtractor) {
+        Map<Long, T> byId = new HashMap<>();
+        for (List<Long> chunk : partition(ids)) {
+            fetcher.apply(chunk).forEach(item -> byId.put(idExtractor.apply(item), item));
+        }
+        return byId;
+    }
+
+    /**
+     * 조회 결과를 요청한 ID 순서로 정렬 (존재하지 않는 ID는 건너뜀)
+     */
+    static <T> List<T> inRequestOrder(Collection<Long> ids, List<T> found, Function<T, Long> idExtractor) {
+        Map<Long, T> byId = new HashMap<>(found.size() * 2);
+        found.forEach(item -> byId.put(idExtractor.apply(item), item));
+        List<T> ordered = new ArrayList<>(found.size());
+        for (Long id : new LinkedHashSet<>(ids)) {
+            T item = byId.get(id);
+            if (item != null) {
+                ordered.add(item);
+            }
+        }
+        return ordered;
+    }
+}
@@ -1,20 +1,37 @@
 package io.github.junhkang.springboottesting.service.impl;
 
+import io.github.junhkang.springboottesting.config.RetryOnConflict;
+import io.github.junhkang.springboottesting.domain.Money;
 import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.OrderPage;
+import io.github.junhkang.springboottesting.domain.OrderStats;
 import io.github.junhkang.springboottesting.domain.OrderStatus;
 import io.github.junhkang.springboottesting.domain.Product;
 import io.github.junhkang.springboottesting.domain.User;
+import io.github.junhkang.springboottesting.domain.UserOrdersCacheStats;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
 import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
 import io.github.junhkang.springboottesting.repository.jpa.OrderRepository;
 import io.github.junhkang.springboottesting.repository.jpa.ProductRepository;
 import io.github.junhkang.springboottesting.repository.jpa.UserRepository;
+import io.github.junhkang.springboottesting.service.OrderArchive;
 import io.github.junhkang.springboottesting.service.OrderService;
+import io.github.junhkang.springboottesting.service.ProductCache;
+import io.github.junhkang.springboottesting.service.StockLedger;
+import io.github.junhkang.springboottesting.service.UserOrdersCache;
+import jakarta.persistence.EntityManager;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 @Service
@@ -24,11 +41,23 @@ public class JpaOrderServiceImpl implements OrderService {
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+    private final ProductCache productCache;
+    private final StockLedger stockLedger;
+    private final UserOrdersCache userOrdersCache;
+    private final OrderArchive orderArchive;
 
-    public JpaOrderServiceImpl(OrderRepository orderRepository, UserRepository userRepository, ProductRepository productRepository) {
+    public JpaOrderServiceImpl(OrderRepository orderRepository, UserRepository userRepository, ProductRepository productRepository,
+                               EntityManager entityManager, ProductCache productCache, StockLedger stockLedger,
+                               UserOrdersCache userOrdersCache, OrderArchive orderArchive) {
         this.orderRepository = orderRepository;
         this.userRepository = userRepository;
         this.productRepository = productRepository;
+        this.entityManager = entityManager;
+        this.productCache = productCache;
+        this.stockLedger = stockLedger;
+        this.userOrdersCache = userOrdersCache;
+        this.orderArchive = orderArchive;
     }
 
     @Override
@@ -36,13 +65,41 @@ public class JpaOrderServiceImpl implements OrderService {
         return orderRepository.findAll();
     }
 
+    @Override
+    public OrderPage getOrders(Long cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+
+        // 다음 페이지 존재 여부를 판단하기 위해 한 건을 더 조회
+        List<Order> rows = orderRepository.findByIdGreaterThanOrderByIdAsc(cursor == null ? 0L : cursor, Limit.of(size + 1));
+        List<Order> content = rows.size() > size ? rows.subList(0, size) : rows;
+
+        Long nextCursor = rows.size() > size ? content.get(content.size() - 1).getId() : null;
+        return new OrderPage(content, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportOrders(Consumer<Order> consumer) {
+        try (Stream<Order> orders = orderRepository.streamAll()) {
+            orders.forEach(order -> {
+                consumer.accept(order);
+                // 처리한 주문은 영속성 컨텍스트에서 분리하여 순회 중 메모리가 누적되지 않도록 함
+                entityManager.detach(order);
+            });
+        }
+    }
+
     @Override
     public Order getOrderById(Long id) {
         return orderRepository.findById(id)
+                .or(() -> orderArchive.findById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found with id " + id));
     }
 
     @Override
+    @RetryOnConflict
     @Transactional
     public Order createOrder(Long userId, Long productId, Integer quantity) {
         User user = userRepository.findById(userId)
@@ -51,25 +108,87 @@ public class JpaOrderServiceImpl implements OrderService {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found with id " + productId));
 
-        if (product.getStock() < quantity) {
-            throw new IllegalArgumentException("Insufficient stock for product id " + productId);
+        // 원장 모드에서는 product 행을 잠그지 않고 메모리 카운터에서 예약
+        // 그 외에는 재고 확인과 차감을 조건부 UPDATE 한 번으로 처리하여 동시 주문 시 재고가 음수가 되지 않도록 함
+        if (stockLedger.isEnabled()) {
+            stockLedger.reserve(productId, quantity);
+        } else {
+            if (productRepository.decreaseStock(productId, quantity) == 0) {
+                throw new IllegalArgumentException("Insufficient stock for product id " + productId);
+            }
+            productCache.evict(productId);
+            entityManager.refresh(product);
         }
 
-        product.setStock(product.getStock() - quantity);
-        productRepository.save(product);
-
         Order order = new Order();
         order.setOrderDate(LocalDateTime.now());
         order.setUser(user);
         order.setProduct(product);
         order.setQuantity(quantity);
         order.setStatus(OrderStatus.PENDING);
-        order.setTotalAmount(product.getPrice() * quantity);
+        order.setTotalAmount(product.getPrice().times(quantity));
 
-        return orderRepository.save(order);
+        Order saved = orderRepository.save(order);
+        if (stockLedger.isEnabled()) {
+            stockLedger.confirm(saved.getId(), productId, quantity);
+        }
+        userOrdersCache.evictUser(userId);
+        return saved;
+    }
+
+    @Override
+    @RetryOnConflict
+    @Transactional
+    public List<Order> createOrders(List<OrderLine> lines) {
+        validateOrderLines(lines);
+
+        // 사용자와 상품을 테이블별 IN 조회 한 번으로 로드 (ID가 많으면 IN 절 크기만큼 나누어 조회)
+        Map<Long, User> users = IdChunks.mapById(collectIds(lines, OrderLine::getUserId), userRepository::findAllById, User::getId);
+        Map<Long, Product> products = IdChunks.mapById(collectIds(lines, OrderLine::getProductId), productRepository::findAllById, Product::getId);
+        for (OrderLine line : lines) {
+            if (!users.containsKey(line.getUserId())) {
+                throw new ResourceNotFoundException("User not found with id " + line.getUserId());
+            }
+            if (!products.containsKey(line.getProductId())) {
+                throw new ResourceNotFoundException("Product not found with id " + line.getProductId());
+            }
+        }
+
+        // 상품별 수량 합계만큼 재고 차감
+        Map<Long, Integer> quantityByProduct = new TreeMap<>();
+        lines.forEach(line -> quantityByProduct.merge(line.getProductId(), line.getQuantity(), Integer::sum));
+        if (stockLedger.isEnabled()) {
+            quantityByProduct.forEach(stockLedger::reserve);
+        } else {
+            decreaseStock(products, quantityByProduct);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Order> orders = new ArrayList<>(lines.size());
+        for (OrderLine line : lines) {
+            Product product = products.get(line.getProductId());
+
+            Order order = new Order();
+            order.setOrderDate(now);
+            order.setUser(users.get(line.getUserId()));
+            order.setProduct(product);
+            order.setQuantity(line.getQuantity());
+            order.setStatus(OrderStatus.PENDING);
+            order.setTotalAmount(product.getPrice().times(line.getQuantity()));
+            orders.add(order);
+        }
+
+        // 시퀀스 ID와 hibernate.jdbc.batch_size 설정으로 UPDATE/INSERT가 배치로 전송됨
+        List<Order> saved = orderRepository.saveAll(orders);
+        if (stockLedger.isEnabled()) {
+            saved.forEach(order -> stockLedger.confirm(order.getId(), order.getProduct().getId(), order.getQuantity()));
+        }
+        users.keySet().forEach(userOrdersCache::evictUser);
+        return saved;
     }
 
     @Override
+    @RetryOnConflict
     @Transactional
     public Order cancelOrder(Long id) {
         Order order = getOrderById(id);
@@ -83,13 +202,20 @@ public class JpaOrderServiceImpl implements OrderService {
 
         // 재고 복구
         Product product = order.getProduct();
-        product.setStock(product.getStock() + order.getQuantity());
-        productRepository.save(product);
+        if (stockLedger.isEnabled()) {
+            stockLedger.release(order.getId(), product.getId(), order.getQuantity());
+        } else {
+            productRepository.increaseStock(product.getId(), order.getQuantity());
+            productCache.evict(product.getId());
+            entityManager.refresh(product);
+        }
+        userOrdersCache.evictUser(order.getUser().getId());
 
         return order;
     }
 
     @Override
+    @RetryOnConflict
     @Transactional
     public Order updateOrderQuantity(Long id, Integer newQuantity) {
         Order order = getOrderById(id);
@@ -101,34 +227,116 @@ public class JpaOrderServiceImpl implements OrderService {
         Product product = order.getProduct();
         int difference = newQuantity - order.getQuantity();
 
-        if (difference > 0 && product.getStock() < difference) {
-            throw new IllegalArgumentException("Insufficient stock to increase quantity.");
+        if (stockLedger.isEnabled()) {
+            adjustReservation(order.getId(), product.getId(), difference);
+        } else {
+            if (difference > 0 && productRepository.decreaseStock(product.getId(), difference) == 0) {
+                throw new IllegalArgumentException("Insufficient stock to increase quantity.");
+            }
+            if (difference < 0) {
+                productRepository.increaseStock(product.getId(), -difference);
+            }
+            if (difference != 0) {
+                productCache.evict(product.getId());
+            }
+            entityManager.refresh(product);
         }
 
-        product.setStock(product.getStock() - difference);
-        productRepository.save(product);
-
         order.setQuantity(newQuantity);
-        order.setTotalAmount(product.getPrice() * newQuantity);
+        order.setTotalAmount(product.getPrice().times(newQuantity));
+        userOrdersCache.evictUser(order.getUser().getId());
         return orderRepository.save(order);
     }
 
     @Override
     public List<Order> getOrdersByUserId(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id " + userId));
+        if (!userOrdersCache.userExists(userId, userRepository::existsById)) {
+            throw new ResourceNotFoundException("User not found with id " + userId);
+        }
 
-        return orderRepository.findByUser(user);
+        return userOrdersCache.get(userId, id -> orderArchive.mergeByUserId(id, orderRepository.findByUserIdOrderByOrderDateAsc(id)));
+    }
+
+    @Override
+    public VersionStamp getOrdersVersionStampByUserId(Long userId) {
+        return orderArchive.mergeVersionStamp(userId, orderRepository.findVersionStampByUserId(userId));
     }
 
     @Override
     public List<Order> getOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        return orderRepository.findByOrderDateBetween(startDate, endDate);
+        return orderArchive.mergeByOrderDate(startDate, endDate,
+                orderRepository.findByOrderDateBetweenOrderByOrderDateAsc(startDate, endDate));
     }
 
     @Override
-    public Double calculateTotalAmount(Long id) {
+    public Money calculateTotalAmount(Long id) {
         Order order = getOrderById(id);
         return order.getTotalAmount();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderStats getOrderStats(LocalDateTime startDate, LocalDateTime endDate) {
+        validateDateRange(startDate, endDate);
+        return orderArchive.mergeStats(startDate, endDate, new OrderStats(
+                orderRepository.aggregateByStatus(startDate, endDate),
+                orderRepository.aggregateByProduct(startDate, endDate),
+                orderRepository.aggregateByUser(startDate, endDate),
+                orderRepository.aggregateByDay(startDate, endDate)));
+    }
+
+    @Override
+    public UserOrdersCacheStats getCacheStats() {
+        return userOrdersCache.stats();
+    }
+
+    private void validateDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must not be after end date.");
+        }
+    }
+
+    // createOrder와 같이 상품별 조건부 UPDATE로 재고 확인과 차감을 한 번에 처리 (상품 ID 순서로 갱신하여 동시 일괄 주문 간 교착 상태를 방지)
+    // 한 상품이라도 재고가 부족하면 예외로 트랜잭션 전체가 롤백됨
+    private void decreaseStock(Map<Long, Product> products, Map<Long, Integer> quantityByProduct) {
+        quantityByProduct.forEach((productId, quantity) -> {
+            if (productRepository.decreaseStock(productId, quantity) == 0) {
+                throw new IllegalArgumentException("Insufficient stock for product id " + productId);
+            }
+            productCache.evict(productId);
+            entityManager.refresh(products.get(productId));
+        });
+    }
+
+    // 원장 모드의 수량 변경: 늘어난 만큼 예약하고, 줄어든 만큼 반환
+    private void adjustReservation(Long orderId, Long productId, int difference) {
+        if (difference > 0) {
+            try {
+                stockLedger.reserve(productId, difference);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Insufficient stock to increase quantity.");
+            }
+            stockLedger.confirm(orderId, productId, difference);
+        } else if (difference < 0) {
+            stockLedger.release(orderId, productId, -difference);
+        }
+    }
+
+    private void validateOrderLines(List<OrderLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new IllegalArgumentException("Order lines are required.");
+        }
+        if (lines.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Too many order lines. Maximum is " + MAX_BATCH_SIZE + ".");
+        }
+        for (OrderLine line : lines) {
+            if (line.getQuantity() == null || line.getQuantity() <= 0) {
+                throw new IllegalArgumentException("Order quantity must be positive.");
+            }
+        }
+    }
+
+    private Set<Long> collectIds(List<OrderLine> lines, Function<OrderLine, Long> idExtractor) {
+        return lines.stream().map(idExtractor).collect(Collectors.toSet());
+    }
 }
\ No newline at end of file
@@ -1,12 +1,20 @@
 package io.github.junhkang.springboottesting.service.impl;
 
 import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductCacheStats;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
 import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
 import io.github.junhkang.springboottesting.repository.jpa.ProductRepository;
+import io.github.junhkang.springboottesting.service.ProductCache;
 import io.github.junhkang.springboottesting.service.ProductService;
+import io.github.junhkang.springboottesting.service.ProductValidator;
+import jakarta.persistence.EntityManager;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -14,9 +22,14 @@ import java.util.List;
 public class JpaProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductCache productCache;
+    private final EntityManager entityManager;
 
-    public JpaProductServiceImpl(ProductRepository productRepository) {
+    public JpaProductServiceImpl(ProductRepository productRepository, ProductCache productCache,
+                                 EntityManager entityManager) {
         this.productRepository = productRepository;
+        this.productCache = productCache;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -26,21 +39,53 @@ public class JpaProductServiceImpl implements ProductService {
 
     @Override
     public Product getProductById(Long id) {
-        return productRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Product not found with id " + id));
+        return productCache.get(id, key -> productRepository.findById(key)
+                .orElseThrow(() -> new ResourceNotFoundException("Product not found with id " + key)));
     }
 
     @Override
-    public Product createProduct(Product product) {
-        if (product.getName() == null || product.getName().trim().isEmpty()) {
-            throw new IllegalArgumentException("Product name is required.");
-        }
-        if (product.getPrice() == null || product.getPrice() < 0) {
-            throw new IllegalArgumentException("Product price cannot be negative.");
-        }
-        if (product.getStock() == null || product.getStock() < 0) {
-            throw new IllegalArgumentException("Product stock cannot be negative.");
+    public List<Product> getProductsByIds(Collection<Long> ids) {
+        List<Product> found = new ArrayList<>();
+        for (List<Long> chunk : IdChunks.partition(ids)) {
+            found.addAll(productRepository.findAllById(chunk));
         }
+        return IdChunks.inRequestOrder(ids, found, Product::getId);
+    }
+
+    @Override
+    public Product createProduct(Product product) {
+        ProductValidator.validate(product);
         return productRepository.save(product);
     }
+
+    /**
+     * 검증을 마친 상품들을 한 트랜잭션으로 등록
+     *
+     * 시퀀스 ID와 hibernate.jdbc.batch_size 설정으로 INSERT가 배치로 전송됩니다.
+     * OSIV로 요청 내내 열려 있는 영속성 컨텍스트에 묶음마다 상품이 쌓이지 않도록, flush 후 등록한 상품을 분리합니다.
+     * (호출자의 다른 엔티티까지 분리하지 않도록 clear 대신 detach)
+     */
+    @Override
+    @Transactional
+    public List<Product> createProducts(List<Product> products) {
+        List<Product> saved = productRepository.saveAll(products);
+        entityManager.flush();
+        saved.forEach(entityManager::detach);
+        return saved;
+    }
+
+    @Override
+    public Long getProductVersion(Long id) {
+        return productRepository.findVersionById(id).orElse(null);
+    }
+
+    @Override
+    public VersionStamp getCatalogVersionStamp() {
+        return productRepository.findCatalogVersionStamp();
+    }
+
+    @Override
+    public ProductCacheStats getCacheStats() {
+        return productCache.stats();
+    }
 }
\ No newline at end of file
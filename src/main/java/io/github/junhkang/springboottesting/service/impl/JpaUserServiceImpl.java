@@ -7,6 +7,8 @@ import io.github.junhkang.springboottesting.service.UserService;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -33,6 +35,15 @@ public class JpaUserServiceImpl implements UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id " + id));
     }
 
+    @Override
+    public List<User> getUsersByIds(Collection<Long> ids) {
+        List<User> found = new ArrayList<>();
+        for (List<Long> chunk : IdChunks.partition(ids)) {
+            found.addAll(userRepository.findAllById(chunk));
+        }
+        return IdChunks.inRequestOrder(ids, found, User::getId);
+    }
+
     @Override
     public User createUser(User user) {
         if (user.getUsername() == null || user.getUsername().trim().isEmpty()) {
@@ -1,17 +1,35 @@
 package io.github.junhkang.springboottesting.service.impl;
 
+import io.github.junhkang.springboottesting.config.RetryOnConflict;
 import io.github.junhkang.springboottesting.domain.*;
 import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.mapping.DomainMapper;
+import io.github.junhkang.springboottesting.mapping.OrderMappingContext;
 import io.github.junhkang.springboottesting.repository.mybatis.OrderMapper;
 import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
 import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
+import io.github.junhkang.springboottesting.service.OrderArchive;
 import io.github.junhkang.springboottesting.service.OrderService;
+import io.github.junhkang.springboottesting.service.ProductCache;
+import io.github.junhkang.springboottesting.service.ProductService;
+import io.github.junhkang.springboottesting.service.StockLedger;
+import io.github.junhkang.springboottesting.service.UserOrdersCache;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,30 +39,72 @@ public class MyBatisOrderServiceImpl implements OrderService {
     private final OrderMapper orderMapper;
     private final UserMapper userMapper;
     private final ProductMapper productMapper;
-
-    public MyBatisOrderServiceImpl(OrderMapper orderMapper, UserMapper userMapper, ProductMapper productMapper) {
+    private final SqlSessionFactory sqlSessionFactory;
+    private final ProductService productService;
+    private final ProductCache productCache;
+    private final DomainMapper domainMapper;
+    private final StockLedger stockLedger;
+    private final UserOrdersCache userOrdersCache;
+    private final OrderArchive orderArchive;
+
+    public MyBatisOrderServiceImpl(OrderMapper orderMapper, UserMapper userMapper, ProductMapper productMapper,
+                                   SqlSessionFactory sqlSessionFactory, ProductService productService,
+                                   ProductCache productCache, DomainMapper domainMapper, StockLedger stockLedger,
+                                   UserOrdersCache userOrdersCache, OrderArchive orderArchive) {
         this.orderMapper = orderMapper;
         this.userMapper = userMapper;
         this.productMapper = productMapper;
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.productService = productService;
+        this.productCache = productCache;
+        this.domainMapper = domainMapper;
+        this.stockLedger = stockLedger;
+        this.userOrdersCache = userOrdersCache;
+        this.orderArchive = orderArchive;
     }
 
     @Override
     public List<Order> getAllOrders() {
-        return orderMapper.findAll().stream()
-                .map(dto -> mapToOrder(dto))
-                .collect(Collectors.toList());
+        return new OrderMappingContext().share(orderMapper.findAll());
+    }
+
+    @Override
+    public OrderPage getOrders(Long cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+
+        // 다음 페이지 존재 여부를 판단하기 위해 한 건을 더 조회
+        List<Order> rows = orderMapper.findPage(cursor == null ? 0L : cursor, size + 1);
+        List<Order> content = new OrderMappingContext().share(rows.subList(0, Math.min(rows.size(), size)));
+
+        Long nextCursor = rows.size() > size ? content.get(content.size() - 1).getId() : null;
+        return new OrderPage(content, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportOrders(Consumer<Order> consumer) {
+        // Cursor는 SqlSession이 열려 있는 동안(트랜잭션 범위)만 순회할 수 있음
+        // streamAll은 resultOrdered이므로 읽은 행을 보관하지 않고, ID별 인스턴스 공유도 하지 않아 메모리 사용량이 일정함
+        try (Cursor<Order> cursor = orderMapper.streamAll()) {
+            cursor.forEach(consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Override
     public Order getOrderById(Long id) {
         OrderDTO dto = orderMapper.findById(id);
         if (dto == null) {
-            throw new ResourceNotFoundException("Order not found with id " + id);
+            return findArchivedOrder(id);
         }
-        return mapToOrder(dto);
+        return domainMapper.toOrder(dto, OrderMappingContext.NONE);
     }
 
     @Override
+    @RetryOnConflict
     @Transactional
     public Order createOrder(Long userId, Long productId, Integer quantity) {
         UserDTO userDTO = userMapper.findById(userId);
@@ -52,144 +112,284 @@ public class MyBatisOrderServiceImpl implements OrderService {
             throw new ResourceNotFoundException("User not found with id " + userId);
         }
 
-        ProductDTO productDTO = productMapper.findById(productId);
-        if (productDTO == null) {
-            throw new ResourceNotFoundException("Product not found with id " + productId);
-        }
-
-        if (productDTO.getStock() < quantity) {
-            throw new IllegalArgumentException("Insufficient stock for product id " + productId);
+        // 가격만 필요하므로 상품 캐시에서 조회 (재고는 아래 조건부 UPDATE가 판단)
+        Product product = productService.getProductById(productId);
+
+        // 원장 모드에서는 product 행을 잠그지 않고 메모리 카운터에서 예약
+        // 그 외에는 재고 확인과 차감을 조건부 UPDATE 한 번으로 처리하여 동시 주문 시 재고가 음수가 되지 않도록 함
+        if (stockLedger.isEnabled()) {
+            stockLedger.reserve(productId, quantity);
+        } else {
+            if (productMapper.decreaseStock(productId, quantity) == 0) {
+                throw new IllegalArgumentException("Insufficient stock for product id " + productId);
+            }
+            productCache.evict(productId);
         }
 
-        // 재고 업데이트
-        productDTO.setStock(productDTO.getStock() - quantity);
-        productMapper.update(productDTO);
-
         // 주문 생성
         OrderDTO orderDTO = new OrderDTO();
         orderDTO.setOrderDate(LocalDateTime.now());
         orderDTO.setUserId(userId);
+        orderDTO.setUsername(userDTO.getUsername());
+        orderDTO.setUserEmail(userDTO.getEmail());
         orderDTO.setProductId(productId);
+        orderDTO.setProductName(product.getName());
+        orderDTO.setProductDescription(product.getDescription());
+        orderDTO.setProductPrice(product.getPrice());
         orderDTO.setQuantity(quantity);
         orderDTO.setStatus(OrderStatus.PENDING.name());
-        orderDTO.setTotalAmount(productDTO.getPrice() * quantity);
+        orderDTO.setTotalAmount(product.getPrice().times(quantity));
         orderMapper.insert(orderDTO);
+        orderDTO.setVersion(0L);
+        if (stockLedger.isEnabled()) {
+            stockLedger.confirm(orderDTO.getId(), productId, quantity);
+        }
+        userOrdersCache.evictUser(userId);
 
         // 결과 반환
-        return mapToOrder(orderDTO);
+        return domainMapper.toOrder(orderDTO, OrderMappingContext.NONE);
     }
 
     @Override
+    @RetryOnConflict
     @Transactional
-    public Order cancelOrder(Long id) {
-        OrderDTO dto = orderMapper.findById(id);
-        if (dto == null) {
-            throw new ResourceNotFoundException("Order not found with id " + id);
+    public List<Order> createOrders(List<OrderLine> lines) {
+        validateOrderLines(lines);
+
+        // 사용자와 상품을 테이블별 IN 조회 한 번으로 로드 (ID가 많으면 IN 절 크기만큼 나누어 조회)
+        // 상품 DTO는 이름과 가격만 사용하며, 재고는 아래 조건부 UPDATE가 판단
+        Map<Long, UserDTO> users = IdChunks.mapById(collectIds(lines, OrderLine::getUserId), userMapper::findByIds, UserDTO::getId);
+        Map<Long, ProductDTO> products = IdChunks.mapById(collectIds(lines, OrderLine::getProductId), productMapper::findByIds, ProductDTO::getId);
+        for (OrderLine line : lines) {
+            if (!users.containsKey(line.getUserId())) {
+                throw new ResourceNotFoundException("User not found with id " + line.getUserId());
+            }
+            if (!products.containsKey(line.getProductId())) {
+                throw new ResourceNotFoundException("Product not found with id " + line.getProductId());
+            }
+        }
+
+        // 상품별 수량 합계 (상품 ID 순서로 갱신하여 동시 일괄 주문 간 교착 상태를 방지)
+        Map<Long, Integer> quantityByProduct = new TreeMap<>();
+        lines.forEach(line -> quantityByProduct.merge(line.getProductId(), line.getQuantity(), Integer::sum));
+
+        // BATCH 세션은 Spring 트랜잭션의 커넥션을 함께 사용하므로, 예외 발생 시 전체가 롤백됨
+        List<OrderDTO> orderDTOs = new ArrayList<>(lines.size());
+        try (SqlSession batchSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            if (stockLedger.isEnabled()) {
+                quantityByProduct.forEach(stockLedger::reserve);
+            } else {
+                decreaseStockInBatch(batchSession, quantityByProduct);
+            }
+
+            OrderMapper batchOrderMapper = batchSession.getMapper(OrderMapper.class);
+            LocalDateTime now = LocalDateTime.now();
+            for (OrderLine line : lines) {
+                UserDTO userDTO = users.get(line.getUserId());
+                ProductDTO productDTO = products.get(line.getProductId());
+
+                OrderDTO orderDTO = new OrderDTO();
+                orderDTO.setOrderDate(now);
+                orderDTO.setUserId(userDTO.getId());
+                orderDTO.setUsername(userDTO.getUsername());
+                orderDTO.setUserEmail(userDTO.getEmail());
+                orderDTO.setProductId(productDTO.getId());
+                orderDTO.setProductName(productDTO.getName());
+                orderDTO.setProductDescription(productDTO.getDescription());
+                orderDTO.setProductPrice(productDTO.getPrice());
+                orderDTO.setQuantity(line.getQuantity());
+                orderDTO.setStatus(OrderStatus.PENDING.name());
+                orderDTO.setTotalAmount(productDTO.getPrice().times(line.getQuantity()));
+                orderDTO.setVersion(0L);
+                batchOrderMapper.insert(orderDTO);
+                orderDTOs.add(orderDTO);
+            }
+            // flush 시점에 생성된 ID가 각 DTO에 채워짐
+            batchSession.flushStatements();
+        }
+        if (stockLedger.isEnabled()) {
+            orderDTOs.forEach(dto -> stockLedger.confirm(dto.getId(), dto.getProductId(), dto.getQuantity()));
         }
+        users.keySet().forEach(userOrdersCache::evictUser);
+
+        return domainMapper.toOrders(orderDTOs, new OrderMappingContext());
+    }
 
-        OrderStatus currentStatus = OrderStatus.valueOf(dto.getStatus());
+    @Override
+    @RetryOnConflict
+    @Transactional
+    public Order cancelOrder(Long id) {
+        OrderDTO dto = orderMapper.findById(id);
+        // 보관된 주문은 완료·취소 상태이므로 대기 중인 주문이 아님
+        OrderStatus currentStatus = dto == null ? findArchivedOrder(id).getStatus() : OrderStatus.valueOf(dto.getStatus());
         if (currentStatus != OrderStatus.PENDING) {
             throw new IllegalArgumentException("Only pending orders can be canceled.");
         }
 
         // 상태 업데이트
         dto.setStatus(OrderStatus.CANCELED.name());
-        orderMapper.update(dto);
+        updateWithVersionCheck(dto);
 
         // 재고 복구
-        ProductDTO productDTO = productMapper.findById(dto.getProductId());
-        productDTO.setStock(productDTO.getStock() + dto.getQuantity());
-        productMapper.update(productDTO);
+        if (stockLedger.isEnabled()) {
+            stockLedger.release(dto.getId(), dto.getProductId(), dto.getQuantity());
+        } else {
+            productMapper.increaseStock(dto.getProductId(), dto.getQuantity());
+            productCache.evict(dto.getProductId());
+        }
+        userOrdersCache.evictUser(dto.getUserId());
 
-        return mapToOrder(dto);
+        return domainMapper.toOrder(dto, OrderMappingContext.NONE);
     }
 
     @Override
+    @RetryOnConflict
     @Transactional
     public Order updateOrderQuantity(Long id, Integer newQuantity) {
         OrderDTO dto = orderMapper.findById(id);
-        if (dto == null) {
-            throw new ResourceNotFoundException("Order not found with id " + id);
-        }
-
-        OrderStatus currentStatus = OrderStatus.valueOf(dto.getStatus());
+        // 보관된 주문은 완료·취소 상태이므로 대기 중인 주문이 아님
+        OrderStatus currentStatus = dto == null ? findArchivedOrder(id).getStatus() : OrderStatus.valueOf(dto.getStatus());
         if (currentStatus != OrderStatus.PENDING) {
             throw new IllegalArgumentException("Only pending orders can be updated.");
         }
 
-        ProductDTO productDTO = productMapper.findById(dto.getProductId());
+        Product product = productService.getProductById(dto.getProductId());
         int difference = newQuantity - dto.getQuantity();
 
-        if (difference > 0 && productDTO.getStock() < difference) {
-            throw new IllegalArgumentException("Insufficient stock to increase quantity.");
-        }
-
         // 재고 업데이트
-        productDTO.setStock(productDTO.getStock() - difference);
-        productMapper.update(productDTO);
+        if (stockLedger.isEnabled()) {
+            adjustReservation(dto.getId(), dto.getProductId(), difference);
+        } else {
+            if (difference > 0 && productMapper.decreaseStock(dto.getProductId(), difference) == 0) {
+                throw new IllegalArgumentException("Insufficient stock to increase quantity.");
+            }
+            if (difference < 0) {
+                productMapper.increaseStock(dto.getProductId(), -difference);
+            }
+            if (difference != 0) {
+                productCache.evict(dto.getProductId());
+            }
+        }
 
         // 주문 업데이트
         dto.setQuantity(newQuantity);
-        dto.setTotalAmount(productDTO.getPrice() * newQuantity);
-        orderMapper.update(dto);
+        dto.setTotalAmount(product.getPrice().times(newQuantity));
+        updateWithVersionCheck(dto);
+        userOrdersCache.evictUser(dto.getUserId());
 
-        return mapToOrder(dto);
+        return domainMapper.toOrder(dto, OrderMappingContext.NONE);
     }
 
     @Override
     public List<Order> getOrdersByUserId(Long userId) {
-        UserDTO userDTO = userMapper.findById(userId);
-        if (userDTO == null) {
+        if (!userOrdersCache.userExists(userId, id -> userMapper.findById(id) != null)) {
             throw new ResourceNotFoundException("User not found with id " + userId);
         }
 
-        return orderMapper.findByUserId(userId).stream()
-                .map(dto -> mapToOrder(dto))
-                .collect(Collectors.toList());
+        return userOrdersCache.get(userId, id -> orderArchive.mergeByUserId(id, new OrderMappingContext().share(orderMapper.findByUserId(id))));
+    }
+
+    @Override
+    public VersionStamp getOrdersVersionStampByUserId(Long userId) {
+        return orderArchive.mergeVersionStamp(userId, orderMapper.findVersionStampByUserId(userId));
     }
 
     @Override
     public List<Order> getOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        return orderMapper.findByOrderDateBetween(startDate, endDate).stream()
-                .map(dto -> mapToOrder(dto))
-                .collect(Collectors.toList());
+        return orderArchive.mergeByOrderDate(startDate, endDate,
+                new OrderMappingContext().share(orderMapper.findByOrderDateBetween(startDate, endDate)));
     }
 
     @Override
-    public Double calculateTotalAmount(Long id) {
+    public Money calculateTotalAmount(Long id) {
         OrderDTO dto = orderMapper.findById(id);
         if (dto == null) {
-            throw new ResourceNotFoundException("Order not found with id " + id);
+            return findArchivedOrder(id).getTotalAmount();
         }
         return dto.getTotalAmount();
     }
 
-    // DTO를 Order 엔티티로 변환하는 메서드
-    private Order mapToOrder(OrderDTO dto) {
-        Order order = new Order();
-        order.setId(dto.getId());
-        order.setOrderDate(dto.getOrderDate());
+    @Override
+    @Transactional(readOnly = true)
+    public OrderStats getOrderStats(LocalDateTime startDate, LocalDateTime endDate) {
+        validateDateRange(startDate, endDate);
+        return orderArchive.mergeStats(startDate, endDate, new OrderStats(
+                orderMapper.aggregate("status", startDate, endDate),
+                orderMapper.aggregate("product", startDate, endDate),
+                orderMapper.aggregate("user", startDate, endDate),
+                orderMapper.aggregate("day", startDate, endDate)));
+    }
+
+    @Override
+    public UserOrdersCacheStats getCacheStats() {
+        return userOrdersCache.stats();
+    }
+
+    // 운영 테이블에 없으면 보관 테이블에서 조회
+    private Order findArchivedOrder(Long id) {
+        return orderArchive.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Order not found with id " + id));
+    }
 
-        // User 설정
-        User user = new User();
-        user.setId(dto.getUserId());
-        user.setUsername(dto.getUsername());
-        user.setEmail(dto.getUserEmail());
-        order.setUser(user);
+    private void validateDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must not be after end date.");
+        }
+    }
 
-        // Product 설정
-        Product product = new Product();
-        product.setId(dto.getProductId());
-        product.setName(dto.getProductName());
-        product.setDescription(dto.getProductDescription());
-        product.setPrice(dto.getProductPrice());
-        product.setStock(dto.getProductStock());
-        order.setProduct(product);
+    // 원장 모드의 수량 변경: 늘어난 만큼 예약하고, 줄어든 만큼 반환
+    private void adjustReservation(Long orderId, Long productId, int difference) {
+        if (difference > 0) {
+            try {
+                stockLedger.reserve(productId, difference);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Insufficient stock to increase quantity.");
+            }
+            stockLedger.confirm(orderId, productId, difference);
+        } else if (difference < 0) {
+            stockLedger.release(orderId, productId, -difference);
+        }
+    }
 
-        order.setQuantity(dto.getQuantity());
-        order.setStatus(OrderStatus.valueOf(dto.getStatus()));
-        order.setTotalAmount(dto.getTotalAmount());
+    private void decreaseStockInBatch(SqlSession batchSession, Map<Long, Integer> quantityByProduct) {
+        ProductMapper batchProductMapper = batchSession.getMapper(ProductMapper.class);
+        quantityByProduct.forEach(batchProductMapper::decreaseStock);
+
+        Iterator<Long> productIds = quantityByProduct.keySet().iterator();
+        for (BatchResult result : batchSession.flushStatements()) {
+            for (int updateCount : result.getUpdateCounts()) {
+                Long productId = productIds.next();
+                if (updateCount == 0) {
+                    throw new IllegalArgumentException("Insufficient stock for product id " + productId);
+                }
+                productCache.evict(productId);
+            }
+        }
+    }
 
-        return order;
+    private void validateOrderLines(List<OrderLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new IllegalArgumentException("Order lines are required.");
+        }
+        if (lines.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Too many order lines. Maximum is " + MAX_BATCH_SIZE + ".");
+        }
+        for (OrderLine line : lines) {
+            if (line.getQuantity() == null || line.getQuantity() <= 0) {
+                throw new IllegalArgumentException("Order quantity must be positive.");
+            }
+        }
+    }
+
+    private Set<Long> collectIds(List<OrderLine> lines, Function<OrderLine, Long> idExtractor) {
+        return lines.stream().map(idExtractor).collect(Collectors.toSet());
+    }
+
+    // 읽은 시점의 version이 그대로일 때만 갱신하고, 다른 트랜잭션이 먼저 수정했다면 재시도 대상 예외를 던짐
+    private void updateWithVersionCheck(OrderDTO dto) {
+        if (orderMapper.update(dto) == 0) {
+            throw new OptimisticLockingFailureException("Order was modified concurrently: id " + dto.getId());
+        }
+        dto.setVersion(dto.getVersion() + 1);
     }
-}
\ No newline at end of file
+}
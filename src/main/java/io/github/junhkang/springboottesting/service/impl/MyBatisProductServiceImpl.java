@@ -2,68 +2,116 @@ package io.github.junhkang.springboottesting.service.impl;
 
 
 import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductCacheStats;
 import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
 import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.mapping.DomainMapper;
 import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import io.github.junhkang.springboottesting.service.ProductCache;
 import io.github.junhkang.springboottesting.service.ProductService;
+import io.github.junhkang.springboottesting.service.ProductValidator;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @Profile("mybatis")
 public class MyBatisProductServiceImpl implements ProductService {
 
     private final ProductMapper productMapper;
+    private final ProductCache productCache;
+    private final DomainMapper domainMapper;
+    private final SqlSessionFactory sqlSessionFactory;
 
-    public MyBatisProductServiceImpl(ProductMapper productMapper) {
+    public MyBatisProductServiceImpl(ProductMapper productMapper, ProductCache productCache, DomainMapper domainMapper,
+                                     SqlSessionFactory sqlSessionFactory) {
         this.productMapper = productMapper;
+        this.productCache = productCache;
+        this.domainMapper = domainMapper;
+        this.sqlSessionFactory = sqlSessionFactory;
     }
 
     @Override
     public List<Product> getAllProducts() {
-        return productMapper.findAll().stream()
-                .map(dto -> {
-                    Product product = new Product();
-                    product.setId(dto.getId());
-                    product.setName(dto.getName());
-                    product.setDescription(dto.getDescription());
-                    product.setPrice(dto.getPrice());
-                    product.setStock(dto.getStock());
-                    return product;
-                })
-                .collect(Collectors.toList());
+        return domainMapper.toProducts(productMapper.findAll());
     }
 
     @Override
     public Product getProductById(Long id) {
-        ProductDTO dto = productMapper.findById(id);
-        if (dto == null) {
-            throw new ResourceNotFoundException("Product not found with id " + id);
+        return productCache.get(id, this::loadProduct);
+    }
+
+    @Override
+    public List<Product> getProductsByIds(Collection<Long> ids) {
+        List<ProductDTO> found = new ArrayList<>();
+        for (List<Long> chunk : IdChunks.partition(ids)) {
+            found.addAll(productMapper.findByIds(chunk));
         }
-        Product product = new Product();
-        product.setId(dto.getId());
-        product.setName(dto.getName());
-        product.setDescription(dto.getDescription());
-        product.setPrice(dto.getPrice());
-        product.setStock(dto.getStock());
-        return product;
+        return IdChunks.inRequestOrder(ids, domainMapper.toProducts(found), Product::getId);
     }
 
     @Override
     public Product createProduct(Product product) {
-        if (product.getName() == null || product.getName().trim().isEmpty()) {
-            throw new IllegalArgumentException("Product name is required.");}
-        ProductDTO dto = new ProductDTO();
-        dto.setName(product.getName());
-        dto.setDescription(product.getDescription());
-        dto.setPrice(product.getPrice());
-        dto.setStock(product.getStock());
+        ProductValidator.validate(product);
+        ProductDTO dto = domainMapper.toProductDTO(product);
         productMapper.insert(dto);
         product.setId(dto.getId());
+        product.setVersion(0L);
         return product;
     }
 
+    /**
+     * 검증을 마친 상품들을 BATCH 세션으로 한 번에 등록 (하나라도 실패하면 전체 롤백)
+     */
+    @Override
+    @Transactional
+    public List<Product> createProducts(List<Product> products) {
+        List<ProductDTO> dtos = new ArrayList<>(products.size());
+        try (SqlSession batchSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            ProductMapper batchProductMapper = batchSession.getMapper(ProductMapper.class);
+            for (Product product : products) {
+                ProductDTO dto = domainMapper.toProductDTO(product);
+                batchProductMapper.insert(dto);
+                dtos.add(dto);
+            }
+            // flush 시점에 생성된 ID가 각 DTO에 채워짐
+            batchSession.flushStatements();
+        }
+        for (int i = 0; i < products.size(); i++) {
+            products.get(i).setId(dtos.get(i).getId());
+            products.get(i).setVersion(0L);
+        }
+        return products;
+    }
+
+    @Override
+    public Long getProductVersion(Long id) {
+        return productMapper.findVersionById(id);
+    }
+
+    @Override
+    public VersionStamp getCatalogVersionStamp() {
+        return productMapper.findCatalogVersionStamp();
+    }
+
+    @Override
+    public ProductCacheStats getCacheStats() {
+        return productCache.stats();
+    }
+
+    private Product loadProduct(Long id) {
+        ProductDTO dto = productMapper.findById(id);
+        if (dto == null) {
+            throw new ResourceNotFoundException("Product not found with id " + id);
+        }
+        return domainMapper.toProduct(dto);
+    }
 }
\ No newline at end of file
@@ -3,34 +3,30 @@ package io.github.junhkang.springboottesting.service.impl;
 import io.github.junhkang.springboottesting.domain.User;
 import io.github.junhkang.springboottesting.domain.UserDTO;
 import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.mapping.DomainMapper;
 import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
 import io.github.junhkang.springboottesting.service.UserService;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @Profile("mybatis")
 public class MyBatisUserServiceImpl implements UserService {
     private final UserMapper userMapper;
+    private final DomainMapper domainMapper;
 
-    public MyBatisUserServiceImpl(UserMapper userMapper) {
+    public MyBatisUserServiceImpl(UserMapper userMapper, DomainMapper domainMapper) {
         this.userMapper = userMapper;
+        this.domainMapper = domainMapper;
     }
 
     @Override
     public List<User> getAllUsers() {
-        return userMapper.findAll().stream()
-                .map(dto -> {
-                    User user = new User();
-                    user.setId(dto.getId());
-                    user.setUsername(dto.getUsername());
-                    user.setEmail(dto.getEmail());
-                    return user;
-                })
-                .collect(Collectors.toList());
+        return domainMapper.toUsers(userMapper.findAll());
     }
 
     @Override
@@ -39,11 +35,16 @@ public class MyBatisUserServiceImpl implements UserService {
         if (dto == null) {
             throw new ResourceNotFoundException("User not found with id " + id);
         }
-        User user = new User();
-        user.setId(dto.getId());
-        user.setUsername(dto.getUsername());
-        user.setEmail(dto.getEmail());
-        return user;
+        return domainMapper.toUser(dto);
+    }
+
+    @Override
+    public List<User> getUsersByIds(Collection<Long> ids) {
+        List<UserDTO> found = new ArrayList<>();
+        for (List<Long> chunk : IdChunks.partition(ids)) {
+            found.addAll(userMapper.findByIds(chunk));
+        }
+        return IdChunks.inRequestOrder(ids, domainMapper.toUsers(found), User::getId);
     }
 
     @Override
@@ -55,9 +56,7 @@ public class MyBatisUserServiceImpl implements UserService {
             throw new IllegalArgumentException("User email is required.");
         }
 
-        UserDTO dto = new UserDTO();
-        dto.setUsername(user.getUsername());
-        dto.setEmail(user.getEmail());
+        UserDTO dto = domainMapper.toUserDTO(user);
 
         userMapper.insert(dto);
         user.setId(dto.getId());
@@ -0,0 +1,420 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.*;
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.service.OrderService;
+import io.github.junhkang.springboottesting.service.ReactiveOrderService;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * r2dbc 프로파일의 주문 서비스
+ *
+ * 조회는 MyBatis의 orderGraphSelect와 같은 조인 쿼리를 사용하고, 쓰기는 {@link TransactionalOperator}로 한 트랜잭션에서 실행합니다.
+ * 재고는 MyBatis 프로파일과 같은 조건부 UPDATE로 확인과 차감을 한 번에 처리하고,
+ * 주문 갱신은 version 조건으로 충돌을 감지하여 order.retry.* 설정만큼 새 트랜잭션에서 다시 시도합니다.
+ * 기간 집계와 조건부 GET용 버전 집계는 MyBatis 매퍼의 aggregate, findVersionStampByUserId와 같은 쿼리를 사용합니다.
+ */
+@Service
+@Profile("r2dbc")
+public class R2dbcOrderServiceImpl implements ReactiveOrderService {
+
+    private static final String ORDER_GRAPH_SELECT = """
+            SELECT o.id, o.order_date, o.quantity, o.status, o.total_amount, o.version,
+                   o.user_id, u.username, u.email AS user_email,
+                   o.product_id, p.name AS product_name, p.description AS product_description,
+                   p.price AS product_price, p.stock AS product_stock, p.version AS product_version
+            FROM orders o
+                     JOIN users u ON o.user_id = u.id
+                     JOIN product p ON o.product_id = p.id
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final Retry conflictRetry;
+
+    public R2dbcOrderServiceImpl(DatabaseClient databaseClient, TransactionalOperator transactionalOperator,
+                                 @Value("${order.retry.max-attempts:3}") int maxAttempts,
+                                 @Value("${order.retry.backoff-delay:50}") long backoffDelay) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        // @RetryOnConflict와 같은 기준: 최초 시도를 포함해 maxAttempts번, 낙관적 락 충돌만 재시도
+        this.conflictRetry = Retry.backoff(Math.max(maxAttempts - 1, 0), Duration.ofMillis(backoffDelay))
+                .filter(OptimisticLockingFailureException.class::isInstance)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    @Override
+    public Flux<Order> getAllOrders() {
+        return databaseClient.sql(ORDER_GRAPH_SELECT)
+                .map(R2dbcOrderServiceImpl::toOrder)
+                .all();
+    }
+
+    @Override
+    public Mono<OrderPage> getOrders(Long cursor, int size) {
+        if (size < 1 || size > OrderService.MAX_PAGE_SIZE) {
+            return Mono.error(new IllegalArgumentException("Page size must be between 1 and " + OrderService.MAX_PAGE_SIZE + "."));
+        }
+
+        // 다음 페이지 존재 여부를 판단하기 위해 한 건을 더 조회
+        return databaseClient.sql(ORDER_GRAPH_SELECT + " WHERE o.id > :cursor ORDER BY o.id LIMIT :limit")
+                .bind("cursor", cursor == null ? 0L : cursor)
+                .bind("limit", size + 1)
+                .map(R2dbcOrderServiceImpl::toOrder)
+                .all()
+                .collectList()
+                .map(rows -> {
+                    List<Order> content = rows.subList(0, Math.min(rows.size(), size));
+                    Long nextCursor = rows.size() > size ? content.get(content.size() - 1).getId() : null;
+                    return new OrderPage(new ArrayList<>(content), nextCursor);
+                });
+    }
+
+    @Override
+    public Flux<Order> exportOrders() {
+        // 구독자의 요청량만큼 행을 받아 오므로, 결과 전체를 메모리에 올리지 않음
+        return databaseClient.sql(ORDER_GRAPH_SELECT + " ORDER BY o.id")
+                .map(R2dbcOrderServiceImpl::toOrder)
+                .all();
+    }
+
+    @Override
+    public Mono<Order> getOrderById(Long id) {
+        return findOrder(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Order not found with id " + id)));
+    }
+
+    @Override
+    public Mono<Order> createOrder(Long userId, Long productId, Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            return Mono.error(new IllegalArgumentException("Order quantity must be positive."));
+        }
+
+        Mono<Order> flow = userExists(userId)
+                .then(findProductPrice(productId))
+                .flatMap(price -> decreaseStock(productId, quantity, "Insufficient stock for product id " + productId)
+                        .then(insertOrder(userId, productId, quantity, price.times(quantity), LocalDateTime.now())))
+                .flatMap(this::getOrderById);
+        return flow.as(transactionalOperator::transactional)
+                .retryWhen(conflictRetry);
+    }
+
+    @Override
+    public Flux<Order> createOrders(List<OrderLine> lines) {
+        try {
+            validateOrderLines(lines);
+        } catch (IllegalArgumentException e) {
+            return Flux.error(e);
+        }
+
+        Set<Long> userIds = collectIds(lines, OrderLine::getUserId);
+        Set<Long> productIds = collectIds(lines, OrderLine::getProductId);
+
+        // 상품별 수량 합계 (상품 ID 순서로 갱신하여 동시 일괄 주문 간 교착 상태를 방지)
+        Map<Long, Integer> quantityByProduct = new TreeMap<>();
+        lines.forEach(line -> quantityByProduct.merge(line.getProductId(), line.getQuantity(), Integer::sum));
+
+        // 사용자와 상품을 테이블별 IN 조회 한 번으로 확인하고, 상품 가격으로 주문 금액 계산
+        Mono<Map<Long, Money>> prices = existingUserIds(userIds)
+                .zipWith(productPrices(productIds))
+                .flatMap(loaded -> {
+                    for (OrderLine line : lines) {
+                        if (!loaded.getT1().contains(line.getUserId())) {
+                            return Mono.error(new ResourceNotFoundException("User not found with id " + line.getUserId()));
+                        }
+                        if (!loaded.getT2().containsKey(line.getProductId())) {
+                            return Mono.error(new ResourceNotFoundException("Product not found with id " + line.getProductId()));
+                        }
+                    }
+                    return Mono.just(loaded.getT2());
+                });
+
+        LocalDateTime now = LocalDateTime.now();
+        Flux<Order> flow = prices.flatMapMany(priceById -> Flux.fromIterable(quantityByProduct.entrySet())
+                .concatMap(entry -> decreaseStock(entry.getKey(), entry.getValue(),
+                        "Insufficient stock for product id " + entry.getKey()))
+                .thenMany(Flux.fromIterable(lines))
+                .concatMap(line -> insertOrder(line.getUserId(), line.getProductId(), line.getQuantity(),
+                        priceById.get(line.getProductId()).times(line.getQuantity()), now))
+                .collectList()
+                .flatMapMany(this::findOrders));
+        return flow.as(transactionalOperator::transactional)
+                .retryWhen(conflictRetry);
+    }
+
+    @Override
+    public Mono<Order> cancelOrder(Long id) {
+        Mono<Order> flow = getOrderById(id)
+                .flatMap(order -> {
+                    if (order.getStatus() != OrderStatus.PENDING) {
+                        return Mono.error(new IllegalArgumentException("Only pending orders can be canceled."));
+                    }
+                    return updateWithVersionCheck(order, OrderStatus.CANCELED, order.getQuantity(), order.getTotalAmount())
+                            .then(increaseStock(order.getProduct().getId(), order.getQuantity()))
+                            .then(getOrderById(id));
+                });
+        return flow.as(transactionalOperator::transactional)
+                .retryWhen(conflictRetry);
+    }
+
+    @Override
+    public Mono<Order> updateOrderQuantity(Long id, Integer newQuantity) {
+        if (newQuantity == null || newQuantity <= 0) {
+            return Mono.error(new IllegalArgumentException("Order quantity must be positive."));
+        }
+
+        Mono<Order> flow = getOrderById(id)
+                .flatMap(order -> {
+                    if (order.getStatus() != OrderStatus.PENDING) {
+                        return Mono.error(new IllegalArgumentException("Only pending orders can be updated."));
+                    }
+                    Long productId = order.getProduct().getId();
+                    int difference = newQuantity - order.getQuantity();
+
+                    // 재고 업데이트
+                    Mono<Void> stock = Mono.empty();
+                    if (difference > 0) {
+                        stock = decreaseStock(productId, difference, "Insufficient stock to increase quantity.");
+                    } else if (difference < 0) {
+                        stock = increaseStock(productId, -difference);
+                    }
+
+                    // 주문 업데이트
+                    Money totalAmount = order.getProduct().getPrice().times(newQuantity);
+                    return stock.then(updateWithVersionCheck(order, order.getStatus(), newQuantity, totalAmount))
+                            .then(getOrderById(id));
+                });
+        return flow.as(transactionalOperator::transactional)
+                .retryWhen(conflictRetry);
+    }
+
+    @Override
+    public Flux<Order> getOrdersByUserId(Long userId) {
+        return userExists(userId)
+                .thenMany(databaseClient.sql(ORDER_GRAPH_SELECT + " WHERE o.user_id = :userId ORDER BY o.order_date")
+                        .bind("userId", userId)
+                        .map(R2dbcOrderServiceImpl::toOrder)
+                        .all());
+    }
+
+    @Override
+    public Mono<VersionStamp> getOrdersVersionStampByUserId(Long userId) {
+        // 주문 그래프를 가져오지 않고, 주문과 주문이 참조하는 상품의 버전만 집계
+        return databaseClient.sql("SELECT COUNT(*) AS row_count, COALESCE(SUM(o.id), 0) AS id_sum, "
+                        + "COALESCE(SUM(o.version), 0) + COALESCE(SUM(p.version), 0) AS version_sum "
+                        + "FROM orders o JOIN product p ON p.id = o.product_id WHERE o.user_id = :userId")
+                .bind("userId", userId)
+                .map(row -> new VersionStamp(longValue(row, "row_count"), longValue(row, "id_sum"), longValue(row, "version_sum")))
+                .one();
+    }
+
+    @Override
+    public Flux<Order> getOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        return databaseClient.sql(ORDER_GRAPH_SELECT + " WHERE o.order_date BETWEEN :startDate AND :endDate ORDER BY o.order_date")
+                .bind("startDate", startDate)
+                .bind("endDate", endDate)
+                .map(R2dbcOrderServiceImpl::toOrder)
+                .all();
+    }
+
+    @Override
+    public Mono<Money> calculateTotalAmount(Long id) {
+        return getOrderById(id).map(Order::getTotalAmount);
+    }
+
+    @Override
+    public Mono<OrderStats> getOrderStats(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            return Mono.error(new IllegalArgumentException("Start date must not be after end date."));
+        }
+        return Mono.zip(aggregate("o.status", startDate, endDate),
+                        aggregate("o.product_id", startDate, endDate),
+                        aggregate("o.user_id", startDate, endDate),
+                        aggregate("CAST(o.order_date AS DATE)", startDate, endDate))
+                .map(stats -> new OrderStats(stats.getT1(), stats.getT2(), stats.getT3(), stats.getT4()));
+    }
+
+    private Mono<Order> findOrder(Long id) {
+        return databaseClient.sql(ORDER_GRAPH_SELECT + " WHERE o.id = :id")
+                .bind("id", id)
+                .map(R2dbcOrderServiceImpl::toOrder)
+                .one();
+    }
+
+    private Flux<Order> findOrders(List<Long> ids) {
+        return Flux.fromIterable(IdChunks.partition(ids))
+                .concatMap(chunk -> databaseClient.sql(ORDER_GRAPH_SELECT + " WHERE o.id IN (:ids) ORDER BY o.id")
+                        .bind("ids", chunk)
+                        .map(R2dbcOrderServiceImpl::toOrder)
+                        .all());
+    }
+
+    // 주문 행을 가져오지 않고 데이터베이스에서 GROUP BY로 집계 (groupColumn은 getOrderStats의 고정 값만 사용)
+    private Mono<List<OrderStatsRow>> aggregate(String groupColumn, LocalDateTime startDate, LocalDateTime endDate) {
+        // 기준 값을 파생 컬럼으로 두어 식 대신 컬럼으로 묶고, 문자열 변환 전 타입 순서로 정렬
+        return databaseClient.sql("SELECT CAST(g.group_value AS VARCHAR) AS group_key, COUNT(*) AS order_count, "
+                        + "SUM(g.quantity) AS total_quantity, SUM(g.total_amount) AS total_revenue "
+                        + "FROM (SELECT " + groupColumn + " AS group_value, o.quantity, o.total_amount FROM orders o "
+                        + "WHERE o.order_date BETWEEN :startDate AND :endDate) g "
+                        + "GROUP BY g.group_value ORDER BY g.group_value")
+                .bind("startDate", startDate)
+                .bind("endDate", endDate)
+                .map(row -> new OrderStatsRow(row.get("group_key", String.class), longValue(row, "order_count"),
+                        longValue(row, "total_quantity"), Money.ofCents(longValue(row, "total_revenue"))))
+                .all()
+                .collectList();
+    }
+
+    private Mono<Void> userExists(Long userId) {
+        return databaseClient.sql("SELECT id FROM users WHERE id = :id")
+                .bind("id", userId)
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("User not found with id " + userId)))
+                .then();
+    }
+
+    private Mono<Set<Long>> existingUserIds(Collection<Long> userIds) {
+        return Flux.fromIterable(IdChunks.partition(userIds))
+                .concatMap(chunk -> databaseClient.sql("SELECT id FROM users WHERE id IN (:ids)")
+                        .bind("ids", chunk)
+                        .map(row -> row.get("id", Long.class))
+                        .all())
+                .collect(Collectors.toSet());
+    }
+
+    // 가격만 필요하므로 상품 가격만 조회 (재고는 조건부 UPDATE가 판단)
+    private Mono<Money> findProductPrice(Long productId) {
+        return databaseClient.sql("SELECT price FROM product WHERE id = :id")
+                .bind("id", productId)
+                .map(row -> Money.ofCents(row.get("price", Long.class)))
+                .one()
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Product not found with id " + productId)));
+    }
+
+    private Mono<Map<Long, Money>> productPrices(Collection<Long> productIds) {
+        return Flux.fromIterable(IdChunks.partition(productIds))
+                .concatMap(chunk -> databaseClient.sql("SELECT id, price FROM product WHERE id IN (:ids)")
+                        .bind("ids", chunk)
+                        .map(row -> Map.entry(row.get("id", Long.class), Money.ofCents(row.get("price", Long.class))))
+                        .all())
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    // 재고 확인과 차감을 조건부 UPDATE 한 번으로 처리하여 동시 주문 시 재고가 음수가 되지 않도록 함
+    private Mono<Void> decreaseStock(Long productId, int quantity, String insufficientMessage) {
+        return databaseClient.sql("UPDATE product SET stock = stock - :quantity, version = version + 1 "
+                        + "WHERE id = :id AND stock >= :quantity")
+                .bind("quantity", quantity)
+                .bind("id", productId)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated == 0
+                        ? Mono.error(new IllegalArgumentException(insufficientMessage))
+                        : Mono.empty());
+    }
+
+    private Mono<Void> increaseStock(Long productId, int quantity) {
+        return databaseClient.sql("UPDATE product SET stock = stock + :quantity, version = version + 1 WHERE id = :id")
+                .bind("quantity", quantity)
+                .bind("id", productId)
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    private Mono<Long> insertOrder(Long userId, Long productId, int quantity, Money totalAmount, LocalDateTime orderDate) {
+        // ID는 컬럼 기본값(orders_seq)으로 할당
+        return databaseClient.sql("INSERT INTO orders (order_date, user_id, product_id, quantity, status, total_amount, version) "
+                        + "VALUES (:orderDate, :userId, :productId, :quantity, :status, :totalAmount, 0)")
+                .bind("orderDate", orderDate)
+                .bind("userId", userId)
+                .bind("productId", productId)
+                .bind("quantity", quantity)
+                .bind("status", OrderStatus.PENDING.name())
+                .bind("totalAmount", totalAmount.getCents())
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one();
+    }
+
+    // 읽은 시점의 version이 그대로일 때만 갱신하고, 다른 트랜잭션이 먼저 수정했다면 재시도 대상 예외를 던짐
+    private Mono<Void> updateWithVersionCheck(Order order, OrderStatus status, int quantity, Money totalAmount) {
+        return databaseClient.sql("UPDATE orders SET status = :status, quantity = :quantity, total_amount = :totalAmount, "
+                        + "version = version + 1 WHERE id = :id AND version = :version")
+                .bind("status", status.name())
+                .bind("quantity", quantity)
+                .bind("totalAmount", totalAmount.getCents())
+                .bind("id", order.getId())
+                .bind("version", order.getVersion())
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated == 0
+                        ? Mono.error(new OptimisticLockingFailureException("Order was modified concurrently: id " + order.getId()))
+                        : Mono.empty());
+    }
+
+    private void validateOrderLines(List<OrderLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new IllegalArgumentException("Order lines are required.");
+        }
+        if (lines.size() > OrderService.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Too many order lines. Maximum is " + OrderService.MAX_BATCH_SIZE + ".");
+        }
+        for (OrderLine line : lines) {
+            if (line.getQuantity() == null || line.getQuantity() <= 0) {
+                throw new IllegalArgumentException("Order quantity must be positive.");
+            }
+        }
+    }
+
+    private Set<Long> collectIds(List<OrderLine> lines, Function<OrderLine, Long> idExtractor) {
+        return lines.stream().map(idExtractor).collect(Collectors.toSet());
+    }
+
+    // H2는 BIGINT 합계를 NUMERIC으로 반환하므로 숫자 타입과 관계없이 long으로 변환
+    private static Long longValue(Readable row, String name) {
+        return row.get(name, Number.class).longValue();
+    }
+
+    private static Order toOrder(Readable row) {
+        User user = new User();
+        user.setId(row.get("user_id", Long.class));
+        user.setUsername(row.get("username", String.class));
+        user.setEmail(row.get("user_email", String.class));
+
+        Product product = new Product();
+        product.setId(row.get("product_id", Long.class));
+        product.setName(row.get("product_name", String.class));
+        product.setDescription(row.get("product_description", String.class));
+        product.setPrice(Money.ofCents(row.get("product_price", Long.class)));
+        product.setStock(row.get("product_stock", Integer.class));
+        product.setVersion(row.get("product_version", Long.class));
+
+        Order order = new Order();
+        order.setId(row.get("id", Long.class));
+        order.setOrderDate(row.get("order_date", LocalDateTime.class));
+        order.setUser(user);
+        order.setProduct(product);
+        order.setQuantity(row.get("quantity", Integer.class));
+        order.setStatus(OrderStatus.valueOf(row.get("status", String.class)));
+        order.setTotalAmount(Money.ofCents(row.get("total_amount", Long.class)));
+        order.setVersion(row.get("version", Long.class));
+        return order;
+    }
+}
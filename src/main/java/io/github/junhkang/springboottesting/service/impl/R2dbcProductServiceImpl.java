@@ -0,0 +1,103 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Money;
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.service.ReactiveProductService;
+import io.github.junhkang.springboottesting.service.ProductValidator;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+@Service
+@Profile("r2dbc")
+public class R2dbcProductServiceImpl implements ReactiveProductService {
+
+    private static final String PRODUCT_SELECT = "SELECT id, name, description, price, stock, version FROM product";
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcProductServiceImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<Product> getAllProducts() {
+        return databaseClient.sql(PRODUCT_SELECT)
+                .map(R2dbcProductServiceImpl::toProduct)
+                .all();
+    }
+
+    @Override
+    public Mono<Product> getProductById(Long id) {
+        return databaseClient.sql(PRODUCT_SELECT + " WHERE id = :id")
+                .bind("id", id)
+                .map(R2dbcProductServiceImpl::toProduct)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Product not found with id " + id)));
+    }
+
+    @Override
+    public Flux<Product> getProductsByIds(Collection<Long> ids) {
+        return Flux.fromIterable(IdChunks.partition(ids))
+                .concatMap(chunk -> databaseClient.sql(PRODUCT_SELECT + " WHERE id IN (:ids)")
+                        .bind("ids", chunk)
+                        .map(R2dbcProductServiceImpl::toProduct)
+                        .all())
+                .collectList()
+                .flatMapIterable(found -> IdChunks.inRequestOrder(ids, found, Product::getId));
+    }
+
+    @Override
+    public Mono<Product> createProduct(Product product) {
+        String error = ProductValidator.findError(product);
+        if (error != null) {
+            return Mono.error(new IllegalArgumentException(error));
+        }
+        // ID는 컬럼 기본값(product_seq)으로 할당
+        DatabaseClient.GenericExecuteSpec insert = databaseClient.sql(
+                        "INSERT INTO product (name, description, price, stock, version) VALUES (:name, :description, :price, :stock, 0)")
+                .bind("name", product.getName())
+                .bind("price", product.getPrice().getCents())
+                .bind("stock", product.getStock());
+        insert = product.getDescription() == null
+                ? insert.bindNull("description", String.class)
+                : insert.bind("description", product.getDescription());
+        return insert.filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> {
+                    product.setId(id);
+                    product.setVersion(0L);
+                    return product;
+                });
+    }
+
+    @Override
+    public Mono<VersionStamp> getCatalogVersionStamp() {
+        // H2는 BIGINT 합계를 NUMERIC으로 반환하므로 숫자 타입과 관계없이 long으로 변환
+        return databaseClient.sql("SELECT COUNT(*) AS row_count, COALESCE(SUM(id), 0) AS id_sum, "
+                        + "COALESCE(SUM(version), 0) AS version_sum FROM product")
+                .map(row -> new VersionStamp(row.get("row_count", Number.class).longValue(),
+                        row.get("id_sum", Number.class).longValue(),
+                        row.get("version_sum", Number.class).longValue()))
+                .one();
+    }
+
+    private static Product toProduct(Readable row) {
+        Product product = new Product();
+        product.setId(row.get("id", Long.class));
+        product.setName(row.get("name", String.class));
+        product.setDescription(row.get("description", String.class));
+        product.setPrice(Money.ofCents(row.get("price", Long.class)));
+        product.setStock(row.get("stock", Integer.class));
+        product.setVersion(row.get("version", Long.class));
+        return product;
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.User;
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.service.ReactiveUserService;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.regex.Pattern;
+
+@Service
+@Profile("r2dbc")
+public class R2dbcUserServiceImpl implements ReactiveUserService {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(
+            "^[A-Za-z0-9+_.-]+@(.+)$"
+    );
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcUserServiceImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<User> getAllUsers() {
+        return databaseClient.sql("SELECT id, username, email FROM users")
+                .map(R2dbcUserServiceImpl::toUser)
+                .all();
+    }
+
+    @Override
+    public Mono<User> getUserById(Long id) {
+        return databaseClient.sql("SELECT id, username, email FROM users WHERE id = :id")
+                .bind("id", id)
+                .map(R2dbcUserServiceImpl::toUser)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("User not found with id " + id)));
+    }
+
+    @Override
+    public Flux<User> getUsersByIds(Collection<Long> ids) {
+        return Flux.fromIterable(IdChunks.partition(ids))
+                .concatMap(chunk -> databaseClient.sql("SELECT id, username, email FROM users WHERE id IN (:ids)")
+                        .bind("ids", chunk)
+                        .map(R2dbcUserServiceImpl::toUser)
+                        .all())
+                .collectList()
+                .flatMapIterable(found -> IdChunks.inRequestOrder(ids, found, User::getId));
+    }
+
+    @Override
+    public Mono<User> createUser(User user) {
+        if (user.getUsername() == null || user.getUsername().trim().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Username is required."));
+        }
+        if (user.getEmail() == null || user.getEmail().trim().isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Email is required."));
+        }
+        if (!EMAIL_PATTERN.matcher(user.getEmail()).matches()) {
+            return Mono.error(new IllegalArgumentException("Invalid email format."));
+        }
+        return databaseClient.sql("INSERT INTO users (username, email) VALUES (:username, :email)")
+                .bind("username", user.getUsername())
+                .bind("email", user.getEmail())
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> {
+                    user.setId(id);
+                    return user;
+                });
+    }
+
+    private static User toUser(Readable row) {
+        User user = new User();
+        user.setId(row.get("id", Long.class));
+        user.setUsername(row.get("username", String.class));
+        user.setEmail(row.get("email", String.class));
+        return user;
+    }
+}
@@ -4,18 +4,22 @@ INSERT INTO users (username, email) VALUES
                                         ('jane_smith', 'jane.smith@example.com'),
                                         ('alice_jones', 'alice.jones@example.com');
 
--- products 테이블에 초기 상품 데이터 삽입
-INSERT INTO product (name, description, price, stock) VALUES
-                                                          ('Laptop', 'High performance laptop', 1500.00, 10),
-                                                          ('Smartphone', 'Latest model smartphone', 800.00, 20),
-                                                          ('Headphones', 'Noise-cancelling headphones', 200.00, 15),
-                                                          ('Monitor', '4K Ultra HD monitor', 400.00, 8),
-                                                          ('Keyboard', 'Mechanical keyboard', 100.00, 25);
+-- products 테이블에 초기 상품 데이터 삽입 (금액은 센트 단위 정수)
+-- ID는 명시하고 시퀀스를 그 다음 값으로 다시 시작 (시퀀스 증가폭이 JPA 할당 크기인 50이므로, 기본값을 쓰면 1, 51, 101...이 됨)
+INSERT INTO product (id, name, description, price, stock, version) VALUES
+                                                          (1, 'Laptop', 'High performance laptop', 150000, 10, 0),
+                                                          (2, 'Smartphone', 'Latest model smartphone', 80000, 20, 0),
+                                                          (3, 'Headphones', 'Noise-cancelling headphones', 20000, 15, 0),
+                                                          (4, 'Monitor', '4K Ultra HD monitor', 40000, 8, 0),
+                                                          (5, 'Keyboard', 'Mechanical keyboard', 10000, 25, 0);
+ALTER SEQUENCE product_seq RESTART WITH 6;
 
--- orders 테이블에 초기 주문 데이터 삽입
-INSERT INTO orders (order_date, user_id, product_id, quantity, status, total_amount) VALUES
-                                                                                         ('2024-01-15 10:30:00', 1, 1, 2, 'PENDING', 3000.00),
-                                                                                         ('2024-02-20 14:45:00', 2, 3, 1, 'COMPLETED', 200.00),
-                                                                                         ('2024-03-05 09:15:00', 1, 2, 3, 'CANCELED', 2400.00),
-                                                                                         ('2024-04-10 16:00:00', 3, 4, 1, 'PENDING', 400.00),
-                                                                                         ('2024-05-25 11:20:00', 2, 5, 5, 'COMPLETED', 500.00);
+-- orders 테이블에 초기 주문 데이터 삽입 (금액은 센트 단위 정수)
+-- 상품과 같은 이유로 ID를 명시하고 시퀀스를 다시 시작
+INSERT INTO orders (id, order_date, user_id, product_id, quantity, status, total_amount, version) VALUES
+                                                                                         (1, '2024-01-15 10:30:00', 1, 1, 2, 'PENDING', 300000, 0),
+                                                                                         (2, '2024-02-20 14:45:00', 2, 3, 1, 'COMPLETED', 20000, 0),
+                                                                                         (3, '2024-03-05 09:15:00', 1, 2, 3, 'CANCELED', 240000, 0),
+                                                                                         (4, '2024-04-10 16:00:00', 3, 4, 1, 'PENDING', 40000, 0),
+                                                                                         (5, '2024-05-25 11:20:00', 2, 5, 5, 'COMPLETED', 50000, 0);
+ALTER SEQUENCE orders_seq RESTART WITH 6;
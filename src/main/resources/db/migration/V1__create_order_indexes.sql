@@ -0,0 +1,11 @@
+-- 주문 조회용 인덱스 (Order 엔티티의 @Table(indexes = ...)와 동일하게 유지)
+-- 로컬/테스트 H2 스키마는 Hibernate가 엔티티 정의로 생성하며, 이 스크립트는 운영 DB 마이그레이션에 사용
+
+-- 사용자별 주문 조회: WHERE user_id = ? ORDER BY order_date
+CREATE INDEX IF NOT EXISTS idx_orders_user_id_order_date ON orders (user_id, order_date);
+
+-- 날짜 범위 조회: WHERE order_date BETWEEN ? AND ?
+CREATE INDEX IF NOT EXISTS idx_orders_order_date ON orders (order_date);
+
+-- 상태별 조회
+CREATE INDEX IF NOT EXISTS idx_orders_status ON orders (status);
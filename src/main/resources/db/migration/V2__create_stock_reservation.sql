@@ -0,0 +1,14 @@
+-- 재고 예약 원장 (StockReservation 엔티티와 동일하게 유지, stock.ledger.enabled=true일 때 사용)
+-- 주문 흐름은 이 테이블에 재고 변화량만 추가하고, StockLedger의 정산 작업이 product.stock에 반영
+
+CREATE TABLE IF NOT EXISTS stock_reservation (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    order_id BIGINT,
+    delta INTEGER NOT NULL,
+    applied BOOLEAN NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+-- 정산 대상(미반영 행) 조회: WHERE applied = FALSE ORDER BY id
+CREATE INDEX IF NOT EXISTS idx_stock_reservation_applied ON stock_reservation (applied, id);
@@ -0,0 +1,20 @@
+-- 주문 보관 테이블 (ArchivedOrder 엔티티와 동일하게 유지, order.archive.enabled=true일 때 사용)
+-- OrderArchive의 보관 작업이 완료·취소된 지 오래된 주문을 orders에서 옮기며, ID와 버전은 그대로 유지
+
+CREATE TABLE IF NOT EXISTS orders_archive (
+    id BIGINT PRIMARY KEY,
+    order_date TIMESTAMP NOT NULL,
+    user_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    quantity INTEGER,
+    status VARCHAR(255),
+    total_amount BIGINT,
+    version BIGINT,
+    archived_at TIMESTAMP NOT NULL
+);
+
+-- 사용자별 주문 조회: WHERE user_id = ? ORDER BY order_date
+CREATE INDEX IF NOT EXISTS idx_orders_archive_user_id_order_date ON orders_archive (user_id, order_date);
+
+-- 날짜 범위 조회와 보관 범위(MAX(order_date)) 확인
+CREATE INDEX IF NOT EXISTS idx_orders_archive_order_date ON orders_archive (order_date);
@@ -0,0 +1,34 @@
+-- r2dbc 프로파일 스키마 (jpa/mybatis 프로파일에서 Hibernate가 엔티티 정의로 생성하는 스키마와 동일하게 유지)
+
+CREATE SEQUENCE IF NOT EXISTS product_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS orders_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS users (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255),
+    email    VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS product (
+    id          BIGINT DEFAULT NEXT VALUE FOR product_seq PRIMARY KEY,
+    name        VARCHAR(255),
+    description VARCHAR(255),
+    price       BIGINT,
+    stock       INTEGER,
+    version     BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS orders (
+    id           BIGINT DEFAULT NEXT VALUE FOR orders_seq PRIMARY KEY,
+    order_date   TIMESTAMP(6),
+    user_id      BIGINT REFERENCES users (id),
+    product_id   BIGINT REFERENCES product (id),
+    quantity     INTEGER,
+    status       VARCHAR(255) CHECK (status IN ('PENDING', 'COMPLETED', 'CANCELED')),
+    total_amount BIGINT,
+    version      BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS idx_orders_user_id_order_date ON orders (user_id, order_date);
+CREATE INDEX IF NOT EXISTS idx_orders_order_date ON orders (order_date);
+CREATE INDEX IF NOT EXISTS idx_orders_status ON orders (status);
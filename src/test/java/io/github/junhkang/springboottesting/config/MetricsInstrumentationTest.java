@@ -0,0 +1,79 @@
+package io.github.junhkang.springboottesting.config;
+
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import io.github.junhkang.springboottesting.service.OrderService;
+import io.github.junhkang.springboottesting.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 테스트 클래스: MetricsInstrumentationTest
+ *
+ * mybatis 프로파일에서 서비스 메서드 타이머(service.method)와 매핑 문장 타이머(mybatis.statement)가
+ * 서비스·메서드·프로파일·문장 ID 태그로 기록되는지 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("mybatis")
+@Transactional
+@DisplayName("MetricsInstrumentationTest")
+class MetricsInstrumentationTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Test
+    @DisplayName("서비스 메서드 실행 시간을 서비스, 메서드, 프로파일 태그로 기록")
+    void testRecordsServiceMethodTimer() {
+        // When: 사용자 조회
+        userService.getUserById(1L);
+
+        // Then: UserService.getUserById 타이머가 mybatis 프로파일로 기록됨
+        Timer timer = meterRegistry.find(ServiceMetricsAspect.METRIC_NAME)
+                .tags("service", "UserService", "method", "getUserById", "profile", "mybatis", "exception", "none")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예외로 끝난 서비스 호출은 exception 태그로 구분")
+    void testRecordsExceptionTag() {
+        // When: 존재하지 않는 사용자 조회
+        assertThrows(ResourceNotFoundException.class, () -> userService.getUserById(999L));
+
+        // Then: exception 태그에 예외 클래스 이름이 기록됨
+        assertThat(meterRegistry.find(ServiceMetricsAspect.METRIC_NAME)
+                .tags("method", "getUserById", "exception", "ResourceNotFoundException")
+                .timer()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("MyBatis 매핑 문장 실행 시간을 문장 ID 태그로 기록")
+    void testRecordsMappedStatementTimer() {
+        // When: 사용자별 주문 조회
+        orderService.getOrdersByUserId(1L);
+
+        // Then: OrderMapper.findByUserId 문장 타이머가 기록됨
+        Timer timer = meterRegistry.find(MyBatisMetricsInterceptor.METRIC_NAME)
+                .tags("statement", "io.github.junhkang.springboottesting.repository.mybatis.OrderMapper.findByUserId",
+                        "command", "SELECT")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isGreaterThanOrEqualTo(1);
+    }
+}
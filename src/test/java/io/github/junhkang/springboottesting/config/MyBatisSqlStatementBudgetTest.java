@@ -0,0 +1,21 @@
+package io.github.junhkang.springboottesting.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 테스트 클래스: MyBatisSqlStatementBudgetTest
+ *
+ * {@link SqlStatementBudgetTest}의 검증을 mybatis 프로파일에서 실행합니다.
+ * 같은 컨트롤러 메서드의 상한을 두 프로파일 모두 지키는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sqlbudget_mybatis;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "sql.budget.enforce=true",
+        "order.user-cache.enabled=false"
+})
+@ActiveProfiles(profiles = "mybatis", inheritProfiles = false)
+@DisplayName("MyBatisSqlStatementBudgetTest")
+class MyBatisSqlStatementBudgetTest extends SqlStatementBudgetTest {
+}
@@ -0,0 +1,159 @@
+package io.github.junhkang.springboottesting.config;
+
+import io.github.junhkang.springboottesting.exception.SqlBudgetExceededException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 테스트 클래스: SqlStatementBudgetTest
+ *
+ * jpa 프로파일에서 주문 API를 실제로 호출하여, 요청마다 실행된 JDBC 문장 수가
+ * {@link SqlStatementBudget}으로 선언한 상한 안에 있는지 검증합니다.
+ * sql.budget.enforce=true이므로 상한을 넘는 문장이 실행되면 요청이 바로 실패합니다.
+ *
+ * 상한은 캐시되지 않은 요청 기준이어야 하므로, 테스트 트랜잭션을 쓰지 않아 요청마다 영속성 컨텍스트(MyBatis는 SqlSession)가
+ * 새로 열리고, 사용자별 주문 목록 캐시는 끕니다. 요청이 커밋한 변경은 테스트가 끝나면 되돌립니다.
+ * mybatis 프로파일은 {@link MyBatisSqlStatementBudgetTest}가 같은 검증을 실행합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sqlbudget;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "sql.budget.enforce=true",
+        "order.user-cache.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("jpa")
+@DisplayName("SqlStatementBudgetTest")
+class SqlStatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long lastOrderId;
+    private List<Map<String, Object>> products;
+
+    @BeforeEach
+    void setUp() {
+        // Given: 테스트 전 마지막 주문 ID와 상품 재고·버전
+        lastOrderId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM orders", Long.class);
+        products = jdbcTemplate.queryForList("SELECT id, stock, version FROM product");
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 요청이 커밋한 주문과 재고 차감을 되돌림
+        jdbcTemplate.update("DELETE FROM orders WHERE id > ?", lastOrderId);
+        products.forEach(product -> jdbcTemplate.update("UPDATE product SET stock = ?, version = ? WHERE id = ?",
+                product.get("stock"), product.get("version"), product.get("id")));
+    }
+
+    @Test
+    @DisplayName("주문 조회 API는 상한 안의 문장 수로 처리")
+    void testReadEndpointsStayWithinBudget() throws Exception {
+        // When & Then: 조회 요청마다 문장 수가 상한 이하 (요청마다 새 영속성 컨텍스트이므로 앞선 요청의 조회 결과를 재사용하지 않음)
+        assertWithinBudget("OrderController.getOrders", 2, get("/orders").param("size", "20"));
+        assertWithinBudget("OrderController.getOrderById", 2, get("/orders/1"));
+        assertWithinBudget("OrderController.calculateTotalAmount", 2, get("/orders/1/totalAmount"));
+        assertWithinBudget("OrderController.getOrdersByUserId", 5, get("/orders/user/1"));
+        assertWithinBudget("OrderController.getOrdersByDateRange", 3, get("/orders/date")
+                .param("startDate", "2024-01-01T00:00:00")
+                .param("endDate", "2024-12-31T23:59:59"));
+    }
+
+    @Test
+    @DisplayName("일괄 주문은 주문 건수와 관계없이 상한 안의 문장 수로 처리")
+    void testBatchCreateStaysWithinBudget() throws Exception {
+        // Given: 사용자 3명, 상품 2개에 걸친 주문 4건
+        String body = "[{\"userId\":1,\"productId\":2,\"quantity\":1},"
+                + "{\"userId\":2,\"productId\":2,\"quantity\":1},"
+                + "{\"userId\":3,\"productId\":3,\"quantity\":1},"
+                + "{\"userId\":1,\"productId\":3,\"quantity\":2}]";
+
+        // When & Then: 문장 수가 상한 이하
+        assertWithinBudget("OrderController.createOrders", 10, post("/orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+
+    @Test
+    @DisplayName("주문 생성과 변경은 상한 안의 문장 수로 처리")
+    void testWriteEndpointsStayWithinBudget() throws Exception {
+        // When & Then: 주문 생성 후 수량 변경과 취소의 문장 수가 상한 이하
+        assertWithinBudget("OrderController.createOrder", 8, post("/orders")
+                .param("userId", "1")
+                .param("productId", "3")
+                .param("quantity", "1"));
+        Long orderId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM orders", Long.class);
+        assertWithinBudget("OrderController.updateOrderQuantity", 6, put("/orders/" + orderId + "/quantity")
+                .param("newQuantity", "2"));
+        assertWithinBudget("OrderController.cancelOrder", 6, delete("/orders/" + orderId + "/cancel"));
+    }
+
+    @Test
+    @DisplayName("상한을 넘는 문장은 enforce일 때만 SqlBudgetExceededException 발생")
+    void testEnforcesBudgetOnlyWhenEnabled() {
+        // Given: 상한 1인 요청 두 개 (경고만 / 강제)
+        SqlRequestStats.begin("test", 1, false);
+        SqlRequestStats.current().record(1);
+        SqlRequestStats.current().record(1);
+        SqlRequestStats warnOnly = SqlRequestStats.end();
+
+        SqlRequestStats.begin("test", 1, true);
+        SqlRequestStats.current().record(1);
+
+        // When & Then: 경고만 하는 요청은 초과로 표시되고, 강제하는 요청은 두 번째 문장에서 예외 발생
+        assertThat(warnOnly.isOverBudget()).isTrue();
+        try {
+            assertThrows(SqlBudgetExceededException.class, () -> SqlRequestStats.current().record(1));
+        } finally {
+            SqlRequestStats.end();
+        }
+    }
+
+    private void assertWithinBudget(String handler, int budget, RequestBuilder request) throws Exception {
+        double before = statementTotal(handler);
+
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        DistributionSummary summary = meterRegistry.find(SqlMonitoringInterceptor.STATEMENTS_METRIC)
+                .tag("handler", handler)
+                .summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.totalAmount() - before).isPositive().isLessThanOrEqualTo(budget);
+    }
+
+    private double statementTotal(String handler) {
+        DistributionSummary summary = meterRegistry.find(SqlMonitoringInterceptor.STATEMENTS_METRIC)
+                .tag("handler", handler)
+                .summary();
+        return summary == null ? 0 : summary.totalAmount();
+    }
+}
@@ -1,7 +1,19 @@
 package io.github.junhkang.springboottesting.controller;
 
+import io.github.junhkang.springboottesting.config.SqlStatementBudget;
+import io.github.junhkang.springboottesting.domain.Money;
 import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.OrderPage;
+import io.github.junhkang.springboottesting.domain.OrderStats;
+import io.github.junhkang.springboottesting.domain.OrderStatsRow;
 import io.github.junhkang.springboottesting.domain.OrderStatus;
+import io.github.junhkang.springboottesting.domain.OrderTicket;
+import io.github.junhkang.springboottesting.domain.TicketStatus;
+import io.github.junhkang.springboottesting.domain.UserOrdersCacheStats;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
+import io.github.junhkang.springboottesting.exception.QueueFullException;
+import io.github.junhkang.springboottesting.service.OrderPlacementQueue;
 import io.github.junhkang.springboottesting.service.OrderService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,17 +23,23 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.lang.reflect.Method;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 
 @WebMvcTest(OrderController.class)
@@ -34,20 +52,73 @@ class OrderControllerTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private OrderPlacementQueue orderPlacementQueue;
+
     @Test
-    @DisplayName("모든 주문 조회 테스트")
-    void testGetAllOrders() throws Exception {
+    @DisplayName("주문 페이지 조회 테스트")
+    void testGetOrders() throws Exception {
         // Given: Mocking service layer
         Order order = new Order();
         order.setId(1L);
         order.setStatus(OrderStatus.PENDING);
-        Mockito.when(orderService.getAllOrders()).thenReturn(Collections.singletonList(order));
+        Mockito.when(orderService.getOrders(null, 20)).thenReturn(new OrderPage(Collections.singletonList(order), 1L));
 
         // When & Then: GET 요청을 수행하고 응답을 검증
         mockMvc.perform(get("/orders"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id", is(1)))
-                .andExpect(jsonPath("$[0].status", is("PENDING")));
+                .andExpect(jsonPath("$.content[0].id", is(1)))
+                .andExpect(jsonPath("$.content[0].status", is("PENDING")))
+                .andExpect(jsonPath("$.nextCursor", is(1)));
+    }
+
+    @Test
+    @DisplayName("커서와 페이지 크기를 지정한 주문 페이지 조회 테스트")
+    void testGetOrdersWithCursor() throws Exception {
+        // Given: Mocking service layer
+        Order order = new Order();
+        order.setId(6L);
+        Mockito.when(orderService.getOrders(5L, 1)).thenReturn(new OrderPage(Collections.singletonList(order), null));
+
+        // When & Then: GET 요청을 수행하고 응답을 검증
+        mockMvc.perform(get("/orders")
+                        .param("cursor", "5")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id", is(6)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("주문 NDJSON 내보내기 테스트")
+    void testExportOrders() throws Exception {
+        // Given: 서비스가 두 개의 주문을 차례로 전달하도록 Mocking
+        Order order1 = new Order();
+        order1.setId(1L);
+        Order order2 = new Order();
+        order2.setId(2L);
+        Mockito.doAnswer(invocation -> {
+            Consumer<Order> consumer = invocation.getArgument(0);
+            consumer.accept(order1);
+            consumer.accept(order2);
+            return null;
+        }).when(orderService).exportOrders(any());
+
+        // When: 스트리밍 응답은 비동기로 처리되므로 asyncDispatch로 결과를 받음
+        MvcResult mvcResult = mockMvc.perform(get("/orders/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then: 주문마다 한 줄씩 NDJSON으로 출력되었는지 검증
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"id\":1");
+        assertThat(lines[1]).contains("\"id\":2");
     }
 
     @Test
@@ -86,6 +157,76 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.status", is("PENDING")));
     }
 
+    @Test
+    @DisplayName("비동기 주문 접수 테스트")
+    void testCreateOrderAsync() throws Exception {
+        // Given: Mocking queue
+        OrderTicket ticket = new OrderTicket("ticket-1", TicketStatus.QUEUED, null, null, LocalDateTime.now());
+        Mockito.when(orderPlacementQueue.submit(1L, 1L, 2)).thenReturn(ticket);
+
+        // When & Then: 202와 함께 티켓 조회 위치를 반환하는지 검증
+        mockMvc.perform(post("/orders/async")
+                        .param("userId", "1")
+                        .param("productId", "1")
+                        .param("quantity", "2"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/orders/tickets/ticket-1"))
+                .andExpect(jsonPath("$.id", is("ticket-1")))
+                .andExpect(jsonPath("$.status", is("QUEUED")));
+    }
+
+    @Test
+    @DisplayName("비동기 주문 접수 테스트 - 큐가 가득 찬 경우 429")
+    void testCreateOrderAsyncQueueFull() throws Exception {
+        // Given: 큐가 가득 찬 상황
+        Mockito.when(orderPlacementQueue.submit(1L, 1L, 2)).thenThrow(new QueueFullException("Order queue is full. Please retry later."));
+
+        // When & Then: 429와 Retry-After 헤더를 반환하는지 검증
+        mockMvc.perform(post("/orders/async")
+                        .param("userId", "1")
+                        .param("productId", "1")
+                        .param("quantity", "2"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    @DisplayName("비동기 주문 티켓 조회 테스트")
+    void testGetOrderTicket() throws Exception {
+        // Given: 처리가 끝난 티켓
+        OrderTicket ticket = new OrderTicket("ticket-1", TicketStatus.COMPLETED, 10L, null, LocalDateTime.now());
+        Mockito.when(orderPlacementQueue.getTicket("ticket-1")).thenReturn(ticket);
+
+        // When & Then: GET 요청을 수행하고 응답을 검증
+        mockMvc.perform(get("/orders/tickets/ticket-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("COMPLETED")))
+                .andExpect(jsonPath("$.orderId", is(10)));
+    }
+
+    @Test
+    @DisplayName("일괄 주문 생성 테스트")
+    void testCreateOrders() throws Exception {
+        // Given: Mocking service layer
+        Order order1 = new Order();
+        order1.setId(1L);
+        order1.setStatus(OrderStatus.PENDING);
+        Order order2 = new Order();
+        order2.setId(2L);
+        order2.setStatus(OrderStatus.PENDING);
+        List<OrderLine> lines = List.of(new OrderLine(1L, 1L, 2), new OrderLine(1L, 2L, 1));
+        Mockito.when(orderService.createOrders(lines)).thenReturn(Arrays.asList(order1, order2));
+
+        // When & Then: POST 요청을 수행하고 응답을 검증
+        mockMvc.perform(post("/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"userId\":1,\"productId\":1,\"quantity\":2},{\"userId\":1,\"productId\":2,\"quantity\":1}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(jsonPath("$[1].id", is(2)))
+                .andExpect(jsonPath("$[1].status", is("PENDING")));
+    }
+
     @Test
     @DisplayName("주문 취소 테스트")
     void testCancelOrder() throws Exception {
@@ -136,6 +277,19 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$[0].status", is("PENDING")));
     }
 
+    @Test
+    @DisplayName("사용자 ID로 주문 조건부 조회 - 변경이 없으면 304")
+    void testGetOrdersByUserIdNotModified() throws Exception {
+        // Given: 사용자의 주문 목록 집계 값
+        VersionStamp stamp = new VersionStamp(2L, 7L, 4L);
+        Mockito.when(orderService.getOrdersVersionStampByUserId(1L)).thenReturn(stamp);
+
+        // When & Then: 같은 ETag로 요청하면 주문 그래프를 조회하지 않고 304로 응답
+        mockMvc.perform(get("/orders/user/1").header("If-None-Match", stamp.toETag()))
+                .andExpect(status().isNotModified());
+        Mockito.verify(orderService, Mockito.never()).getOrdersByUserId(anyLong());
+    }
+
     @Test
     @DisplayName("주문 날짜 범위로 주문 조회 테스트")
     void testGetOrdersByDateRange() throws Exception {
@@ -164,11 +318,79 @@ class OrderControllerTest {
     @DisplayName("주문 금액 계산 테스트")
     void testCalculateTotalAmount() throws Exception {
         // Given: Mocking service layer
-        Mockito.when(orderService.calculateTotalAmount(1L)).thenReturn(500.0);
+        Mockito.when(orderService.calculateTotalAmount(1L)).thenReturn(Money.of(500.0));
 
         // When & Then: GET 요청을 수행하고 응답을 검증
         mockMvc.perform(get("/orders/1/totalAmount"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", is(500.0)));
     }
+
+    @Test
+    @DisplayName("주문 집계 조회 테스트")
+    void testGetOrderStats() throws Exception {
+        // Given: Mocking service layer
+        List<OrderStatsRow> byStatus = List.of(new OrderStatsRow("PENDING", 2L, 3L, Money.of(3400.0)));
+        OrderStats stats = new OrderStats(byStatus, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        Mockito.when(orderService.getOrderStats(LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59)))
+                .thenReturn(stats);
+
+        // When & Then: GET 요청을 수행하고 응답을 검증
+        mockMvc.perform(get("/orders/stats")
+                        .param("startDate", "2024-01-01T00:00")
+                        .param("endDate", "2024-12-31T23:59"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.byStatus[0].groupKey", is("PENDING")))
+                .andExpect(jsonPath("$.byStatus[0].orderCount", is(2)))
+                .andExpect(jsonPath("$.byStatus[0].totalQuantity", is(3)))
+                .andExpect(jsonPath("$.byStatus[0].totalRevenue", is(3400.0)))
+                .andExpect(jsonPath("$.byProduct").isEmpty());
+    }
+
+    @Test
+    @DisplayName("사용자별 주문 목록 캐시 통계 조회 테스트")
+    void testGetCacheStats() throws Exception {
+        // Given: Mocking service layer
+        Mockito.when(orderService.getCacheStats()).thenReturn(new UserOrdersCacheStats(5, 2, 0, 3, 1, 2, 4, 6));
+
+        // When & Then: GET 요청을 수행하고 응답을 검증
+        mockMvc.perform(get("/orders/cache-stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hitCount", is(5)))
+                .andExpect(jsonPath("$.missCount", is(2)))
+                .andExpect(jsonPath("$.invalidationCount", is(3)))
+                .andExpect(jsonPath("$.bypassCount", is(1)))
+                .andExpect(jsonPath("$.knownUserCount", is(4)))
+                .andExpect(jsonPath("$.indexedProductCount", is(6)));
+    }
+
+    /**
+     * 이 테스트는 서비스를 목으로 대체하므로 JDBC 문장이 실행되지 않아, 여기서는 핸들러마다 선언된 상한을 검증하고
+     * 실제 문장 수는 {@link io.github.junhkang.springboottesting.config.SqlStatementBudgetTest}가 jpa·mybatis 프로파일에서 검증합니다.
+     */
+    @Test
+    @DisplayName("데이터베이스를 조회하는 주문 API의 SQL 문장 상한 선언 테스트")
+    void testSqlStatementBudgets() {
+        // Given: 핸들러별로 선언된 상한
+        Map<String, Integer> budgets = new HashMap<>();
+        for (Method method : OrderController.class.getDeclaredMethods()) {
+            SqlStatementBudget budget = method.getAnnotation(SqlStatementBudget.class);
+            if (budget != null) {
+                budgets.put(method.getName(), budget.value());
+            }
+        }
+
+        // Then: 큐·캐시만 사용하는 핸들러와 스트리밍 응답(요청 스레드 밖에서 조회)을 제외한 모든 핸들러에 상한이 있음
+        assertThat(budgets).containsExactlyInAnyOrderEntriesOf(Map.ofEntries(
+                Map.entry("getOrders", 2),
+                Map.entry("getOrderById", 2),
+                Map.entry("createOrder", 8),
+                Map.entry("createOrders", 10),
+                Map.entry("cancelOrder", 6),
+                Map.entry("updateOrderQuantity", 6),
+                Map.entry("getOrdersByUserId", 5),
+                Map.entry("getOrdersByDateRange", 3),
+                Map.entry("getOrderStats", 8),
+                Map.entry("calculateTotalAmount", 2)));
+    }
 }
@@ -1,6 +1,11 @@
 package io.github.junhkang.springboottesting.controller;
 
 import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductCacheStats;
+import io.github.junhkang.springboottesting.domain.ProductImportError;
+import io.github.junhkang.springboottesting.domain.ProductImportResult;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
+import io.github.junhkang.springboottesting.service.ProductCatalogImporter;
 import io.github.junhkang.springboottesting.service.ProductService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,13 +16,16 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.Reader;
 import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -32,6 +40,9 @@ class ProductControllerTest {
     @MockBean
     private ProductService productService;
 
+    @MockBean
+    private ProductCatalogImporter productCatalogImporter;
+
     @Test
     @DisplayName("모든 상품 조회 테스트")
     void testGetAllProducts() throws Exception {
@@ -64,6 +75,63 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.name", is("Test Product")));
     }
 
+    @Test
+    @DisplayName("상품 목록 조건부 조회 - 변경이 없으면 304")
+    void testGetAllProductsNotModified() throws Exception {
+        // Given: 현재 상품 목록의 집계 값
+        VersionStamp stamp = new VersionStamp(5L, 15L, 3L);
+        Mockito.when(productService.getCatalogVersionStamp()).thenReturn(stamp);
+
+        // When & Then: 같은 ETag로 요청하면 목록을 조회하지 않고 304로 응답
+        mockMvc.perform(get("/products").header("If-None-Match", stamp.toETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", stamp.toETag()));
+        Mockito.verify(productService, Mockito.never()).getAllProducts();
+
+        // When & Then: ETag가 다르면 목록과 현재 ETag를 함께 반환
+        Mockito.when(productService.getAllProducts()).thenReturn(Collections.emptyList());
+        mockMvc.perform(get("/products").header("If-None-Match", "W/\"4-10-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", stamp.toETag()));
+    }
+
+    @Test
+    @DisplayName("상품 ID로 조건부 조회 - 버전이 같으면 304, 다르면 본문의 버전을 ETag로 반환")
+    void testGetProductByIdConditional() throws Exception {
+        // Given: 현재 버전이 3인 상품
+        Product product = new Product();
+        product.setId(1L);
+        product.setVersion(3L);
+        Mockito.when(productService.getProductVersion(1L)).thenReturn(3L);
+        Mockito.when(productService.getProductById(1L)).thenReturn(product);
+
+        // When & Then: 같은 버전이면 상품을 조회하지 않고 304
+        mockMvc.perform(get("/products/1").header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified());
+        Mockito.verify(productService, Mockito.never()).getProductById(1L);
+
+        // When & Then: 이전 버전이면 상품과 새 ETag 반환
+        mockMvc.perform(get("/products/1").header("If-None-Match", "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.version", is(3)));
+    }
+
+    @Test
+    @DisplayName("여러 ID로 상품 조회 테스트")
+    void testGetProductsByIds() throws Exception {
+        // Given: Mocking service layer
+        Product product = new Product();
+        product.setId(3L);
+        Mockito.when(productService.getProductsByIds(List.of(3L, 999L))).thenReturn(List.of(product));
+
+        // When & Then: ids 파라미터를 반복 지정한 GET 요청을 수행하고 응답을 검증
+        mockMvc.perform(get("/products").param("ids", "3").param("ids", "999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)))
+                .andExpect(jsonPath("$[0].id", is(3)));
+    }
+
     @Test
     @DisplayName("상품 생성 테스트")
     void testCreateProduct() throws Exception {
@@ -81,4 +149,37 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.id", is(1)))
                 .andExpect(jsonPath("$.name", is("New Product")));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("상품 캐시 통계 조회 테스트")
+    void testGetCacheStats() throws Exception {
+        // Given: Mocking service layer
+        Mockito.when(productService.getCacheStats()).thenReturn(new ProductCacheStats(3, 1, 0, 2, 1));
+
+        // When & Then: GET 요청을 수행하고 응답을 검증
+        mockMvc.perform(get("/products/cache-stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hitCount", is(3)))
+                .andExpect(jsonPath("$.missCount", is(1)))
+                .andExpect(jsonPath("$.evictionCount", is(0)))
+                .andExpect(jsonPath("$.invalidationCount", is(2)));
+    }
+
+    @Test
+    @DisplayName("CSV 상품 일괄 등록 테스트")
+    void testImportProductsCsv() throws Exception {
+        // Given: Mocking importer
+        ProductImportResult result = new ProductImportResult(1, 1, List.of(new ProductImportError(2, "Product name is required.")));
+        Mockito.when(productCatalogImporter.importCsv(any(Reader.class))).thenReturn(result);
+
+        // When & Then: text/csv 본문으로 POST 요청을 수행하고 보고서를 검증
+        mockMvc.perform(post("/products/import")
+                        .contentType("text/csv")
+                        .content("name,price,stock\nKeyboard,10,5\n,1,1\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedCount", is(1)))
+                .andExpect(jsonPath("$.failedCount", is(1)))
+                .andExpect(jsonPath("$.errors[0].row", is(2)))
+                .andExpect(jsonPath("$.errors[0].message", is("Product name is required.")));
+    }
+}
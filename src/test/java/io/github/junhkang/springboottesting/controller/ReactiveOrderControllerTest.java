@@ -0,0 +1,100 @@
+package io.github.junhkang.springboottesting.controller;
+
+import io.github.junhkang.springboottesting.domain.Money;
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderStats;
+import io.github.junhkang.springboottesting.domain.OrderStatsRow;
+import io.github.junhkang.springboottesting.domain.OrderStatus;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
+import io.github.junhkang.springboottesting.service.ReactiveOrderService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.publisher.PublisherProbe;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+@WebFluxTest(ReactiveOrderController.class)
+@ActiveProfiles("r2dbc")
+@DisplayName("ReactiveOrderController 테스트")
+class ReactiveOrderControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveOrderService orderService;
+
+    @Test
+    @DisplayName("사용자 ID로 주문 조건부 조회 - 변경이 없으면 304, 있으면 목록과 ETag 반환")
+    void testGetOrdersByUserIdConditional() {
+        // Given: 사용자의 주문 목록 집계 값과, 구독 여부를 확인할 주문 목록
+        VersionStamp stamp = new VersionStamp(2L, 7L, 4L);
+        Order order = new Order();
+        order.setId(1L);
+        order.setStatus(OrderStatus.PENDING);
+        PublisherProbe<Order> orders = PublisherProbe.of(Flux.just(order));
+        Mockito.when(orderService.getOrdersVersionStampByUserId(1L)).thenReturn(Mono.just(stamp));
+        Mockito.when(orderService.getOrdersByUserId(1L)).thenReturn(orders.flux());
+
+        // When & Then: 같은 ETag로 요청하면 주문 그래프를 조회하지 않고 304로 응답
+        webTestClient.get().uri("/orders/user/1").header("If-None-Match", stamp.toETag())
+                .exchange()
+                .expectStatus().isNotModified();
+        orders.assertWasNotSubscribed();
+
+        // When & Then: ETag가 다르면 목록과 현재 ETag를 함께 반환
+        webTestClient.get().uri("/orders/user/1").header("If-None-Match", "W/\"1-1-0\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", stamp.toETag())
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(1)
+                .jsonPath("$[0].status").isEqualTo("PENDING");
+    }
+
+    @Test
+    @DisplayName("주문이 없는 사용자는 ETag 없이 조회")
+    void testGetOrdersByUserIdWithoutOrders() {
+        // Given: 주문이 없는 사용자
+        Mockito.when(orderService.getOrdersVersionStampByUserId(2L)).thenReturn(Mono.just(new VersionStamp(0L, 0L, 0L)));
+        Mockito.when(orderService.getOrdersByUserId(2L)).thenReturn(Flux.empty());
+
+        // When & Then: 빈 목록을 ETag 없이 반환
+        webTestClient.get().uri("/orders/user/2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("ETag")
+                .expectBody().json("[]");
+    }
+
+    @Test
+    @DisplayName("주문 집계 조회 테스트")
+    void testGetOrderStats() {
+        // Given: Mocking service layer
+        List<OrderStatsRow> byStatus = List.of(new OrderStatsRow("PENDING", 2L, 3L, Money.of(3400.0)));
+        OrderStats stats = new OrderStats(byStatus, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        Mockito.when(orderService.getOrderStats(LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59)))
+                .thenReturn(Mono.just(stats));
+
+        // When & Then: GET 요청을 수행하고 응답을 검증
+        webTestClient.get().uri("/orders/stats?startDate=2024-01-01T00:00&endDate=2024-12-31T23:59")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.byStatus[0].groupKey").isEqualTo("PENDING")
+                .jsonPath("$.byStatus[0].orderCount").isEqualTo(2)
+                .jsonPath("$.byStatus[0].totalQuantity").isEqualTo(3)
+                .jsonPath("$.byStatus[0].totalRevenue").isEqualTo(3400.0)
+                .jsonPath("$.byProduct").isEmpty();
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.junhkang.springboottesting.controller;
+
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
+import io.github.junhkang.springboottesting.service.ReactiveProductService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.publisher.PublisherProbe;
+
+@WebFluxTest(ReactiveProductController.class)
+@ActiveProfiles("r2dbc")
+@DisplayName("ReactiveProductController 테스트")
+class ReactiveProductControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveProductService productService;
+
+    @Test
+    @DisplayName("상품 목록 조건부 조회 - 변경이 없으면 304")
+    void testGetAllProductsNotModified() {
+        // Given: 현재 상품 목록의 집계 값과, 구독 여부를 확인할 상품 목록
+        VersionStamp stamp = new VersionStamp(5L, 15L, 3L);
+        PublisherProbe<Product> products = PublisherProbe.of(Flux.empty());
+        Mockito.when(productService.getCatalogVersionStamp()).thenReturn(Mono.just(stamp));
+        Mockito.when(productService.getAllProducts()).thenReturn(products.flux());
+
+        // When & Then: 같은 ETag로 요청하면 목록을 조회하지 않고 304로 응답
+        webTestClient.get().uri("/products").header("If-None-Match", stamp.toETag())
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", stamp.toETag());
+        products.assertWasNotSubscribed();
+
+        // When & Then: ETag가 다르면 목록과 현재 ETag를 함께 반환
+        webTestClient.get().uri("/products").header("If-None-Match", "W/\"4-10-3\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", stamp.toETag());
+        products.assertWasSubscribed();
+    }
+
+    @Test
+    @DisplayName("상품 ID로 조건부 조회 - 버전이 같으면 304, 다르면 본문의 버전을 ETag로 반환")
+    void testGetProductByIdConditional() {
+        // Given: 현재 버전이 3인 상품
+        Product product = new Product();
+        product.setId(1L);
+        product.setVersion(3L);
+        Mockito.when(productService.getProductById(1L)).thenReturn(Mono.just(product));
+
+        // When & Then: 같은 버전이면 304
+        webTestClient.get().uri("/products/1").header("If-None-Match", "\"3\"")
+                .exchange()
+                .expectStatus().isNotModified();
+
+        // When & Then: 이전 버전이면 상품과 새 ETag 반환
+        webTestClient.get().uri("/products/1").header("If-None-Match", "\"2\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"3\"")
+                .expectBody().jsonPath("$.version").isEqualTo(3);
+    }
+}
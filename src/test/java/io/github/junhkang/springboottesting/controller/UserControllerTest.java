@@ -12,6 +12,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
@@ -69,6 +70,27 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.username", is("test_user")));
     }
 
+    /**
+     * 여러 ID로 사용자 조회 테스트
+     */
+    @Test
+    @DisplayName("여러 ID로 사용자 조회 테스트")
+    void testGetUsersByIds() throws Exception {
+        // Given: Mocking the service layer
+        User first = new User();
+        first.setId(2L);
+        User second = new User();
+        second.setId(1L);
+        Mockito.when(userService.getUsersByIds(List.of(2L, 1L))).thenReturn(List.of(first, second));
+
+        // When & Then: ids 파라미터로 GET 요청을 수행하고 응답을 검증
+        mockMvc.perform(get("/users").param("ids", "2,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(2)))
+                .andExpect(jsonPath("$[1].id", is(1)));
+        Mockito.verify(userService, Mockito.never()).getAllUsers();
+    }
+
     /**
      * 사용자 생성 테스트
      */
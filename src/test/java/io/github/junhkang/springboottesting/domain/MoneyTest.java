@@ -0,0 +1,58 @@
+package io.github.junhkang.springboottesting.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+    @Test
+    @DisplayName("소수 금액을 센트 단위로 변환")
+    void testOfConvertsToCents() {
+        // Given & When: 소수 두 자리 금액으로 생성
+        Money money = Money.of(new BigDecimal("1500.25"));
+
+        // Then: 센트 단위 값과 소수 표현이 올바른지 확인
+        assertThat(money.getCents()).isEqualTo(150025L);
+        assertThat(money.toBigDecimal()).isEqualTo(new BigDecimal("1500.25"));
+    }
+
+    @Test
+    @DisplayName("곱셈과 덧셈이 반올림 오차 없이 계산됨")
+    void testArithmeticIsExact() {
+        // Given: Double로는 0.1 + 0.2 != 0.3 이 되는 금액
+        Money dime = Money.of(0.1);
+        Money twentyCents = Money.of(0.2);
+
+        // When & Then: 합계와 곱이 정확한지 확인
+        assertThat(dime.plus(twentyCents)).isEqualTo(Money.of(0.3));
+        assertThat(dime.times(3)).isEqualTo(Money.of(0.3));
+    }
+
+    @Test
+    @DisplayName("센트 미만 금액은 거부")
+    void testOfRejectsSubCentAmount() {
+        // When & Then: 소수 세 자리 금액으로 생성 시 IllegalArgumentException 발생
+        assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("1.005")));
+    }
+
+    @Test
+    @DisplayName("JSON 직렬화/역직렬화 시 소수 금액으로 표현")
+    void testJsonRoundTrip() throws Exception {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        // When: 직렬화 후 다시 역직렬화
+        String json = objectMapper.writeValueAsString(Money.ofCents(50000L));
+        Money money = objectMapper.readValue("100.5", Money.class);
+
+        // Then: 소수 두 자리 숫자로 표현되고, 숫자 입력이 센트로 변환되는지 확인
+        assertThat(json).isEqualTo("500.00");
+        assertThat(money).isEqualTo(Money.ofCents(10050L));
+    }
+}
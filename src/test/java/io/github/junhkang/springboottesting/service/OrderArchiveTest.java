@@ -0,0 +1,183 @@
+package io.github.junhkang.springboottesting.service;
+
+import io.github.junhkang.springboottesting.domain.Money;
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderStats;
+import io.github.junhkang.springboottesting.domain.OrderStatsRow;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 테스트 클래스: OrderArchiveTest
+ *
+ * data.sql의 2024년 주문을 기준으로, 기준일 이전의 완료·취소 주문만 orders_archive로 옮겨지고
+ * 사용자별·날짜 범위 조회와 ETag, 기간 집계가 보관 전과 같은 결과를 반환하는지 검증합니다.
+ * 보관 작업은 테스트 트랜잭션에 참여하므로 테스트가 끝나면 롤백됩니다.
+ * 롤백된 보관 작업이 다음 테스트의 워터마크로 남지 않도록 워터마크는 매번 DB에서 읽습니다 (TTL 0).
+ */
+@SpringBootTest(properties = "order.archive.watermark-ttl=PT0S")
+@ActiveProfiles("mybatis")
+@Transactional
+@DisplayName("OrderArchiveTest")
+class OrderArchiveTest {
+
+    // data.sql: 주문 2(COMPLETED, 2024-02-20), 3(CANCELED, 2024-03-05), 5(COMPLETED, 2024-05-25)가 보관 대상
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+    @Autowired
+    private OrderArchive orderArchive;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlSessionTemplate sqlSessionTemplate;
+
+    @Test
+    @DisplayName("기준일 이전의 완료·취소 주문만 보관 테이블로 이동")
+    void testArchivesOnlyTerminalOrdersBeforeCutoff() {
+        // When: 2024-06-01 이전 주문 보관
+        int moved = orderArchive.archiveOlderThan(CUTOFF);
+
+        // Then: 완료·취소 주문 3건이 옮겨지고, 대기 중인 주문은 운영 테이블에 남음
+        assertThat(moved).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM orders_archive ORDER BY id", Long.class))
+                .containsExactly(2L, 3L, 5L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE id IN (2, 3, 5)", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE id IN (1, 4)", Integer.class)).isEqualTo(2);
+        assertThat(orderArchive.getWatermark()).isEqualTo(LocalDateTime.of(2024, 5, 25, 11, 20));
+    }
+
+    @Test
+    @DisplayName("사용자별 조회와 ETag는 보관된 주문을 포함해 보관 전과 같음")
+    void testUserOrdersIncludeArchivedOrders() {
+        // Given: 보관 전 사용자 1의 주문 목록과 ETag
+        List<Long> before = ids(orderService.getOrdersByUserId(1L));
+        VersionStamp stampBefore = orderService.getOrdersVersionStampByUserId(1L);
+
+        // When: 보관
+        archive();
+
+        // Then: 주문일 순서와 ETag가 그대로 유지됨 (주문 3은 보관 테이블에서 조회)
+        assertThat(ids(orderService.getOrdersByUserId(1L))).isEqualTo(before).contains(1L, 3L);
+        assertThat(orderService.getOrdersVersionStampByUserId(1L)).isEqualTo(stampBefore);
+    }
+
+    @Test
+    @DisplayName("날짜 범위 조회는 범위가 보관된 주문에 닿을 때만 보관 테이블과 합침")
+    void testDateRangeMergesOnlyWhenOverlapping() {
+        // When: 보관
+        archive();
+
+        // Then: 2024년 전체 범위는 보관된 주문을 포함해 주문일 순으로 조회됨
+        List<Order> orders = orderService.getOrdersByDateRange(
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59));
+        assertThat(ids(orders)).containsSubsequence(1L, 2L, 3L, 4L, 5L);
+        assertThat(orders.get(ids(orders).indexOf(3L)).getProduct().getName()).isEqualTo("Smartphone");
+
+        // Then: 워터마크 이후 범위는 보관 테이블과 겹치지 않음
+        assertThat(orderArchive.overlaps(LocalDateTime.of(2024, 5, 25, 11, 20))).isTrue();
+        assertThat(orderArchive.overlaps(LocalDateTime.of(2024, 6, 1, 0, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("기간 집계는 보관된 주문을 더해 보관 전과 같음")
+    void testStatsIncludeArchivedOrders() {
+        // Given: 보관 전 2024년 집계
+        LocalDateTime startDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2024, 12, 31, 23, 59);
+        OrderStats before = orderService.getOrderStats(startDate, endDate);
+
+        // When: 보관
+        archive();
+
+        // Then: 상태별·상품별·사용자별·일별 집계가 그대로 유지됨
+        OrderStats after = orderService.getOrderStats(startDate, endDate);
+        assertThat(after).isEqualTo(before);
+        assertThat(after.getByStatus()).contains(new OrderStatsRow("CANCELED", 1L, 3L, Money.of(2400.0)));
+    }
+
+    @Test
+    @DisplayName("ID 조회와 총액 계산은 운영 테이블에 없으면 보관 테이블에서 조회")
+    void testIdLookupsFallBackToArchive() {
+        // When: 보관
+        archive();
+
+        // Then: 보관된 주문 3도 조회되고, 없는 주문은 여전히 ResourceNotFoundException
+        Order order = orderService.getOrderById(3L);
+        assertThat(order.getStatus().name()).isEqualTo("CANCELED");
+        assertThat(order.getProduct().getName()).isEqualTo("Smartphone");
+        assertThat(orderService.calculateTotalAmount(3L)).isEqualTo(Money.of(2400.0));
+        assertThrows(ResourceNotFoundException.class, () -> orderService.getOrderById(999L));
+    }
+
+    @Test
+    @DisplayName("보관된 주문은 대기 중인 주문이 아니므로 취소·수량 변경 불가")
+    void testArchivedOrdersCannotBeModified() {
+        // When: 보관
+        archive();
+
+        // Then: 없는 주문(404)이 아니라 대기 중이 아닌 주문(400)으로 거절됨
+        assertThrows(IllegalArgumentException.class, () -> orderService.cancelOrder(2L));
+        assertThrows(IllegalArgumentException.class, () -> orderService.updateOrderQuantity(2L, 1));
+    }
+
+    @Test
+    @DisplayName("워터마크는 TTL이 지나면 DB 값으로 다시 읽음")
+    void testWatermarkIsReloadedFromDatabase() {
+        // Given: 보관 후 워터마크
+        orderArchive.archiveOlderThan(CUTOFF);
+        assertThat(orderArchive.getWatermark()).isEqualTo(LocalDateTime.of(2024, 5, 25, 11, 20));
+
+        // When: 다른 인스턴스가 보관 테이블을 바꾼 것처럼 직접 삭제
+        jdbcTemplate.update("DELETE FROM orders_archive WHERE id = 5");
+
+        // Then: 이 인스턴스의 워터마크도 DB 값을 따라감
+        assertThat(orderArchive.getWatermark()).isEqualTo(LocalDateTime.of(2024, 3, 5, 9, 15));
+    }
+
+    @Test
+    @DisplayName("보관 대상 조회 시 status 인덱스 사용")
+    void testCandidateSelectUsesStatusIndex() {
+        // When: 보관 대상 조회 쿼리의 실행 계획 조회
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("statuses", OrderArchive.TERMINAL_STATUSES)
+                .addValue("cutoff", Timestamp.valueOf(CUTOFF))
+                .addValue("limit", 1000);
+        String plan = String.join("\n", new NamedParameterJdbcTemplate(jdbcTemplate)
+                .queryForList("EXPLAIN " + OrderArchive.CANDIDATE_SELECT, params, String.class));
+
+        // Then: idx_orders_status 인덱스를 사용하는지 검증
+        assertThat(plan.toLowerCase()).contains("idx_orders_status");
+    }
+
+    // 테스트 트랜잭션 안에서는 매퍼 조회 결과가 SqlSession에 캐시되므로, 보관 후 운영 테이블을 다시 읽도록 비움
+    private void archive() {
+        orderArchive.archiveOlderThan(CUTOFF);
+        sqlSessionTemplate.clearCache();
+    }
+
+    private List<Long> ids(List<Order> orders) {
+        return orders.stream().map(Order::getId).toList();
+    }
+}
@@ -0,0 +1,184 @@
+package io.github.junhkang.springboottesting.service;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.OrderTicket;
+import io.github.junhkang.springboottesting.domain.TicketStatus;
+import io.github.junhkang.springboottesting.exception.QueueFullException;
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 테스트 클래스: OrderPlacementQueueTest
+ *
+ * 워커 스레드를 띄우지 않고 drainPending()으로 큐를 직접 비우면서
+ * 상품별 묶음 처리, 실패 시 건별 재처리, 큐가 가득 찬 경우의 거절을 검증합니다.
+ */
+@DisplayName("OrderPlacementQueueTest")
+class OrderPlacementQueueTest {
+
+    private OrderService orderService;
+    private OrderPlacementQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        // Given: 워커 1개, 용량 3인 큐
+        orderService = mock(OrderService.class);
+        queue = new OrderPlacementQueue(orderService, 1, 3, 100, Duration.ofMinutes(10), 100);
+    }
+
+    @Test
+    @DisplayName("같은 상품의 요청을 한 번의 일괄 주문으로 처리")
+    void testGroupsSameProductRequests() {
+        // Given: 같은 상품에 대한 요청 두 건
+        when(orderService.createOrders(anyList())).thenReturn(List.of(order(11L), order(12L)));
+        OrderTicket first = queue.submit(1L, 1L, 2);
+        OrderTicket second = queue.submit(2L, 1L, 1);
+
+        // When: 큐 처리
+        queue.drainPending();
+
+        // Then: createOrders 한 번으로 처리되고 각 티켓에 주문 ID가 채워짐
+        verify(orderService).createOrders(List.of(new OrderLine(1L, 1L, 2), new OrderLine(2L, 1L, 1)));
+        verify(orderService, never()).createOrder(any(), any(), any());
+        assertThat(queue.getTicket(first.getId()).getStatus()).isEqualTo(TicketStatus.COMPLETED);
+        assertThat(queue.getTicket(first.getId()).getOrderId()).isEqualTo(11L);
+        assertThat(queue.getTicket(second.getId()).getOrderId()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("일괄 주문 실패 시 건별로 다시 처리하여 요청별 결과 기록")
+    void testFallsBackToSingleOrdersOnFailure() {
+        // Given: 묶음 처리는 재고 부족으로 실패, 건별로는 첫 요청만 성공
+        when(orderService.createOrders(anyList())).thenThrow(new IllegalArgumentException("Insufficient stock for product id 1"));
+        when(orderService.createOrder(1L, 1L, 2)).thenReturn(order(11L));
+        when(orderService.createOrder(2L, 1L, 5)).thenThrow(new IllegalArgumentException("Insufficient stock for product id 1"));
+        OrderTicket first = queue.submit(1L, 1L, 2);
+        OrderTicket second = queue.submit(2L, 1L, 5);
+
+        // When: 큐 처리
+        queue.drainPending();
+
+        // Then: 성공한 요청은 COMPLETED, 실패한 요청은 FAILED와 사유가 기록됨
+        assertThat(queue.getTicket(first.getId()).getStatus()).isEqualTo(TicketStatus.COMPLETED);
+        OrderTicket failed = queue.getTicket(second.getId());
+        assertThat(failed.getStatus()).isEqualTo(TicketStatus.FAILED);
+        assertThat(failed.getError()).isEqualTo("Insufficient stock for product id 1");
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 티켓은 최대 개수까지만 보관하고, 대기 중인 티켓은 제한 없이 조회")
+    void testBoundsFinishedTickets() {
+        // Given: 처리가 끝난 티켓을 최대 2개까지 보관하는 큐
+        queue = new OrderPlacementQueue(orderService, 1, 3, 100, Duration.ofMinutes(10), 2);
+        when(orderService.createOrder(any(), any(), any())).thenAnswer(invocation -> order(invocation.getArgument(1)));
+        List<String> finished = new ArrayList<>();
+        for (long productId = 1; productId <= 6; productId++) {
+            finished.add(queue.submit(1L, productId, 1).getId());
+            queue.drainPending();
+        }
+
+        // When: 처리되지 않은 요청 3건
+        List<String> queued = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            queued.add(queue.submit(1L, 1L, 1).getId());
+        }
+
+        // Then: 처리가 끝난 티켓은 최대 개수 이하로 남고, 대기 중인 티켓은 모두 QUEUED로 조회됨
+        assertThat(finished).filteredOn(this::exists).hasSizeLessThanOrEqualTo(2);
+        assertThat(queued).allSatisfy(id -> assertThat(queue.getTicket(id).getStatus()).isEqualTo(TicketStatus.QUEUED));
+    }
+
+    @Test
+    @DisplayName("일괄 주문 결과 수가 요청 수와 다르면 건별 재처리 없이 묶음 전체를 실패로 기록")
+    void testFailsBatchWhenResultCountDiffers() {
+        // Given: 두 건을 요청했지만 주문 한 건만 반환
+        when(orderService.createOrders(anyList())).thenReturn(List.of(order(11L)));
+        OrderTicket first = queue.submit(1L, 1L, 2);
+        OrderTicket second = queue.submit(2L, 1L, 1);
+
+        // When: 큐 처리
+        queue.drainPending();
+
+        // Then: 이미 커밋된 묶음을 건별로 다시 주문하지 않고, 두 티켓 모두 FAILED
+        verify(orderService, never()).createOrder(any(), any(), any());
+        assertThat(queue.getTicket(first.getId()).getStatus()).isEqualTo(TicketStatus.FAILED);
+        assertThat(queue.getTicket(second.getId()).getStatus()).isEqualTo(TicketStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("처리 중 Error가 발생해도 워커는 살아 있고 다음 요청을 처리")
+    void testWorkerSurvivesUnexpectedErrors() throws InterruptedException {
+        // Given: 첫 요청은 Error, 두 번째 요청은 성공하는 워커
+        when(orderService.createOrder(1L, 1L, 1)).thenThrow(new StackOverflowError());
+        when(orderService.createOrder(1L, 1L, 2)).thenReturn(order(12L));
+        queue.start();
+        try {
+            // When & Then: Error가 난 요청의 티켓은 FAILED
+            OrderTicket failed = queue.submit(1L, 1L, 1);
+            assertThat(awaitFinished(failed.getId()).getStatus()).isEqualTo(TicketStatus.FAILED);
+
+            // When & Then: 같은 워커가 다음 요청을 COMPLETED로 처리
+            OrderTicket next = queue.submit(1L, 1L, 2);
+            assertThat(awaitFinished(next.getId()).getOrderId()).isEqualTo(12L);
+        } finally {
+            queue.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 QueueFullException 발생")
+    void testRejectsWhenQueueIsFull() {
+        // Given: 용량만큼 요청을 넣음
+        for (int i = 0; i < 3; i++) {
+            queue.submit(1L, 1L, 1);
+        }
+
+        // When & Then: 추가 요청은 거절됨
+        assertThrows(QueueFullException.class, () -> queue.submit(1L, 1L, 1));
+    }
+
+    @Test
+    @DisplayName("잘못된 수량과 존재하지 않는 티켓 처리")
+    void testInvalidRequests() {
+        // When & Then: 0 이하의 수량은 IllegalArgumentException, 없는 티켓은 ResourceNotFoundException
+        assertThrows(IllegalArgumentException.class, () -> queue.submit(1L, 1L, 0));
+        assertThrows(ResourceNotFoundException.class, () -> queue.getTicket("unknown"));
+    }
+
+    private OrderTicket awaitFinished(String ticketId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        OrderTicket ticket = queue.getTicket(ticketId);
+        while (ticket.getStatus() == TicketStatus.QUEUED && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            ticket = queue.getTicket(ticketId);
+        }
+        return ticket;
+    }
+
+    private boolean exists(String ticketId) {
+        try {
+            queue.getTicket(ticketId);
+            return true;
+        } catch (ResourceNotFoundException e) {
+            return false;
+        }
+    }
+
+    private Order order(Long id) {
+        Order order = new Order();
+        order.setId(id);
+        return order;
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.junhkang.springboottesting.service;
+
+import io.github.junhkang.springboottesting.domain.Money;
+import io.github.junhkang.springboottesting.domain.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: ProductCacheTest
+ *
+ * 스프링 컨텍스트 없이 캐시를 직접 생성하여, 조회 결과 캐싱과 무효화, 조회 중 무효화된 결과의 저장 여부를 검증합니다.
+ */
+@DisplayName("ProductCacheTest")
+class ProductCacheTest {
+
+    private ProductCache cache;
+    private AtomicInteger loads;
+    private Function<Long, Product> loader;
+
+    @BeforeEach
+    void setUp() {
+        // Given: 재고 10개인 상품을 반환하는 조회 함수
+        cache = new ProductCache(100, Duration.ofMinutes(10), new UserOrdersCache(true, 100, Duration.ofMinutes(10), 100));
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return product(id);
+        };
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 반환하고, 무효화하면 다시 조회")
+    void testCachesUntilEvicted() {
+        // When: 조회 두 번, 무효화 후 한 번 더 조회
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+        cache.evict(1L);
+        cache.get(1L, loader);
+
+        // Then: 조회 함수는 처음과 무효화 후에만 호출됨
+        assertThat(loads).hasValue(2);
+        assertThat(cache.stats().getInvalidationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 중 같은 상품이 무효화되었다면 조회 결과를 저장하지 않음")
+    void testDoesNotStoreResultLoadedBeforeInvalidation() {
+        // When: 조회 도중 같은 상품의 재고 변경이 커밋됨
+        cache.get(1L, id -> {
+            cache.evict(1L);
+            return loader.apply(id);
+        });
+
+        // Then: 다음 조회는 다시 조회 함수를 호출
+        cache.get(1L, loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("조회 중 다른 상품이 무효화되어도 조회 결과를 저장")
+    void testStoresResultWhenOtherProductIsInvalidated() {
+        // When: 조회 도중 다른 상품의 재고 변경이 커밋됨
+        cache.get(1L, id -> {
+            cache.evict(2L);
+            return loader.apply(id);
+        });
+
+        // Then: 다음 조회는 캐시에서 반환
+        cache.get(1L, loader);
+        assertThat(loads).hasValue(1);
+    }
+
+    private Product product(Long id) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("Product " + id);
+        product.setPrice(Money.of(10.0));
+        product.setStock(10);
+        product.setVersion(0L);
+        return product;
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.junhkang.springboottesting.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.junhkang.springboottesting.domain.Money;
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductImportError;
+import io.github.junhkang.springboottesting.domain.ProductImportResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 테스트 클래스: ProductCatalogImporterTest
+ *
+ * CSV/JSON 본문을 한 행씩 검증하여 묶음 단위로 등록하고, 실패한 행을 행 번호와 함께 보고하는지 검증합니다.
+ */
+@DisplayName("ProductCatalogImporterTest")
+class ProductCatalogImporterTest {
+
+    private ProductService productService;
+    private ProductCatalogImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        // Given: 두 행씩 등록하는 임포터
+        productService = mock(ProductService.class);
+        when(productService.createProducts(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        importer = new ProductCatalogImporter(productService, new ObjectMapper(), 2, 10);
+    }
+
+    @Test
+    @DisplayName("CSV 일괄 등록 - 묶음 단위 등록과 행별 오류 보고")
+    @SuppressWarnings("unchecked")
+    void testImportCsv() throws Exception {
+        // Given: 정상 3행, 가격 오류 1행, 이름 누락 1행 (따옴표 안의 쉼표 포함)
+        String csv = """
+                name,price,stock,description
+                Keyboard,10.50,5,"Mechanical, RGB"
+                Mouse,abc,5,Wireless
+                ,3.00,1,No name
+                Monitor,200,3,"27"" IPS"
+                Cable,1.99,100,
+                """;
+
+        // When: 등록
+        ProductImportResult result = importer.importCsv(new StringReader(csv));
+
+        // Then: 정상 행은 2개씩 나뉘어 등록되고, 실패 행은 번호와 사유가 보고됨
+        ArgumentCaptor<List<Product>> batches = ArgumentCaptor.forClass(List.class);
+        verify(productService, times(2)).createProducts(batches.capture());
+        assertThat(batches.getAllValues().get(0)).extracting(Product::getName).containsExactly("Keyboard", "Monitor");
+        assertThat(batches.getAllValues().get(0).get(0).getDescription()).isEqualTo("Mechanical, RGB");
+        assertThat(batches.getAllValues().get(0).get(1).getDescription()).isEqualTo("27\" IPS");
+        assertThat(batches.getAllValues().get(0).get(0).getPrice()).isEqualTo(Money.of(10.5));
+        assertThat(batches.getAllValues().get(1)).extracting(Product::getName).containsExactly("Cable");
+
+        assertThat(result.getImportedCount()).isEqualTo(3);
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ProductImportError::getRow).containsExactly(2L, 3L);
+        assertThat(result.getErrors().get(1).getMessage()).isEqualTo("Product name is required.");
+    }
+
+    @Test
+    @DisplayName("JSON 일괄 등록 - 형식이 잘못된 요소를 건너뛰고 계속 처리")
+    void testImportJson() throws Exception {
+        // Given: 정상 2건, 음수 재고 1건, 가격 형식 오류 1건
+        String json = """
+                [
+                  {"name": "Keyboard", "price": 10.5, "stock": 5},
+                  {"name": "Mouse", "price": 5, "stock": -1},
+                  {"name": "Pen", "price": "1.234", "stock": 1},
+                  {"name": "Monitor", "price": 200, "stock": 3}
+                ]
+                """;
+
+        // When: 등록
+        ProductImportResult result = importer.importJson(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        // Then: 정상 2건 등록, 2건 실패
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(ProductImportError::getRow).containsExactly(2L, 3L);
+        assertThat(result.getErrors().get(0).getMessage()).isEqualTo("Product stock cannot be negative.");
+    }
+
+    @Test
+    @DisplayName("묶음 등록이 실패하면 해당 묶음의 행만 실패로 보고")
+    void testBatchFailureIsReportedPerRow() throws Exception {
+        // Given: 첫 묶음 등록은 실패, 두 번째 묶음은 성공
+        when(productService.createProducts(anyList()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        String csv = "name,price,stock\nA,1,1\nB,1,1\nC,1,1\n";
+
+        // When: 등록
+        ProductImportResult result = importer.importCsv(new StringReader(csv));
+
+        // Then: 첫 묶음의 두 행만 실패
+        assertThat(result.getImportedCount()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(ProductImportError::getRow).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("헤더가 없거나 JSON 배열이 아니면 IllegalArgumentException 발생")
+    void testInvalidBody() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> importer.importCsv(new StringReader("")));
+        assertThrows(IllegalArgumentException.class, () -> importer.importJson(
+                new ByteArrayInputStream("{\"name\": \"A\"}".getBytes(StandardCharsets.UTF_8))));
+    }
+}
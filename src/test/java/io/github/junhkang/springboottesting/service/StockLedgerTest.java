@@ -0,0 +1,130 @@
+package io.github.junhkang.springboottesting.service;
+
+import io.github.junhkang.springboottesting.domain.Money;
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 테스트 클래스: StockLedgerTest
+ *
+ * 원장 모드(stock.ledger.enabled=true)에서 주문이 product.stock을 바로 갱신하지 않고 원장에 기록되며,
+ * 정산 후에 product.stock에 반영되는지 검증합니다.
+ * 예약 취소(롤백)와 반환(커밋 후 반영)이 트랜잭션 종료 시점에 처리되므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@SpringBootTest(properties = {"stock.ledger.enabled=true", "stock.ledger.reconcile-interval=PT1H"})
+@ActiveProfiles("mybatis")
+@DisplayName("StockLedgerTest")
+class StockLedgerTest {
+
+    // data.sql의 사용자
+    private static final long USER_ID = 1L;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockLedger stockLedger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        // Given: 재고 5개인 상품
+        Product product = new Product();
+        product.setName("Ledger Product");
+        product.setDescription("Ledger Description");
+        product.setPrice(Money.of(10.0));
+        product.setStock(5);
+        productId = productService.createProduct(product).getId();
+    }
+
+    @Test
+    @DisplayName("주문은 원장에 기록되고 정산 후 product.stock에 반영")
+    void testOrderIsAppliedOnReconcile() {
+        // When: 주문 생성
+        Order order = orderService.createOrder(USER_ID, productId, 2);
+
+        // Then: product.stock은 그대로이고, 가용 재고와 원장에 예약이 반영됨
+        assertThat(stockInDatabase()).isEqualTo(5);
+        assertThat(stockLedger.available(productId)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT delta FROM stock_reservation WHERE order_id = ?", Integer.class, order.getId())).isEqualTo(-2);
+
+        // When: 정산
+        stockLedger.reconcile();
+
+        // Then: product.stock에 반영되고 가용 재고는 유지됨
+        assertThat(stockInDatabase()).isEqualTo(3);
+        assertThat(stockLedger.available(productId)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("가용 재고를 넘는 주문은 실패하고 예약이 남지 않음")
+    void testInsufficientStock() {
+        // Given: 재고 5개 중 4개 주문
+        orderService.createOrder(USER_ID, productId, 4);
+
+        // When & Then: 남은 1개를 넘는 주문은 실패
+        assertThrows(IllegalArgumentException.class, () -> orderService.createOrder(USER_ID, productId, 2));
+        assertThat(stockLedger.available(productId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주문 취소 시 커밋 후 가용 재고 복구")
+    void testCancelReleasesStock() {
+        // Given: 주문 생성
+        Order order = orderService.createOrder(USER_ID, productId, 3);
+
+        // When: 주문 취소 후 정산
+        orderService.cancelOrder(order.getId());
+        stockLedger.reconcile();
+
+        // Then: 가용 재고와 product.stock 모두 원래대로
+        assertThat(stockLedger.available(productId)).isEqualTo(5);
+        assertThat(stockInDatabase()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("애플리케이션 시작 시 정산 주기를 기다리지 않고 미반영 원장을 반영")
+    void testReconcilesOnApplicationReady() {
+        // Given: 아직 정산되지 않은 주문과, 이전 재고로 캐시된 상품 (정산 주기 1시간)
+        orderService.createOrder(USER_ID, productId, 2);
+        assertThat(productService.getProductById(productId).getStock()).isEqualTo(5);
+
+        // When: 애플리케이션 시작 완료 이벤트
+        applicationContext.publishEvent(new ApplicationReadyEvent(
+                new SpringApplication(), new String[0], applicationContext, Duration.ZERO));
+
+        // Then: product.stock과 상품 조회 결과에 예약이 반영됨
+        assertThat(stockInDatabase()).isEqualTo(3);
+        assertThat(productService.getProductById(productId).getStock()).isEqualTo(3);
+    }
+
+    private Integer stockInDatabase() {
+        return jdbcTemplate.queryForObject("SELECT stock FROM product WHERE id = ?", Integer.class, productId);
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.junhkang.springboottesting.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: StripedStockCounterTest
+ *
+ * 여러 칸으로 나뉜 재고 카운터가 동시 예약에서도 합계를 넘겨 예약하지 않는지 검증합니다.
+ */
+@DisplayName("StripedStockCounterTest")
+class StripedStockCounterTest {
+
+    @Test
+    @DisplayName("칸에 나뉜 수량을 모아 예약")
+    void testReservesAcrossStripes() {
+        // Given: 10개를 4칸에 나눔 (칸마다 2~4개)
+        StripedStockCounter counter = new StripedStockCounter(4, 10);
+
+        // When & Then: 한 칸보다 큰 수량도 합계 안에서는 예약되고, 합계를 넘으면 실패
+        assertThat(counter.tryReserve(7)).isTrue();
+        assertThat(counter.tryReserve(4)).isFalse();
+        assertThat(counter.available()).isEqualTo(3);
+
+        counter.release(2);
+        assertThat(counter.tryReserve(5)).isTrue();
+        assertThat(counter.available()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 예약 시 가용 재고만큼만 성공")
+    void testConcurrentReservationsNeverOversell() throws Exception {
+        // Given: 재고 1000개, 스레드 16개가 1개씩 2000번 예약 시도
+        StripedStockCounter counter = new StripedStockCounter(8, 1000);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int t = 0; t < 16; t++) {
+            tasks.add(() -> {
+                int reserved = 0;
+                for (int i = 0; i < 125; i++) {
+                    if (counter.tryReserve(1)) {
+                        reserved++;
+                    }
+                }
+                return reserved;
+            });
+        }
+
+        // When: 동시에 실행
+        int total = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (Future<Integer> result : executor.invokeAll(tasks)) {
+                total += result.get();
+            }
+        }
+
+        // Then: 정확히 1000개만 예약되고 남은 재고는 0
+        assertThat(total).isEqualTo(1000);
+        assertThat(counter.available()).isZero();
+    }
+
+    @Test
+    @DisplayName("진행 중인 예약이 있으면 DB 값으로 다시 맞추지 않음")
+    void testResyncSkipsWhileInFlight() {
+        // Given: 예약이 진행 중인 카운터
+        StripedStockCounter counter = new StripedStockCounter(2, 10);
+        counter.begin();
+        counter.tryReserve(3);
+
+        // When & Then: 진행 중에는 유지, 끝난 뒤에는 DB 값으로 교체
+        assertThat(counter.resync(() -> 10)).isFalse();
+        assertThat(counter.available()).isEqualTo(7);
+
+        counter.end();
+        assertThat(counter.resync(() -> 7)).isTrue();
+        assertThat(counter.available()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("DB 값을 읽는 동안 예약이 있었으면 교체하지 않음")
+    void testResyncSkipsWhenReservedDuringLoad() {
+        // Given: 재고 10개인 카운터
+        StripedStockCounter counter = new StripedStockCounter(2, 10);
+
+        // When: DB 값을 읽는 동안 다른 예약이 시작되고 끝남
+        boolean replaced = counter.resync(() -> {
+            counter.begin();
+            counter.tryReserve(4);
+            counter.end();
+            return 10;
+        });
+
+        // Then: 읽은 값(10)으로 덮어쓰지 않아 예약이 유지됨
+        assertThat(replaced).isFalse();
+        assertThat(counter.available()).isEqualTo(6);
+    }
+}
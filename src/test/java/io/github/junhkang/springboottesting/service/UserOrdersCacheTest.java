@@ -0,0 +1,269 @@
+package io.github.junhkang.springboottesting.service;
+
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderStatus;
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: UserOrdersCacheTest
+ *
+ * 스프링 컨텍스트 없이 캐시를 직접 생성하고, 트랜잭션 동기화는 TransactionSynchronizationManager로 흉내 내어
+ * 조회 결과 캐싱, 커밋 후 무효화, 롤백 시 유지, 상품 변경에 따른 무효화, 쓰기 트랜잭션 안의 우회를 검증합니다.
+ */
+@DisplayName("UserOrdersCacheTest")
+class UserOrdersCacheTest {
+
+    private UserOrdersCache cache;
+    private AtomicInteger loads;
+    private Function<Long, List<Order>> loader;
+
+    @BeforeEach
+    void setUp() {
+        // Given: 사용자 1의 주문(상품 10) 한 건을 반환하는 조회 함수
+        cache = new UserOrdersCache(true, 100, Duration.ofMinutes(10), 100);
+        loads = new AtomicInteger();
+        loader = userId -> {
+            loads.incrementAndGet();
+            return List.of(order(100L, userId, 10L));
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 복사본으로 반환")
+    void testCachesResult() {
+        // When: 같은 사용자를 두 번 조회하고 첫 결과를 수정
+        List<Order> first = cache.get(1L, loader);
+        first.get(0).setStatus(OrderStatus.CANCELED);
+        List<Order> second = cache.get(1L, loader);
+
+        // Then: 조회 함수는 한 번만 호출되고, 호출자의 수정은 캐시에 반영되지 않음
+        assertThat(loads).hasValue(1);
+        assertThat(second.get(0).getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(cache.stats().getHitCount()).isEqualTo(1);
+        assertThat(cache.stats().getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 무효화는 커밋된 후에만 적용되고, 롤백되면 적용되지 않음")
+    void testEvictUserAfterCommit() {
+        // Given: 캐시된 항목
+        cache.get(1L, loader);
+
+        // When: 트랜잭션 안에서 무효화 요청
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evictUser(1L);
+
+        // Then: 커밋 전에는 항목이 남아 있음
+        assertThat(cache.stats().getSize()).isEqualTo(1);
+
+        // When: 롤백
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then: 항목 유지
+        assertThat(cache.stats().getInvalidationCount()).isZero();
+
+        // When: 다시 무효화 요청 후 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evictUser(1L);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // Then: 다음 조회는 다시 조회 함수를 호출
+        cache.get(1L, loader);
+        assertThat(loads).hasValue(2);
+        assertThat(cache.stats().getInvalidationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상품이 바뀌면 그 상품을 포함한 사용자 항목만 무효화")
+    void testEvictProduct() {
+        // Given: 사용자 1은 상품 10, 사용자 2는 상품 20을 주문
+        cache.get(1L, loader);
+        cache.get(2L, userId -> List.of(order(200L, userId, 20L)));
+
+        // When: 상품 10 무효화
+        cache.evictProduct(10L);
+
+        // Then: 사용자 1 항목만 제거됨
+        assertThat(cache.stats().getSize()).isEqualTo(1);
+        cache.get(1L, loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("무효화되거나 크기 초과로 제거된 항목은 상품 색인에서도 제거")
+    void testIndexOnlyCoversCachedEntries() {
+        // Given: 항목 하나만 담는 캐시에 사용자 1(상품 10)과 사용자 2(상품 20)를 차례로 저장
+        cache = new UserOrdersCache(true, 1, Duration.ofMinutes(10), 100);
+        cache.get(1L, loader);
+        cache.get(2L, userId -> List.of(order(200L, userId, 20L)));
+
+        // Then: 크기 초과로 한 항목이 제거되고, 색인에는 남은 항목의 상품만 남음
+        assertThat(cache.stats().getSize()).isEqualTo(1);
+        assertThat(cache.stats().getIndexedProductCount()).isEqualTo(1);
+
+        // When: 남은 사용자 항목도 무효화
+        cache.evictUser(1L);
+        cache.evictUser(2L);
+
+        // Then: 색인이 비워짐
+        assertThat(cache.stats().getSize()).isZero();
+        assertThat(cache.stats().getIndexedProductCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다시 조회한 목록에서 빠진 상품은 색인에서 제거")
+    void testReloadReplacesIndexedProducts() {
+        // Given: 사용자 1의 목록이 상품 10을 포함한 채 캐시됨
+        cache.get(1L, loader);
+
+        // When: 항목이 무효화된 뒤 상품 20만 포함한 목록으로 다시 조회
+        cache.evictUser(1L);
+        cache.get(1L, userId -> List.of(order(200L, userId, 20L)));
+
+        // Then: 상품 10이 바뀌어도 사용자 1 항목은 유지됨
+        cache.evictProduct(10L);
+        assertThat(cache.stats().getSize()).isEqualTo(1);
+        assertThat(cache.stats().getIndexedProductCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 중 무효화가 있었다면 조회 결과를 저장하지 않음")
+    void testDoesNotStoreResultLoadedBeforeInvalidation() {
+        // When: 조회 도중 다른 요청의 상품 변경이 커밋됨
+        cache.get(1L, userId -> {
+            cache.evictProduct(10L);
+            return loader.apply(userId);
+        });
+
+        // Then: 다음 조회는 다시 조회 함수를 호출
+        cache.get(1L, loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("조회 중 다른 사용자나 다른 상품이 무효화되어도 조회 결과를 저장")
+    void testStoresResultWhenUnrelatedKeysAreInvalidated() {
+        // When: 조회 도중 다른 사용자의 주문과 다른 상품의 재고 변경이 커밋됨
+        cache.get(1L, userId -> {
+            cache.evictUser(2L);
+            cache.evictProduct(20L);
+            return loader.apply(userId);
+        });
+
+        // Then: 다음 조회는 캐시에서 반환
+        cache.get(1L, loader);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("조회 중 같은 사용자가 무효화되었다면 조회 결과를 저장하지 않음")
+    void testDoesNotStoreResultWhenUserIsInvalidatedDuringLoad() {
+        // When: 조회 도중 같은 사용자의 주문 변경이 커밋됨
+        cache.get(1L, userId -> {
+            cache.evictUser(1L);
+            return loader.apply(userId);
+        });
+
+        // Then: 다음 조회는 다시 조회 함수를 호출
+        cache.get(1L, loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("무효화 기록을 정리해도 진행 중인 조회가 볼 기록은 유지")
+    void testKeepsInvalidationsNeededByLoadsInFlight() {
+        // When: 조회 도중 상품 10이 무효화된 뒤, 다른 사용자의 조회가 끝나고 기록 정리가 일어남
+        cache.get(1L, userId -> {
+            cache.evictProduct(10L);
+            cache.get(2L, other -> List.of(order(200L, other, 20L)));
+            cache.evictUser(3L);
+            return loader.apply(userId);
+        });
+
+        // Then: 먼저 시작한 조회의 결과는 저장되지 않고, 나중에 끝난 사용자 2의 결과는 저장됨
+        cache.get(1L, loader);
+        assertThat(loads).hasValue(2);
+        assertThat(cache.stats().getSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 안의 조회는 캐시를 거치지 않음")
+    void testBypassesInsideReadWriteTransaction() {
+        // Given: 진행 중인 쓰기 트랜잭션
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When: 두 번 조회
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+
+        // Then: 매번 조회 함수를 호출하고 저장하지 않음
+        assertThat(loads).hasValue(2);
+        assertThat(cache.stats().getBypassCount()).isEqualTo(2);
+        assertThat(cache.stats().getSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("존재가 확인된 사용자는 다시 조회하지 않음")
+    void testUserExists() {
+        // Given: 사용자 1만 존재
+        AtomicInteger lookups = new AtomicInteger();
+
+        // When: 사용자 1을 두 번, 사용자 2를 두 번 확인
+        boolean first = cache.userExists(1L, id -> lookups.incrementAndGet() > 0 && id == 1L);
+        boolean second = cache.userExists(1L, id -> lookups.incrementAndGet() > 0 && id == 1L);
+        boolean missing = cache.userExists(2L, id -> lookups.incrementAndGet() > 0 && id == 1L);
+        boolean missingAgain = cache.userExists(2L, id -> lookups.incrementAndGet() > 0 && id == 1L);
+
+        // Then: 존재하는 사용자는 한 번만 조회하고, 없는 사용자는 기억하지 않음
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(missing).isFalse();
+        assertThat(missingAgain).isFalse();
+        assertThat(lookups).hasValue(3);
+        assertThat(cache.stats().getKnownUserCount()).isEqualTo(1);
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private Order order(Long id, Long userId, Long productId) {
+        User user = new User();
+        user.setId(userId);
+        Product product = new Product();
+        product.setId(productId);
+        Order order = new Order();
+        order.setId(id);
+        order.setUser(user);
+        order.setProduct(product);
+        order.setStatus(OrderStatus.PENDING);
+        return order;
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: IdChunksTest
+ *
+ * ID 목록을 IN 절 크기만큼 나누어 조회하고, 찾은 항목만 ID별 또는 요청 순서대로 돌려주는지 검증합니다.
+ */
+@DisplayName("IdChunksTest")
+class IdChunksTest {
+
+    // 조회 요청마다 전달된 ID 목록을 기록하는 가짜 저장소
+    private final List<Collection<Long>> queries = new ArrayList<>();
+    private final Set<Long> existingIds = new HashSet<>(List.of(1L, 2L, 3L));
+
+    @Test
+    @DisplayName("중복과 null을 제거하고 한 번의 조회로 가져옴")
+    void testMapsDistinctIdsInOneQuery() {
+        // When: 중복, null, 존재하지 않는 ID가 섞인 목록 조회
+        Map<Long, User> users = IdChunks.mapById(Arrays.asList(2L, 999L, null, 1L, 2L), this::fetch, User::getId);
+
+        // Then: 조회는 한 번이고, 존재하는 ID만 반환됨
+        assertThat(queries).hasSize(1);
+        assertThat(queries.get(0)).containsExactly(2L, 999L, 1L);
+        assertThat(users).containsOnlyKeys(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("IN 절 크기를 넘는 ID는 나누어 조회")
+    void testSplitsLargeIdLists() {
+        // Given: 한 번의 IN 절에 담는 수보다 많은 ID
+        List<Long> ids = LongStream.rangeClosed(1, IdChunks.CHUNK_SIZE + 1L).boxed().toList();
+
+        // When: 전체 조회
+        Map<Long, User> users = IdChunks.mapById(ids, this::fetch, User::getId);
+
+        // Then: 두 번에 나누어 조회하고 존재하는 사용자만 반환
+        assertThat(queries).extracting(Collection::size).containsExactly(IdChunks.CHUNK_SIZE, 1);
+        assertThat(users).containsOnlyKeys(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("조회 결과를 요청한 ID 순서로 정렬")
+    void testOrdersResultsByRequest() {
+        // When: 요청 순서와 다른 순서의 조회 결과를 정렬
+        List<User> ordered = IdChunks.inRequestOrder(List.of(3L, 999L, 1L), fetch(List.of(1L, 3L)), User::getId);
+
+        // Then: 요청 순서대로, 존재하지 않는 ID는 건너뜀
+        assertThat(ordered).extracting(User::getId).containsExactly(3L, 1L);
+    }
+
+    private List<User> fetch(Collection<Long> ids) {
+        queries.add(List.copyOf(ids));
+        List<User> users = new ArrayList<>();
+        for (Long id : ids) {
+            if (existingIds.contains(id)) {
+                User user = new User();
+                user.setId(id);
+                users.add(user);
+            }
+        }
+        return users;
+    }
+}
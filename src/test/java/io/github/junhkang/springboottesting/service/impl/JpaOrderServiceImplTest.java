@@ -1,6 +1,11 @@
 package io.github.junhkang.springboottesting.service.impl;
 
+import io.github.junhkang.springboottesting.domain.Money;
 import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderLine;
+import io.github.junhkang.springboottesting.domain.OrderPage;
+import io.github.junhkang.springboottesting.domain.OrderStats;
+import io.github.junhkang.springboottesting.domain.OrderStatsRow;
 import io.github.junhkang.springboottesting.domain.OrderStatus;
 import io.github.junhkang.springboottesting.domain.Product;
 import io.github.junhkang.springboottesting.domain.User;
@@ -8,17 +13,27 @@ import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
 import io.github.junhkang.springboottesting.repository.jpa.OrderRepository;
 import io.github.junhkang.springboottesting.repository.jpa.ProductRepository;
 import io.github.junhkang.springboottesting.repository.jpa.UserRepository;
+import io.github.junhkang.springboottesting.service.OrderArchive;
+import io.github.junhkang.springboottesting.service.OrderService;
+import io.github.junhkang.springboottesting.service.ProductCache;
+import io.github.junhkang.springboottesting.service.StockLedger;
+import io.github.junhkang.springboottesting.service.UserOrdersCache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -33,7 +48,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * 'jpa' 프로파일을 활성화하여 JPA 관련 설정과 빈만 로드합니다.
  */
 @DataJpaTest
-@Import(JpaOrderServiceImpl.class)
+@Import({JpaOrderServiceImpl.class, ProductCache.class, StockLedger.class, UserOrdersCache.class, OrderArchive.class})
 @ActiveProfiles("jpa")
 class JpaOrderServiceImplTest {
 
@@ -49,6 +64,12 @@ class JpaOrderServiceImplTest {
     @Autowired
     private JpaOrderServiceImpl orderService;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderArchive orderArchive;
+
     private User testUser;
     private Product testProduct;
 
@@ -70,7 +91,7 @@ class JpaOrderServiceImplTest {
         testProduct = new Product();
         testProduct.setName("Test Product");
         testProduct.setDescription("Test Description");
-        testProduct.setPrice(100.0);
+        testProduct.setPrice(Money.of(100.0));
         testProduct.setStock(50);
         productRepository.save(testProduct);
     }
@@ -130,7 +151,7 @@ class JpaOrderServiceImplTest {
             assertThat(foundOrder.getProduct().getName()).isEqualTo("Test Product");
             assertThat(foundOrder.getQuantity()).isEqualTo(3);
             assertThat(foundOrder.getStatus()).isEqualTo(OrderStatus.PENDING);
-            assertThat(foundOrder.getTotalAmount()).isEqualTo(300.0);
+            assertThat(foundOrder.getTotalAmount()).isEqualTo(Money.of(300.0));
         }
 
         /**
@@ -218,6 +239,170 @@ class JpaOrderServiceImplTest {
                     .extracting(Order::getId)
                     .contains(savedOrder1.getId(), savedOrder2.getId());
         }
+
+        /**
+         * 키셋 페이지네이션 테스트 - 커서를 따라 모든 주문을 중복 없이 순회
+         */
+        @Test
+        @DisplayName("키셋 페이지네이션 테스트 - 커서를 따라 모든 주문 순회")
+        void testGetOrdersPaginatesByCursor() {
+            // Given: 두 개의 주문을 추가로 생성 (data.sql의 5개 + 2개 = 7개)
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 2);
+
+            // When: 페이지 크기 3으로 nextCursor가 null이 될 때까지 조회
+            List<Long> visitedIds = new ArrayList<>();
+            Long cursor = null;
+            int pages = 0;
+            do {
+                OrderPage page = orderService.getOrders(cursor, 3);
+                assertThat(page.getContent()).hasSizeLessThanOrEqualTo(3);
+                page.getContent().forEach(order -> visitedIds.add(order.getId()));
+                cursor = page.getNextCursor();
+                pages++;
+            } while (cursor != null);
+
+            // Then: 모든 주문이 ID 오름차순으로 한 번씩만 조회되었는지 검증
+            assertThat(pages).isEqualTo(3);
+            assertThat(visitedIds).hasSize(7).doesNotHaveDuplicates().isSorted();
+        }
+
+        /**
+         * 키셋 페이지네이션 테스트 - 허용 범위를 벗어난 페이지 크기
+         */
+        @ParameterizedTest
+        @ValueSource(ints = {0, -1, OrderService.MAX_PAGE_SIZE + 1})
+        @DisplayName("키셋 페이지네이션 테스트 - 허용 범위를 벗어난 페이지 크기")
+        void testGetOrdersWithInvalidPageSize(int size) {
+            // When & Then: 페이지 크기가 범위를 벗어나면 IllegalArgumentException이 발생하는지 검증
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+                orderService.getOrders(null, size);
+            });
+
+            assertThat(exception.getMessage()).isEqualTo("Page size must be between 1 and " + OrderService.MAX_PAGE_SIZE + ".");
+        }
+
+        /**
+         * 주문 내보내기 테스트 - 모든 주문을 ID 순으로 한 건씩 전달
+         */
+        @Test
+        @DisplayName("주문 내보내기 테스트 - 모든 주문을 ID 순으로 전달")
+        void testExportOrders() {
+            // Given: 주문 하나를 추가로 생성 (data.sql의 5개 + 1개 = 6개)
+            Order created = orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+
+            // When: 모든 주문을 내보내기
+            List<Long> exportedIds = new ArrayList<>();
+            orderService.exportOrders(order -> exportedIds.add(order.getId()));
+
+            // Then: 모든 주문이 ID 오름차순으로 한 번씩 전달되었는지 검증
+            assertThat(exportedIds).hasSize(6).doesNotHaveDuplicates().isSorted();
+            assertThat(exportedIds).endsWith(created.getId());
+        }
+    }
+
+    /**
+     * 조회 SQL 수 관련 테스트 그룹
+     *
+     * Hibernate 통계로 실행된 SQL 수를 측정하여, 주문 목록 조회 시 사용자/상품을 주문마다
+     * 따로 조회하는 N+1 문제가 발생하지 않는지 검증합니다.
+     * 준비 데이터가 다른 테스트 그룹에 남지 않도록, 준비(flush 포함)와 검증은 테스트 트랜잭션에서 실행되고 롤백됩니다.
+     */
+    @Nested
+    @DisplayName("조회 SQL 수 관련 테스트")
+    class QueryCountTests {
+
+        private Statistics statistics;
+
+        @BeforeEach
+        void setUpOrders() {
+            // Given: 서로 다른 사용자 3명과 상품 3개로 주문 생성
+            for (int i = 0; i < 3; i++) {
+                User user = new User();
+                user.setUsername("user_" + i);
+                user.setEmail("user" + i + "@example.com");
+                userRepository.save(user);
+
+                Product product = new Product();
+                product.setName("Product " + i);
+                product.setDescription("Description " + i);
+                product.setPrice(Money.of(10.0));
+                product.setStock(10);
+                productRepository.save(product);
+
+                orderService.createOrder(user.getId(), product.getId(), 1);
+            }
+
+            // Given: 영속성 컨텍스트를 비워 이후 조회가 모두 DB에서 일어나도록 하고 통계를 초기화
+            entityManager.flush();
+            entityManager.clear();
+            statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                    .unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+        }
+
+        @Test
+        @DisplayName("모든 주문 조회 시 SQL 1회")
+        void testGetAllOrdersRunsSingleStatement() {
+            // When: 모든 주문을 조회하고 연관 엔티티에 접근
+            List<Order> orders = orderService.getAllOrders();
+            orders.forEach(order -> {
+                order.getUser().getUsername();
+                order.getProduct().getName();
+            });
+
+            // Then: 주문 수와 관계없이 SQL이 한 번만 실행되었는지 검증
+            assertThat(orders).hasSize(8);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("주문 페이지 조회 시 SQL 1회")
+        void testGetOrdersPageRunsSingleStatement() {
+            // When: 주문 페이지를 조회하고 연관 엔티티에 접근
+            OrderPage page = orderService.getOrders(null, 10);
+            page.getContent().forEach(order -> {
+                order.getUser().getUsername();
+                order.getProduct().getName();
+            });
+
+            // Then: SQL이 한 번만 실행되었는지 검증
+            assertThat(page.getContent()).hasSize(8);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("주문 날짜 범위 조회 시 SQL 1회")
+        void testGetOrdersByDateRangeRunsSingleStatement() {
+            // When: 넓은 날짜 범위로 주문을 조회하고 연관 엔티티에 접근
+            List<Order> orders = orderService.getOrdersByDateRange(
+                    LocalDateTime.of(2000, 1, 1, 0, 0), LocalDateTime.now().plusDays(1));
+            orders.forEach(order -> {
+                order.getUser().getUsername();
+                order.getProduct().getName();
+            });
+
+            // Then: SQL이 한 번만 실행되었는지 검증
+            assertThat(orders).hasSize(8);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("사용자 ID로 주문 조회 시 SQL 2회 (사용자 확인 + 주문 조회)")
+        void testGetOrdersByUserIdRunsTwoStatements() {
+            // When: testUser의 주문을 조회하고 연관 엔티티에 접근
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+            entityManager.flush();
+            entityManager.clear();
+            statistics.clear();
+
+            List<Order> orders = orderService.getOrdersByUserId(testUser.getId());
+            orders.forEach(order -> order.getProduct().getName());
+
+            // Then: 사용자 존재 확인 1회와 주문 조회 1회만 실행되었는지 검증
+            assertThat(orders).hasSize(1);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        }
     }
 
     /**
@@ -250,7 +435,7 @@ class JpaOrderServiceImplTest {
             assertThat(createdOrder.getProduct().getId()).isEqualTo(productId);
             assertThat(createdOrder.getQuantity()).isEqualTo(quantity);
             assertThat(createdOrder.getStatus()).isEqualTo(OrderStatus.PENDING);
-            assertThat(createdOrder.getTotalAmount()).isEqualTo(testProduct.getPrice() * quantity);
+            assertThat(createdOrder.getTotalAmount()).isEqualTo(testProduct.getPrice().times(quantity));
 
             // Then: 상품의 재고가 감소했는지 검증
             Product updatedProduct = productRepository.findById(productId).orElse(null);
@@ -315,7 +500,7 @@ class JpaOrderServiceImplTest {
 
             // Then: 주문 수량과 총 금액이 올바르게 업데이트되었는지 검증
             assertThat(updatedOrder.getQuantity()).isEqualTo(newQuantity);
-            assertThat(updatedOrder.getTotalAmount()).isEqualTo(testProduct.getPrice() * newQuantity);
+            assertThat(updatedOrder.getTotalAmount()).isEqualTo(testProduct.getPrice().times(newQuantity));
 
             // Then: 상품의 재고가 올바르게 감소했는지 검증
             Product updatedProduct = productRepository.findById(testProduct.getId()).orElse(null);
@@ -344,7 +529,7 @@ class JpaOrderServiceImplTest {
             Order updatedOrder = orderRepository.findById(order.getId()).orElse(null);
             assertThat(updatedOrder).isNotNull();
             assertThat(updatedOrder.getQuantity()).isEqualTo(2);
-            assertThat(updatedOrder.getTotalAmount()).isEqualTo(200.0);
+            assertThat(updatedOrder.getTotalAmount()).isEqualTo(Money.of(200.0));
 
             // Then: 상품의 재고가 변경되지 않았는지 검증
             Product updatedProduct = productRepository.findById(testProduct.getId()).orElse(null);
@@ -368,6 +553,177 @@ class JpaOrderServiceImplTest {
             assertThat(createdOrder.getQuantity()).isEqualTo(quantity);
             assertThat(createdOrder.getStatus()).isEqualTo(OrderStatus.PENDING);
         }
+
+        /**
+         * 주문 생성 테스트 - 재고를 정확히 소진한 뒤 추가 주문은 실패
+         */
+        @Test
+        @DisplayName("주문 생성 테스트 - 재고 소진 후 추가 주문 실패")
+        void testCreateOrderExhaustsStock() {
+            // Given: 재고 50개를 모두 소진하는 주문
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 50);
+
+            // When & Then: 남은 재고가 없으므로 1개 주문도 IllegalArgumentException이 발생하는지 검증
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+                orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+            });
+
+            assertThat(exception.getMessage()).isEqualTo("Insufficient stock for product id " + testProduct.getId());
+
+            // Then: 재고가 음수가 되지 않고 0으로 유지되는지 검증
+            Product updatedProduct = productRepository.findById(testProduct.getId()).orElseThrow();
+            assertThat(updatedProduct.getStock()).isEqualTo(0);
+        }
+
+        /**
+         * 주문 수량 업데이트 테스트 - 성공 케이스 (감소)
+         */
+        @Test
+        @DisplayName("주문 수량 업데이트 테스트 - 성공 케이스 (감소)")
+        void testUpdateOrderQuantityDecrease() {
+            // Given: 주문을 생성 및 저장 (서비스 메서드 사용)
+            Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 5);
+
+            // When: 주문 수량을 2로 업데이트 (감소)
+            Order updatedOrder = orderService.updateOrderQuantity(order.getId(), 2);
+
+            // Then: 주문 수량과 총 금액이 올바르게 업데이트되었는지 검증
+            assertThat(updatedOrder.getQuantity()).isEqualTo(2);
+            assertThat(updatedOrder.getTotalAmount()).isEqualTo(testProduct.getPrice().times(2));
+
+            // Then: 줄어든 수량만큼 재고가 복구되었는지 검증
+            Product updatedProduct = productRepository.findById(testProduct.getId()).orElseThrow();
+            assertThat(updatedProduct.getStock()).isEqualTo(48); // 50 - 5 + 3 = 48
+        }
+    }
+
+    /**
+     * 일괄 주문 생성 관련 테스트 그룹
+     */
+    @Nested
+    @DisplayName("일괄 주문 생성 관련 테스트")
+    class BatchCreationTests {
+
+        /**
+         * 일괄 주문 생성 테스트 - 성공 케이스
+         */
+        @Test
+        @DisplayName("일괄 주문 생성 테스트 - 성공 케이스")
+        void testCreateOrdersSuccess() {
+            // Given: 같은 상품을 포함한 여러 주문 라인
+            Product anotherProduct = new Product();
+            anotherProduct.setName("Another Product");
+            anotherProduct.setDescription("Another Description");
+            anotherProduct.setPrice(Money.of(30.0));
+            anotherProduct.setStock(10);
+            productRepository.save(anotherProduct);
+
+            List<OrderLine> lines = List.of(
+                    new OrderLine(testUser.getId(), testProduct.getId(), 2),
+                    new OrderLine(testUser.getId(), anotherProduct.getId(), 1),
+                    new OrderLine(testUser.getId(), testProduct.getId(), 3)
+            );
+
+            // When: 일괄 주문 생성
+            List<Order> orders = orderService.createOrders(lines);
+
+            // Then: 요청 순서대로 주문이 생성되고 ID와 금액이 채워졌는지 검증
+            assertThat(orders).hasSize(3);
+            assertThat(orders).allMatch(order -> order.getId() != null && order.getStatus() == OrderStatus.PENDING);
+            assertThat(orders).extracting(Order::getQuantity).containsExactly(2, 1, 3);
+            assertThat(orders).extracting(Order::getTotalAmount).containsExactly(Money.of(200.0), Money.of(30.0), Money.of(300.0));
+            assertThat(orderService.getOrdersByUserId(testUser.getId())).hasSize(3);
+
+            // Then: 상품별로 수량 합계만큼 재고가 감소했는지 검증
+            Product updatedProduct = productRepository.findById(testProduct.getId()).orElseThrow();
+            assertThat(updatedProduct.getStock()).isEqualTo(45); // 50 - (2 + 3) = 45
+            Product updatedAnotherProduct = productRepository.findById(anotherProduct.getId()).orElseThrow();
+            assertThat(updatedAnotherProduct.getStock()).isEqualTo(9); // 10 - 1 = 9
+            assertThat(orders.get(0).getProduct().getStock()).isEqualTo(45);
+        }
+
+        /**
+         * 일괄 주문 생성 테스트 - 실패 케이스 (한 상품이라도 재고 부족 시 전체 실패)
+         */
+        @Test
+        @DisplayName("일괄 주문 생성 테스트 - 실패 케이스 (재고 부족 시 전체 실패)")
+        void testCreateOrdersInsufficientStock() {
+            // Given: 개별 수량은 재고 이내지만 합계가 재고(50)를 초과하는 주문 라인
+            List<OrderLine> lines = List.of(
+                    new OrderLine(testUser.getId(), testProduct.getId(), 30),
+                    new OrderLine(testUser.getId(), testProduct.getId(), 30)
+            );
+
+            // When & Then: IllegalArgumentException이 발생하는지 검증
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+                orderService.createOrders(lines);
+            });
+
+            assertThat(exception.getMessage()).isEqualTo("Insufficient stock for product id " + testProduct.getId());
+        }
+
+        /**
+         * 일괄 주문 생성 테스트 - 실패 케이스 (조회 이후 다른 주문이 재고를 차감)
+         */
+        @Test
+        @DisplayName("일괄 주문 생성 테스트 - 실패 케이스 (로드된 상품보다 DB 재고가 적으면 조건부 UPDATE가 거부)")
+        void testCreateOrdersChecksStockInDatabase() {
+            // Given: 영속성 컨텍스트의 상품은 재고 50이지만, 다른 주문이 DB 재고를 1로 줄인 상황
+            productRepository.findById(testProduct.getId()).orElseThrow();
+            productRepository.decreaseStock(testProduct.getId(), 49);
+            List<OrderLine> lines = List.of(new OrderLine(testUser.getId(), testProduct.getId(), 2));
+
+            // When & Then: 메모리의 재고가 아닌 DB 재고로 판단하여 IllegalArgumentException 발생
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+                orderService.createOrders(lines);
+            });
+
+            assertThat(exception.getMessage()).isEqualTo("Insufficient stock for product id " + testProduct.getId());
+            entityManager.clear();
+            assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(1);
+        }
+
+        /**
+         * 일괄 주문 생성 테스트 - 실패 케이스 (존재하지 않는 상품 ID)
+         */
+        @Test
+        @DisplayName("일괄 주문 생성 테스트 - 실패 케이스 (존재하지 않는 상품 ID)")
+        void testCreateOrdersWithNonExistentProduct() {
+            // Given: 존재하지 않는 상품이 포함된 주문 라인
+            Long nonExistentProductId = 999L;
+            List<OrderLine> lines = List.of(
+                    new OrderLine(testUser.getId(), testProduct.getId(), 1),
+                    new OrderLine(testUser.getId(), nonExistentProductId, 1)
+            );
+
+            // When & Then: ResourceNotFoundException이 발생하고 재고가 변경되지 않았는지 검증
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
+                orderService.createOrders(lines);
+            });
+
+            assertThat(exception.getMessage()).isEqualTo("Product not found with id " + nonExistentProductId);
+            Product updatedProduct = productRepository.findById(testProduct.getId()).orElseThrow();
+            assertThat(updatedProduct.getStock()).isEqualTo(50);
+        }
+
+        /**
+         * 일괄 주문 생성 테스트 - 실패 케이스 (잘못된 요청)
+         */
+        @Test
+        @DisplayName("일괄 주문 생성 테스트 - 실패 케이스 (빈 요청 및 0 이하 수량)")
+        void testCreateOrdersInvalidLines() {
+            // When & Then: 빈 주문 라인은 IllegalArgumentException이 발생하는지 검증
+            IllegalArgumentException emptyException = assertThrows(IllegalArgumentException.class, () -> {
+                orderService.createOrders(List.of());
+            });
+            assertThat(emptyException.getMessage()).isEqualTo("Order lines are required.");
+
+            // When & Then: 0 이하 수량은 IllegalArgumentException이 발생하는지 검증
+            IllegalArgumentException quantityException = assertThrows(IllegalArgumentException.class, () -> {
+                orderService.createOrders(List.of(new OrderLine(testUser.getId(), testProduct.getId(), 0)));
+            });
+            assertThat(quantityException.getMessage()).isEqualTo("Order quantity must be positive.");
+        }
     }
 
     /**
@@ -431,6 +787,59 @@ class JpaOrderServiceImplTest {
         }
     }
 
+    /**
+     * 낙관적 락 관련 테스트 그룹
+     */
+    @Nested
+    @DisplayName("낙관적 락 관련 테스트")
+    class OptimisticLockTests {
+
+        /**
+         * 주문 수정 시 version 증가 테스트
+         */
+        @Test
+        @DisplayName("주문 수정 시 version 증가 테스트")
+        void testVersionIncrementsOnUpdate() {
+            // Given: 주문을 생성 및 저장 (서비스 메서드 사용)
+            Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 2);
+            Long initialVersion = order.getVersion();
+
+            // When: 주문 수량을 변경하고 flush
+            orderService.updateOrderQuantity(order.getId(), 3);
+            orderRepository.flush();
+
+            // Then: version이 1 증가했는지 검증
+            assertThat(orderRepository.findById(order.getId()).orElseThrow().getVersion()).isEqualTo(initialVersion + 1);
+        }
+
+        /**
+         * 오래된 version으로 저장 시 충돌 테스트
+         */
+        @Test
+        @DisplayName("오래된 version으로 저장 시 충돌 테스트")
+        void testStaleVersionIsRejected() {
+            // Given: 주문을 생성한 뒤 다른 트랜잭션이 먼저 수정한 상황을 가정
+            Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 2);
+            Order staleCopy = new Order();
+            staleCopy.setId(order.getId());
+            staleCopy.setOrderDate(order.getOrderDate());
+            staleCopy.setUser(order.getUser());
+            staleCopy.setProduct(order.getProduct());
+            staleCopy.setQuantity(10);
+            staleCopy.setStatus(OrderStatus.PENDING);
+            staleCopy.setTotalAmount(Money.of(1000.0));
+            staleCopy.setVersion(order.getVersion());
+
+            orderService.updateOrderQuantity(order.getId(), 3);
+            orderRepository.flush();
+
+            // When & Then: 이전 version을 가진 사본을 저장하면 OptimisticLockingFailureException이 발생하는지 검증
+            assertThrows(OptimisticLockingFailureException.class, () -> {
+                orderRepository.saveAndFlush(staleCopy);
+            });
+        }
+    }
+
     /**
      * 주문 금액 계산 관련 테스트 그룹
      */
@@ -448,10 +857,100 @@ class JpaOrderServiceImplTest {
             Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 5);
 
             // When: 주문의 총 금액을 계산
-            Double totalAmount = orderService.calculateTotalAmount(order.getId());
+            Money totalAmount = orderService.calculateTotalAmount(order.getId());
 
             // Then: 계산된 총 금액이 올바른지 검증
-            assertThat(totalAmount).isEqualTo(500.0);
+            assertThat(totalAmount).isEqualTo(Money.of(500.0));
+        }
+
+        /**
+         * 보관된 주문의 조회 및 금액 계산 테스트
+         */
+        @Test
+        @DisplayName("보관된 주문도 ID로 조회 및 금액 계산")
+        void testArchivedOrderIsFoundById() {
+            // Given: data.sql의 2024-06-01 이전 완료·취소 주문(2, 3, 5)을 보관 테이블로 이동
+            entityManager.flush();
+            orderArchive.archiveOlderThan(LocalDateTime.of(2024, 6, 1, 0, 0));
+            entityManager.clear();
+
+            // When: 운영 테이블에 없는 주문 3을 조회
+            Order order = orderService.getOrderById(3L);
+
+            // Then: 보관 테이블에서 조회되고, 총 금액도 계산됨
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELED);
+            assertThat(orderService.calculateTotalAmount(3L)).isEqualTo(Money.of(2400.0));
+        }
+    }
+
+    /**
+     * 주문 집계 관련 테스트 그룹
+     *
+     * data.sql의 2024년 주문 5건을 기준으로 상태별, 상품별, 사용자별, 일별 집계를 검증합니다.
+     */
+    @Nested
+    @DisplayName("주문 집계 관련 테스트")
+    class OrderStatsTests {
+
+        private final LocalDateTime startDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        private final LocalDateTime endDate = LocalDateTime.of(2024, 12, 31, 23, 59);
+
+        @Test
+        @DisplayName("상태별 집계 테스트")
+        void testOrderStatsByStatus() {
+            // When: 2024년 주문 집계
+            OrderStats stats = orderService.getOrderStats(startDate, endDate);
+
+            // Then: 상태별 주문 수, 수량, 매출이 올바른지 검증
+            assertThat(stats.getByStatus()).containsExactly(
+                    new OrderStatsRow("CANCELED", 1L, 3L, Money.of(2400.0)),
+                    new OrderStatsRow("COMPLETED", 2L, 6L, Money.of(700.0)),
+                    new OrderStatsRow("PENDING", 2L, 3L, Money.of(3400.0)));
+        }
+
+        @Test
+        @DisplayName("상품별, 사용자별, 일별 집계 테스트")
+        void testOrderStatsByProductUserAndDay() {
+            // When: 2024년 주문 집계
+            OrderStats stats = orderService.getOrderStats(startDate, endDate);
+
+            // Then: 상품별 집계 (상품마다 주문 1건)
+            assertThat(stats.getByProduct()).hasSize(5);
+            assertThat(stats.getByProduct().get(0)).isEqualTo(new OrderStatsRow("1", 1L, 2L, Money.of(3000.0)));
+
+            // Then: 사용자별 집계
+            assertThat(stats.getByUser()).containsExactly(
+                    new OrderStatsRow("1", 2L, 5L, Money.of(5400.0)),
+                    new OrderStatsRow("2", 2L, 6L, Money.of(700.0)),
+                    new OrderStatsRow("3", 1L, 1L, Money.of(400.0)));
+
+            // Then: 일별 집계 (날짜순)
+            assertThat(stats.getByDay()).extracting(OrderStatsRow::getGroupKey).containsExactly(
+                    "2024-01-15", "2024-02-20", "2024-03-05", "2024-04-10", "2024-05-25");
+        }
+
+        @Test
+        @DisplayName("집계 테스트 - 범위 내 주문이 없는 경우")
+        void testOrderStatsWithNoOrdersInRange() {
+            // When: 주문이 없는 기간으로 집계
+            OrderStats stats = orderService.getOrderStats(
+                    LocalDateTime.of(2000, 1, 1, 0, 0), LocalDateTime.of(2000, 12, 31, 23, 59));
+
+            // Then: 모든 집계가 비어 있는지 검증
+            assertThat(stats.getByStatus()).isEmpty();
+            assertThat(stats.getByProduct()).isEmpty();
+            assertThat(stats.getByUser()).isEmpty();
+            assertThat(stats.getByDay()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("집계 테스트 - 시작일이 종료일보다 늦은 경우")
+        void testOrderStatsWithInvalidRange() {
+            // When & Then: 잘못된 기간으로 집계 시 IllegalArgumentException이 발생하는지 검증
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                    orderService.getOrderStats(endDate, startDate));
+
+            assertThat(exception.getMessage()).isEqualTo("Start date must not be after end date.");
         }
     }
 
@@ -574,7 +1073,7 @@ class JpaOrderServiceImplTest {
             Order updatedOrder = orderRepository.findById(order.getId()).orElse(null);
             assertThat(updatedOrder).isNotNull();
             assertThat(updatedOrder.getQuantity()).isEqualTo(2);
-            assertThat(updatedOrder.getTotalAmount()).isEqualTo(200.0);
+            assertThat(updatedOrder.getTotalAmount()).isEqualTo(Money.of(200.0));
         }
 
         /**
@@ -598,7 +1097,7 @@ class JpaOrderServiceImplTest {
             Order updatedOrder = orderRepository.findById(order.getId()).orElse(null);
             assertThat(updatedOrder).isNotNull();
             assertThat(updatedOrder.getQuantity()).isEqualTo(2);
-            assertThat(updatedOrder.getTotalAmount()).isEqualTo(200.0);
+            assertThat(updatedOrder.getTotalAmount()).isEqualTo(Money.of(200.0));
 
             // Then: 상품의 재고가 변경되지 않았는지 검증
             Product updatedProduct = productRepository.findById(testProduct.getId()).orElse(null);
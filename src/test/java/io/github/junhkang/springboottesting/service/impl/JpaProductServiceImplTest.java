@@ -1,14 +1,19 @@
 package io.github.junhkang.springboottesting.service.impl;
 
+import io.github.junhkang.springboottesting.domain.Money;
 import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.ProductCacheStats;
 import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
 import io.github.junhkang.springboottesting.repository.jpa.ProductRepository;
+import io.github.junhkang.springboottesting.service.ProductCache;
+import io.github.junhkang.springboottesting.service.UserOrdersCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,7 +31,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * 'jpa' 프로파일을 활성화하여 JPA 관련 설정과 빈만 로드합니다.
  */
 @DataJpaTest
-@Import(JpaProductServiceImpl.class)
+@Import({JpaProductServiceImpl.class, ProductCache.class, UserOrdersCache.class})
 @ActiveProfiles("jpa")
 class JpaProductServiceImplTest {
 
@@ -36,6 +41,9 @@ class JpaProductServiceImplTest {
     @Autowired
     private JpaProductServiceImpl productService;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Product testProduct;
 
     /**
@@ -50,7 +58,7 @@ class JpaProductServiceImplTest {
         testProduct = new Product();
         testProduct.setName("Test Product");
         testProduct.setDescription("Test Description");
-        testProduct.setPrice(100.0);
+        testProduct.setPrice(Money.of(100.0));
         testProduct.setStock(50);
         productRepository.save(testProduct);
     }
@@ -94,7 +102,7 @@ class JpaProductServiceImplTest {
             assertThat(foundProduct.getId()).isEqualTo(testProduct.getId());
             assertThat(foundProduct.getName()).isEqualTo("Test Product");
             assertThat(foundProduct.getDescription()).isEqualTo("Test Description");
-            assertThat(foundProduct.getPrice()).isEqualTo(100.0);
+            assertThat(foundProduct.getPrice()).isEqualTo(Money.of(100.0));
             assertThat(foundProduct.getStock()).isEqualTo(50);
         }
 
@@ -114,6 +122,22 @@ class JpaProductServiceImplTest {
 
             assertThat(exception.getMessage()).isEqualTo("Product not found with id " + nonExistentId);
         }
+
+        /**
+         * 여러 ID로 상품 조회 테스트
+         */
+        @Test
+        @DisplayName("여러 ID로 상품 조회 테스트 - 요청 순서 유지, 없는 ID 제외")
+        void testGetProductsByIds() {
+            // Given: 존재하는 ID, 중복 ID, 존재하지 않는 ID를 섞은 목록
+            List<Long> ids = List.of(testProduct.getId(), 3L, 999L, 1L, 3L);
+
+            // When: 여러 상품을 한 번에 조회
+            List<Product> products = productService.getProductsByIds(ids);
+
+            // Then: 존재하는 상품만 요청 순서대로 한 번씩 반환되는지 검증
+            assertThat(products).extracting(Product::getId).containsExactly(testProduct.getId(), 3L, 1L);
+        }
     }
 
     /**
@@ -134,7 +158,7 @@ class JpaProductServiceImplTest {
             Product newProduct = new Product();
             newProduct.setName("New Product");
             newProduct.setDescription("New Description");
-            newProduct.setPrice(200.0);
+            newProduct.setPrice(Money.of(200.0));
             newProduct.setStock(30);
 
             // When: 상품 생성
@@ -145,7 +169,7 @@ class JpaProductServiceImplTest {
             assertThat(createdProduct.getId()).isNotNull();
             assertThat(createdProduct.getName()).isEqualTo("New Product");
             assertThat(createdProduct.getDescription()).isEqualTo("New Description");
-            assertThat(createdProduct.getPrice()).isEqualTo(200.0);
+            assertThat(createdProduct.getPrice()).isEqualTo(Money.of(200.0));
             assertThat(createdProduct.getStock()).isEqualTo(30);
 
             // Then: 데이터베이스에 저장된 상품 수가 증가했는지 검증
@@ -162,7 +186,7 @@ class JpaProductServiceImplTest {
             // Given: 이름이 누락된 상품 정보
             Product incompleteProduct = new Product();
             incompleteProduct.setDescription("Incomplete Description");
-            incompleteProduct.setPrice(150.0);
+            incompleteProduct.setPrice(Money.of(150.0));
             incompleteProduct.setStock(20);
 
             // When & Then: 상품 생성 시 IllegalArgumentException이 발생하는지 검증
@@ -183,7 +207,7 @@ class JpaProductServiceImplTest {
             Product invalidPriceProduct = new Product();
             invalidPriceProduct.setName("Invalid Price Product");
             invalidPriceProduct.setDescription("Invalid Price Description");
-            invalidPriceProduct.setPrice(-50.0);
+            invalidPriceProduct.setPrice(Money.of(-50.0));
             invalidPriceProduct.setStock(10);
 
             // When & Then: 상품 생성 시 IllegalArgumentException이 발생하는지 검증
@@ -204,7 +228,7 @@ class JpaProductServiceImplTest {
             Product invalidStockProduct = new Product();
             invalidStockProduct.setName("Invalid Stock Product");
             invalidStockProduct.setDescription("Invalid Stock Description");
-            invalidStockProduct.setPrice(100.0);
+            invalidStockProduct.setPrice(Money.of(100.0));
             invalidStockProduct.setStock(-10);
 
             // When & Then: 상품 생성 시 IllegalArgumentException이 발생하는지 검증
@@ -214,5 +238,90 @@ class JpaProductServiceImplTest {
 
             assertThat(exception.getMessage()).isEqualTo("Product stock cannot be negative.");
         }
+
+        @Test
+        @DisplayName("상품 일괄 생성 테스트 - 성공 케이스")
+        void testCreateProducts() {
+            // Given: 새로운 상품 두 개
+            Product first = new Product();
+            first.setName("Bulk Product 1");
+            first.setPrice(Money.of(10.0));
+            first.setStock(1);
+            Product second = new Product();
+            second.setName("Bulk Product 2");
+            second.setPrice(Money.of(20.0));
+            second.setStock(2);
+
+            // When: 일괄 생성
+            List<Product> created = productService.createProducts(List.of(first, second));
+
+            // Then: 두 상품 모두 ID가 채워지고 데이터베이스에서 조회됨
+            assertThat(created).extracting(Product::getId).doesNotContainNull();
+            assertTrue(productRepository.findById(created.get(1).getId()).isPresent());
+        }
+
+        @Test
+        @DisplayName("상품 일괄 생성 테스트 - 등록한 상품만 영속성 컨텍스트에서 분리")
+        void testCreateProductsDetachesSavedProducts() {
+            // Given: 새로운 상품 한 개
+            Product product = new Product();
+            product.setName("Bulk Product");
+            product.setPrice(Money.of(10.0));
+            product.setStock(1);
+
+            // When: 일괄 생성
+            List<Product> created = productService.createProducts(List.of(product));
+
+            // Then: 등록한 상품은 분리되어 쌓이지 않고, 호출 전부터 관리되던 상품은 그대로 관리됨
+            assertThat(entityManager.getEntityManager().contains(created.get(0))).isFalse();
+            assertThat(entityManager.getEntityManager().contains(testProduct)).isTrue();
+        }
+    }
+
+    /**
+     * 상품 캐시 관련 테스트 그룹
+     */
+    @Nested
+    @DisplayName("상품 캐시 관련 테스트")
+    class CacheTests {
+
+        /**
+         * 같은 상품을 다시 조회하면 캐시에서 반환
+         */
+        @Test
+        @DisplayName("상품 재조회 시 캐시 적중")
+        void testGetProductByIdHitsCache() {
+            // Given: 상품을 한 번 조회하여 캐시에 저장
+            productService.getProductById(testProduct.getId());
+            ProductCacheStats before = productService.getCacheStats();
+
+            // When: 같은 상품을 다시 조회
+            Product cachedProduct = productService.getProductById(testProduct.getId());
+
+            // Then: 캐시 적중 수만 증가하고 같은 값이 반환되는지 검증
+            ProductCacheStats after = productService.getCacheStats();
+            assertThat(after.getHitCount()).isEqualTo(before.getHitCount() + 1);
+            assertThat(after.getMissCount()).isEqualTo(before.getMissCount());
+            assertThat(cachedProduct.getName()).isEqualTo("Test Product");
+            assertThat(cachedProduct.getStock()).isEqualTo(50);
+        }
+
+        /**
+         * 반환된 상품을 수정해도 캐시 항목은 변경되지 않음
+         */
+        @Test
+        @DisplayName("반환된 상품 수정이 캐시에 영향 없음")
+        void testCachedProductIsNotSharedWithCaller() {
+            // Given: 캐시된 상품을 조회한 뒤 반환값을 수정
+            productService.getProductById(testProduct.getId());
+            Product cachedProduct = productService.getProductById(testProduct.getId());
+            cachedProduct.setStock(0);
+
+            // When: 같은 상품을 다시 조회
+            Product product = productService.getProductById(testProduct.getId());
+
+            // Then: 캐시에 저장된 재고가 그대로인지 검증
+            assertThat(product.getStock()).isEqualTo(50);
+        }
     }
-}
\ No newline at end of file
+}
@@ -5,18 +5,25 @@ import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
 import io.github.junhkang.springboottesting.repository.mybatis.OrderMapper;
 import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
 import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
+import io.github.junhkang.springboottesting.service.OrderService;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -60,6 +67,15 @@ class MyBatisOrderServiceImplTest {
     @Autowired
     private MyBatisOrderServiceImpl orderService;
 
+    @Autowired
+    private MyBatisProductServiceImpl productService;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private UserDTO testUser;
     private ProductDTO testProduct;
 
@@ -81,7 +97,7 @@ class MyBatisOrderServiceImplTest {
         testProduct = new ProductDTO();
         testProduct.setName("Test Product");
         testProduct.setDescription("Test Description");
-        testProduct.setPrice(100.0);
+        testProduct.setPrice(Money.of(100.0));
         testProduct.setStock(50);
         productMapper.insert(testProduct); // insert 시 ID가 설정된다고 가정
     }
@@ -114,6 +130,26 @@ class MyBatisOrderServiceImplTest {
             assertThat(orders).hasSize(7);
         }
 
+        /**
+         * 사용자 주문 목록 집계 값 테스트
+         */
+        @Test
+        @DisplayName("사용자 주문 목록 집계 값 - 주문 생성과 취소 시 바뀜")
+        void testOrdersVersionStampByUserId() {
+            // Given: 주문이 하나 있는 사용자
+            Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+            VersionStamp afterCreate = orderService.getOrdersVersionStampByUserId(testUser.getId());
+            assertThat(afterCreate.getRowCount()).isEqualTo(1L);
+
+            // When: 주문 취소 (주문과 상품의 버전이 증가)
+            orderService.cancelOrder(order.getId());
+
+            // Then: 주문 수는 같지만 집계 값이 바뀜
+            VersionStamp afterCancel = orderService.getOrdersVersionStampByUserId(testUser.getId());
+            assertThat(afterCancel.getRowCount()).isEqualTo(1L);
+            assertThat(afterCancel.toETag()).isNotEqualTo(afterCreate.toETag());
+        }
+
         /**
          * 주문 ID로 주문 조회 테스트 - 존재하는 ID
          */
@@ -133,7 +169,7 @@ class MyBatisOrderServiceImplTest {
             assertThat(foundOrder.getProduct().getName()).isEqualTo("Test Product");
             assertThat(foundOrder.getQuantity()).isEqualTo(3);
             assertThat(foundOrder.getStatus()).isEqualTo(OrderStatus.PENDING);
-            assertThat(foundOrder.getTotalAmount()).isEqualTo(300.0);
+            assertThat(foundOrder.getTotalAmount()).isEqualTo(Money.of(300.0));
         }
 
         /**
@@ -219,6 +255,215 @@ class MyBatisOrderServiceImplTest {
                     .extracting(Order::getId)
                     .contains(savedOrder1.getId(), savedOrder2.getId());
         }
+
+        /**
+         * 키셋 페이지네이션 테스트 - 커서를 따라 모든 주문을 중복 없이 순회
+         */
+        @Test
+        @DisplayName("키셋 페이지네이션 테스트 - 커서를 따라 모든 주문 순회")
+        void testGetOrdersPaginatesByCursor() {
+            // Given: 두 개의 주문을 추가로 생성 (data.sql의 5개 + 2개 = 7개)
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 2);
+
+            // When: 페이지 크기 3으로 nextCursor가 null이 될 때까지 조회
+            List<Long> visitedIds = new ArrayList<>();
+            Long cursor = null;
+            int pages = 0;
+            do {
+                OrderPage page = orderService.getOrders(cursor, 3);
+                assertThat(page.getContent()).hasSizeLessThanOrEqualTo(3);
+                page.getContent().forEach(order -> visitedIds.add(order.getId()));
+                cursor = page.getNextCursor();
+                pages++;
+            } while (cursor != null);
+
+            // Then: 모든 주문이 ID 오름차순으로 한 번씩만 조회되었는지 검증
+            assertThat(pages).isEqualTo(3);
+            assertThat(visitedIds).hasSize(7).doesNotHaveDuplicates().isSorted();
+        }
+
+        /**
+         * 키셋 페이지네이션 테스트 - 허용 범위를 벗어난 페이지 크기
+         */
+        @ParameterizedTest
+        @ValueSource(ints = {0, -1, OrderService.MAX_PAGE_SIZE + 1})
+        @DisplayName("키셋 페이지네이션 테스트 - 허용 범위를 벗어난 페이지 크기")
+        void testGetOrdersWithInvalidPageSize(int size) {
+            // When & Then: 페이지 크기가 범위를 벗어나면 IllegalArgumentException이 발생하는지 검증
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+                orderService.getOrders(null, size);
+            });
+
+            assertThat(exception.getMessage()).isEqualTo("Page size must be between 1 and " + OrderService.MAX_PAGE_SIZE + ".");
+        }
+
+        /**
+         * 주문 내보내기 테스트 - 모든 주문을 ID 순으로 한 건씩 전달
+         */
+        @Test
+        @DisplayName("주문 내보내기 테스트 - 모든 주문을 ID 순으로 전달")
+        void testExportOrders() {
+            // Given: 주문 하나를 추가로 생성 (data.sql의 5개 + 1개 = 6개)
+            Order created = orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+
+            // When: 모든 주문을 내보내기
+            List<Long> exportedIds = new ArrayList<>();
+            orderService.exportOrders(order -> exportedIds.add(order.getId()));
+
+            // Then: 모든 주문이 ID 오름차순으로 한 번씩 전달되었는지 검증
+            assertThat(exportedIds).hasSize(6).doesNotHaveDuplicates().isSorted();
+            assertThat(exportedIds).endsWith(created.getId());
+        }
+    }
+
+    /**
+     * 결과 매핑 관련 테스트 그룹
+     *
+     * 목록 조회가 orderResultMap으로 주문 그래프를 채우고, 같은 ID의 사용자와 상품은 하나의 인스턴스를 공유하는지 검증합니다.
+     */
+    @Nested
+    @DisplayName("결과 매핑 관련 테스트")
+    class MappingTests {
+
+        @Test
+        @DisplayName("사용자 ID로 주문 조회 시 같은 사용자와 상품 인스턴스를 공유")
+        void testOrdersShareUserAndProductInstances() {
+            // Given: 같은 사용자와 상품으로 주문 두 건 생성
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 2);
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+
+            // When: 사용자 ID로 주문 조회
+            List<Order> orders = orderService.getOrdersByUserId(testUser.getId());
+
+            // Then: 두 주문이 동일한 User/Product 인스턴스를 참조하고, 필드가 올바르게 채워짐
+            assertThat(orders).hasSize(2);
+            assertThat(orders.get(0).getUser()).isSameAs(orders.get(1).getUser());
+            assertThat(orders.get(0).getProduct()).isSameAs(orders.get(1).getProduct());
+            assertThat(orders.get(0).getUser().getUsername()).isEqualTo("test_user");
+            assertThat(orders.get(0).getProduct().getName()).isEqualTo("Test Product");
+            assertThat(orders.get(0).getStatus()).isEqualTo(OrderStatus.PENDING);
+        }
+
+        @Test
+        @DisplayName("조인된 사용자 이메일과 상품 가격·재고가 주문 그래프에 채워짐")
+        void testOrderGraphIncludesJoinedColumns() {
+            // Given: 주문 생성 (재고 50 -> 47)
+            Order created = orderService.createOrder(testUser.getId(), testProduct.getId(), 3);
+
+            // When: 날짜 범위로 주문 조회
+            List<Order> orders = orderService.getOrdersByDateRange(
+                    created.getOrderDate().minusMinutes(1), created.getOrderDate().plusMinutes(1));
+
+            // Then: 사용자/상품 컬럼이 빠짐없이 매핑됨
+            Order order = orders.stream()
+                    .filter(o -> o.getId().equals(created.getId()))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(order.getUser().getEmail()).isEqualTo("test.user@example.com");
+            assertThat(order.getProduct().getPrice()).isEqualTo(Money.of(100.0));
+            assertThat(order.getProduct().getStock()).isEqualTo(47);
+            assertThat(order.getTotalAmount()).isEqualTo(Money.of(300.0));
+        }
+    }
+
+    /**
+     * 인덱스 사용 관련 테스트 그룹
+     *
+     * 매퍼에 정의된 SQL을 그대로 EXPLAIN하여, 조회 조건이 전체 스캔이 아닌 주문 인덱스를 사용하는지 검증합니다.
+     */
+    @Nested
+    @DisplayName("인덱스 사용 관련 테스트")
+    class IndexUsageTests {
+
+        /**
+         * H2는 외래 키마다 단일 컬럼 인덱스를 따로 만들고, 3개 테이블 조인에서는 정렬 순서를 비용에 넣지 않으므로
+         * 매퍼의 USE INDEX 힌트가 없으면 외래 키 인덱스를 고릅니다. 힌트가 빠지면 이 테스트가 실패합니다.
+         */
+        @Test
+        @DisplayName("사용자 ID로 주문 조회 시 idx_orders_user_id_order_date 인덱스 사용")
+        void testFindByUserIdUsesUserIdOrderDateIndex() {
+            // When: findByUserId 쿼리의 실행 계획 조회
+            String plan = explain("findByUserId", testUser.getId(), testUser.getId()).toLowerCase();
+
+            // Then: orders를 user_id 조건으로 복합 인덱스에서 탐색하는지 검증
+            assertThat(plan).contains("/* public.idx_orders_user_id_order_date: user_id = ?1 */");
+            assertThat(plan).doesNotContain("orders.tablescan");
+        }
+
+        @Test
+        @DisplayName("주문 날짜 범위 조회 시 order_date 인덱스 사용")
+        void testFindByOrderDateBetweenUsesOrderDateIndex() {
+            // Given: 조회할 날짜 범위
+            LocalDateTime startDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+            LocalDateTime endDate = LocalDateTime.of(2024, 1, 31, 23, 59);
+
+            // When: findByOrderDateBetween 쿼리의 실행 계획 조회
+            String plan = explain("findByOrderDateBetween",
+                    Map.of("startDate", startDate, "endDate", endDate), startDate, endDate);
+
+            // Then: idx_orders_order_date 인덱스를 사용하는지 검증
+            assertThat(plan.toLowerCase()).contains("idx_orders_order_date");
+        }
+
+        private String explain(String statementId, Object parameter, Object... args) {
+            String sql = sqlSessionFactory.getConfiguration()
+                    .getMappedStatement(OrderMapper.class.getName() + "." + statementId)
+                    .getBoundSql(parameter)
+                    .getSql();
+            return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+        }
+    }
+
+    /**
+     * 상품 캐시 무효화 관련 테스트 그룹
+     *
+     * 주문 흐름이 재고를 바꾼 뒤에는 캐시된 상품 조회도 바뀐 재고를 반환해야 합니다.
+     */
+    @Nested
+    @DisplayName("상품 캐시 무효화 관련 테스트")
+    class ProductCacheInvalidationTests {
+
+        @Test
+        @DisplayName("주문 생성 후 캐시된 상품 재고 갱신")
+        void testCreateOrderEvictsCachedProduct() {
+            // Given: 상품을 조회하여 캐시에 저장
+            assertThat(productService.getProductById(testProduct.getId()).getStock()).isEqualTo(50);
+
+            // When: 주문 생성
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 5);
+
+            // Then: 다시 조회한 상품의 재고가 감소했는지 검증
+            assertThat(productService.getProductById(testProduct.getId()).getStock()).isEqualTo(45);
+        }
+
+        @Test
+        @DisplayName("주문 취소 후 캐시된 상품 재고 갱신")
+        void testCancelOrderEvictsCachedProduct() {
+            // Given: 주문 생성 후 상품을 조회하여 캐시에 저장
+            Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 5);
+            assertThat(productService.getProductById(testProduct.getId()).getStock()).isEqualTo(45);
+
+            // When: 주문 취소
+            orderService.cancelOrder(order.getId());
+
+            // Then: 다시 조회한 상품의 재고가 복구되었는지 검증
+            assertThat(productService.getProductById(testProduct.getId()).getStock()).isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("주문 수량 변경 후 캐시된 상품 재고 갱신")
+        void testUpdateOrderQuantityEvictsCachedProduct() {
+            // Given: 주문 생성 후 상품을 조회하여 캐시에 저장
+            Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 2);
+            assertThat(productService.getProductById(testProduct.getId()).getStock()).isEqualTo(48);
+
+            // When: 주문 수량을 4로 변경
+            orderService.updateOrderQuantity(order.getId(), 4);
+
+            // Then: 다시 조회한 상품의 재고가 반영되었는지 검증
+            assertThat(productService.getProductById(testProduct.getId()).getStock()).isEqualTo(46);
+        }
     }
 
     /**
@@ -246,10 +491,12 @@ class MyBatisOrderServiceImplTest {
             assertThat(createdOrder).isNotNull();
             assertThat(createdOrder.getId()).isNotNull();
             assertThat(createdOrder.getUser().getId()).isEqualTo(userId);
+            assertThat(createdOrder.getUser().getUsername()).isEqualTo(testUser.getUsername());
             assertThat(createdOrder.getProduct().getId()).isEqualTo(productId);
+            assertThat(createdOrder.getProduct().getName()).isEqualTo(testProduct.getName());
             assertThat(createdOrder.getQuantity()).isEqualTo(quantity);
             assertThat(createdOrder.getStatus()).isEqualTo(OrderStatus.PENDING);
-            assertThat(createdOrder.getTotalAmount()).isEqualTo(testProduct.getPrice() * quantity);
+            assertThat(createdOrder.getTotalAmount()).isEqualTo(testProduct.getPrice().times(quantity));
 
             // Then: 상품의 재고가 감소했는지 검증
             ProductDTO updatedProduct = productMapper.findById(productId);
@@ -334,7 +581,7 @@ class MyBatisOrderServiceImplTest {
 
             // Then: 주문 수량과 총 금액이 올바르게 업데이트되었는지 검증
             assertThat(updatedOrder.getQuantity()).isEqualTo(newQuantity);
-            assertThat(updatedOrder.getTotalAmount()).isEqualTo(testProduct.getPrice() * newQuantity);
+            assertThat(updatedOrder.getTotalAmount()).isEqualTo(testProduct.getPrice().times(newQuantity));
 
             // Then: 상품의 재고가 올바르게 감소했는지 검증
             ProductDTO updatedProduct = productMapper.findById(testProduct.getId());
@@ -363,7 +610,7 @@ class MyBatisOrderServiceImplTest {
             OrderDTO updatedOrder = orderMapper.findById(order.getId());
             assertThat(updatedOrder).isNotNull();
             assertThat(updatedOrder.getQuantity()).isEqualTo(2);
-            assertThat(updatedOrder.getTotalAmount()).isEqualTo(200.0);
+            assertThat(updatedOrder.getTotalAmount()).isEqualTo(Money.of(200.0));
 
             // Then: 상품의 재고가 변경되지 않았는지 검증
             ProductDTO updatedProduct = productMapper.findById(testProduct.getId());
@@ -396,13 +643,162 @@ class MyBatisOrderServiceImplTest {
             OrderDTO updatedOrder = orderMapper.findById(order.getId());
             assertThat(updatedOrder).isNotNull();
             assertThat(updatedOrder.getQuantity()).isEqualTo(2);
-            assertThat(updatedOrder.getTotalAmount()).isEqualTo(200.0);
+            assertThat(updatedOrder.getTotalAmount()).isEqualTo(Money.of(200.0));
 
             // Then: 상품의 재고가 변경되지 않았는지 검증
             ProductDTO updatedProduct = productMapper.findById(testProduct.getId());
             assertThat(updatedProduct).isNotNull();
             assertThat(updatedProduct.getStock()).isEqualTo(48); // 50 - 2 = 48
         }
+
+        /**
+         * 주문 생성 테스트 - 재고를 정확히 소진한 뒤 추가 주문은 실패
+         */
+        @Test
+        @DisplayName("주문 생성 테스트 - 재고 소진 후 추가 주문 실패")
+        void testCreateOrderExhaustsStock() {
+            // Given: 재고 50개를 모두 소진하는 주문
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 50);
+
+            // When & Then: 남은 재고가 없으므로 1개 주문도 IllegalArgumentException이 발생하는지 검증
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+                orderService.createOrder(testUser.getId(), testProduct.getId(), 1);
+            });
+
+            assertThat(exception.getMessage()).isEqualTo("Insufficient stock for product id " + testProduct.getId());
+
+            // Then: 재고가 음수가 되지 않고 0으로 유지되는지 검증
+            ProductDTO updatedProduct = productMapper.findById(testProduct.getId());
+            assertThat(updatedProduct.getStock()).isEqualTo(0);
+        }
+
+        /**
+         * 주문 수량 업데이트 테스트 - 성공 케이스 (감소)
+         */
+        @Test
+        @DisplayName("주문 수량 업데이트 테스트 - 성공 케이스 (감소)")
+        void testUpdateOrderQuantityDecrease() {
+            // Given: 주문을 생성 및 저장 (서비스 메서드 사용)
+            Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 5);
+
+            // When: 주문 수량을 2로 업데이트 (감소)
+            Order updatedOrder = orderService.updateOrderQuantity(order.getId(), 2);
+
+            // Then: 주문 수량과 총 금액이 올바르게 업데이트되었는지 검증
+            assertThat(updatedOrder.getQuantity()).isEqualTo(2);
+            assertThat(updatedOrder.getTotalAmount()).isEqualTo(testProduct.getPrice().times(2));
+
+            // Then: 줄어든 수량만큼 재고가 복구되었는지 검증
+            ProductDTO updatedProduct = productMapper.findById(testProduct.getId());
+            assertThat(updatedProduct.getStock()).isEqualTo(48); // 50 - 5 + 3 = 48
+        }
+    }
+
+    /**
+     * 일괄 주문 생성 관련 테스트 그룹
+     */
+    @Nested
+    @DisplayName("일괄 주문 생성 관련 테스트")
+    class BatchCreationTests {
+
+        /**
+         * 일괄 주문 생성 테스트 - 성공 케이스
+         */
+        @Test
+        @DisplayName("일괄 주문 생성 테스트 - 성공 케이스")
+        void testCreateOrdersSuccess() {
+            // Given: 같은 상품을 포함한 여러 주문 라인
+            ProductDTO anotherProduct = new ProductDTO();
+            anotherProduct.setName("Another Product");
+            anotherProduct.setDescription("Another Description");
+            anotherProduct.setPrice(Money.of(30.0));
+            anotherProduct.setStock(10);
+            productMapper.insert(anotherProduct);
+
+            List<OrderLine> lines = List.of(
+                    new OrderLine(testUser.getId(), testProduct.getId(), 2),
+                    new OrderLine(testUser.getId(), anotherProduct.getId(), 1),
+                    new OrderLine(testUser.getId(), testProduct.getId(), 3)
+            );
+
+            // When: 일괄 주문 생성
+            List<Order> orders = orderService.createOrders(lines);
+
+            // Then: 요청 순서대로 주문이 생성되고 ID와 금액이 채워졌는지 검증
+            assertThat(orders).hasSize(3);
+            assertThat(orders).allMatch(order -> order.getId() != null && order.getStatus() == OrderStatus.PENDING);
+            assertThat(orders).extracting(Order::getQuantity).containsExactly(2, 1, 3);
+            assertThat(orders).extracting(Order::getTotalAmount).containsExactly(Money.of(200.0), Money.of(30.0), Money.of(300.0));
+            assertThat(orderService.getOrdersByUserId(testUser.getId())).hasSize(3);
+
+            // Then: 상품별로 수량 합계만큼 재고가 감소했는지 검증
+            ProductDTO updatedProduct = productMapper.findById(testProduct.getId());
+            assertThat(updatedProduct.getStock()).isEqualTo(45); // 50 - (2 + 3) = 45
+            ProductDTO updatedAnotherProduct = productMapper.findById(anotherProduct.getId());
+            assertThat(updatedAnotherProduct.getStock()).isEqualTo(9); // 10 - 1 = 9
+        }
+
+        /**
+         * 일괄 주문 생성 테스트 - 실패 케이스 (한 상품이라도 재고 부족 시 전체 실패)
+         */
+        @Test
+        @DisplayName("일괄 주문 생성 테스트 - 실패 케이스 (재고 부족 시 전체 실패)")
+        void testCreateOrdersInsufficientStock() {
+            // Given: 개별 수량은 재고 이내지만 합계가 재고(50)를 초과하는 주문 라인
+            List<OrderLine> lines = List.of(
+                    new OrderLine(testUser.getId(), testProduct.getId(), 30),
+                    new OrderLine(testUser.getId(), testProduct.getId(), 30)
+            );
+
+            // When & Then: IllegalArgumentException이 발생하는지 검증
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+                orderService.createOrders(lines);
+            });
+
+            assertThat(exception.getMessage()).isEqualTo("Insufficient stock for product id " + testProduct.getId());
+        }
+
+        /**
+         * 일괄 주문 생성 테스트 - 실패 케이스 (존재하지 않는 상품 ID)
+         */
+        @Test
+        @DisplayName("일괄 주문 생성 테스트 - 실패 케이스 (존재하지 않는 상품 ID)")
+        void testCreateOrdersWithNonExistentProduct() {
+            // Given: 존재하지 않는 상품이 포함된 주문 라인
+            Long nonExistentProductId = 999L;
+            List<OrderLine> lines = List.of(
+                    new OrderLine(testUser.getId(), testProduct.getId(), 1),
+                    new OrderLine(testUser.getId(), nonExistentProductId, 1)
+            );
+
+            // When & Then: ResourceNotFoundException이 발생하고 재고가 변경되지 않았는지 검증
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
+                orderService.createOrders(lines);
+            });
+
+            assertThat(exception.getMessage()).isEqualTo("Product not found with id " + nonExistentProductId);
+            ProductDTO updatedProduct = productMapper.findById(testProduct.getId());
+            assertThat(updatedProduct.getStock()).isEqualTo(50);
+        }
+
+        /**
+         * 일괄 주문 생성 테스트 - 실패 케이스 (잘못된 요청)
+         */
+        @Test
+        @DisplayName("일괄 주문 생성 테스트 - 실패 케이스 (빈 요청 및 0 이하 수량)")
+        void testCreateOrdersInvalidLines() {
+            // When & Then: 빈 주문 라인은 IllegalArgumentException이 발생하는지 검증
+            IllegalArgumentException emptyException = assertThrows(IllegalArgumentException.class, () -> {
+                orderService.createOrders(List.of());
+            });
+            assertThat(emptyException.getMessage()).isEqualTo("Order lines are required.");
+
+            // When & Then: 0 이하 수량은 IllegalArgumentException이 발생하는지 검증
+            IllegalArgumentException quantityException = assertThrows(IllegalArgumentException.class, () -> {
+                orderService.createOrders(List.of(new OrderLine(testUser.getId(), testProduct.getId(), 0)));
+            });
+            assertThat(quantityException.getMessage()).isEqualTo("Order quantity must be positive.");
+        }
     }
 
     /**
@@ -466,6 +862,74 @@ class MyBatisOrderServiceImplTest {
         }
     }
 
+    /**
+     * 낙관적 락 관련 테스트 그룹
+     */
+    @Nested
+    @DisplayName("낙관적 락 관련 테스트")
+    class OptimisticLockTests {
+
+        /**
+         * 주문 수정 시 version 증가 테스트
+         */
+        @Test
+        @DisplayName("주문 수정 시 version 증가 테스트")
+        void testVersionIncrementsOnUpdate() {
+            // Given: 주문을 생성 및 저장 (서비스 메서드 사용)
+            Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 2);
+            assertThat(order.getVersion()).isEqualTo(0L);
+
+            // When: 주문 수량을 변경
+            Order updatedOrder = orderService.updateOrderQuantity(order.getId(), 3);
+
+            // Then: 반환된 주문과 저장된 주문의 version이 모두 1 증가했는지 검증
+            assertThat(updatedOrder.getVersion()).isEqualTo(1L);
+            assertThat(orderMapper.findById(order.getId()).getVersion()).isEqualTo(1L);
+        }
+
+        /**
+         * 오래된 version으로 갱신 시 충돌 테스트
+         */
+        @Test
+        @DisplayName("오래된 version으로 갱신 시 충돌 테스트")
+        void testStaleVersionIsRejected() {
+            // Given: 같은 주문을 두 번 읽은 뒤 한쪽이 먼저 갱신
+            Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 2);
+            OrderDTO first = orderMapper.findById(order.getId());
+            OrderDTO stale = orderMapper.findById(order.getId());
+            first.setQuantity(3);
+            assertThat(orderMapper.update(first)).isEqualTo(1);
+
+            // When: 이전 version을 가진 사본으로 갱신
+            stale.setQuantity(10);
+            int updatedRows = orderMapper.update(stale);
+
+            // Then: 갱신된 행이 없고, 먼저 반영된 수량이 유지되는지 검증
+            assertThat(updatedRows).isEqualTo(0);
+            assertThat(orderMapper.findById(order.getId()).getQuantity()).isEqualTo(3);
+        }
+
+        /**
+         * 다른 트랜잭션이 상품을 수정한 뒤에도 주문 흐름은 최신 version을 기준으로 동작
+         */
+        @Test
+        @DisplayName("상품 version 변경 후 재고 차감 테스트")
+        void testStockUpdateBumpsProductVersion() {
+            // Given: 현재 상품 version
+            Long initialVersion = productMapper.findById(testProduct.getId()).getVersion();
+
+            // When: 주문 생성으로 재고 차감
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 2);
+
+            // Then: 재고 차감이 상품 version을 증가시켜, 이전에 읽은 상품 전체 갱신은 충돌로 거부되는지 검증
+            ProductDTO staleProduct = productMapper.findById(testProduct.getId());
+            staleProduct.setVersion(initialVersion);
+            staleProduct.setStock(999);
+            assertThat(productMapper.update(staleProduct)).isEqualTo(0);
+            assertThat(productMapper.findById(testProduct.getId()).getStock()).isEqualTo(48);
+        }
+    }
+
     /**
      * 주문 금액 계산 관련 테스트 그룹
      */
@@ -483,10 +947,81 @@ class MyBatisOrderServiceImplTest {
             Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 5);
 
             // When: 주문의 총 금액을 계산
-            Double totalAmount = orderService.calculateTotalAmount(order.getId());
+            Money totalAmount = orderService.calculateTotalAmount(order.getId());
 
             // Then: 계산된 총 금액이 올바른지 검증
-            assertThat(totalAmount).isEqualTo(500.0);
+            assertThat(totalAmount).isEqualTo(Money.of(500.0));
+        }
+    }
+
+    /**
+     * 주문 집계 관련 테스트 그룹
+     *
+     * data.sql의 2024년 주문 5건을 기준으로 상태별, 상품별, 사용자별, 일별 집계를 검증합니다.
+     */
+    @Nested
+    @DisplayName("주문 집계 관련 테스트")
+    class OrderStatsTests {
+
+        private final LocalDateTime startDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        private final LocalDateTime endDate = LocalDateTime.of(2024, 12, 31, 23, 59);
+
+        @Test
+        @DisplayName("상태별 집계 테스트")
+        void testOrderStatsByStatus() {
+            // When: 2024년 주문 집계
+            OrderStats stats = orderService.getOrderStats(startDate, endDate);
+
+            // Then: 상태별 주문 수, 수량, 매출이 올바른지 검증
+            assertThat(stats.getByStatus()).containsExactly(
+                    new OrderStatsRow("CANCELED", 1L, 3L, Money.of(2400.0)),
+                    new OrderStatsRow("COMPLETED", 2L, 6L, Money.of(700.0)),
+                    new OrderStatsRow("PENDING", 2L, 3L, Money.of(3400.0)));
+        }
+
+        @Test
+        @DisplayName("상품별, 사용자별, 일별 집계 테스트")
+        void testOrderStatsByProductUserAndDay() {
+            // When: 2024년 주문 집계
+            OrderStats stats = orderService.getOrderStats(startDate, endDate);
+
+            // Then: 상품별 집계 (상품마다 주문 1건)
+            assertThat(stats.getByProduct()).hasSize(5);
+            assertThat(stats.getByProduct().get(0)).isEqualTo(new OrderStatsRow("1", 1L, 2L, Money.of(3000.0)));
+
+            // Then: 사용자별 집계
+            assertThat(stats.getByUser()).containsExactly(
+                    new OrderStatsRow("1", 2L, 5L, Money.of(5400.0)),
+                    new OrderStatsRow("2", 2L, 6L, Money.of(700.0)),
+                    new OrderStatsRow("3", 1L, 1L, Money.of(400.0)));
+
+            // Then: 일별 집계 (날짜순)
+            assertThat(stats.getByDay()).extracting(OrderStatsRow::getGroupKey).containsExactly(
+                    "2024-01-15", "2024-02-20", "2024-03-05", "2024-04-10", "2024-05-25");
+        }
+
+        @Test
+        @DisplayName("집계 테스트 - 범위 내 주문이 없는 경우")
+        void testOrderStatsWithNoOrdersInRange() {
+            // When: 주문이 없는 기간으로 집계
+            OrderStats stats = orderService.getOrderStats(
+                    LocalDateTime.of(2000, 1, 1, 0, 0), LocalDateTime.of(2000, 12, 31, 23, 59));
+
+            // Then: 모든 집계가 비어 있는지 검증
+            assertThat(stats.getByStatus()).isEmpty();
+            assertThat(stats.getByProduct()).isEmpty();
+            assertThat(stats.getByUser()).isEmpty();
+            assertThat(stats.getByDay()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("집계 테스트 - 시작일이 종료일보다 늦은 경우")
+        void testOrderStatsWithInvalidRange() {
+            // When & Then: 잘못된 기간으로 집계 시 IllegalArgumentException이 발생하는지 검증
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                    orderService.getOrderStats(endDate, startDate));
+
+            assertThat(exception.getMessage()).isEqualTo("Start date must not be after end date.");
         }
     }
 
@@ -616,7 +1151,7 @@ class MyBatisOrderServiceImplTest {
             OrderDTO updatedOrder = orderMapper.findById(order.getId());
             assertThat(updatedOrder).isNotNull();
             assertThat(updatedOrder.getQuantity()).isEqualTo(2);
-            assertThat(updatedOrder.getTotalAmount()).isEqualTo(200.0);
+            assertThat(updatedOrder.getTotalAmount()).isEqualTo(Money.of(200.0));
 
             // Then: 상품의 재고가 변경되지 않았는지 검증
             ProductDTO updatedProduct = productMapper.findById(testProduct.getId());
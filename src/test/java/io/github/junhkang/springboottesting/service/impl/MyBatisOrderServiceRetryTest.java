@@ -0,0 +1,95 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Money;
+import io.github.junhkang.springboottesting.domain.Order;
+import io.github.junhkang.springboottesting.domain.OrderDTO;
+import io.github.junhkang.springboottesting.domain.OrderStatus;
+import io.github.junhkang.springboottesting.repository.mybatis.OrderMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
+import io.github.junhkang.springboottesting.repository.mybatis.UserMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 테스트 클래스: MyBatisOrderServiceRetryTest
+ *
+ * 낙관적 락 충돌 시 @RetryOnConflict 재시도 정책이 적용되는지 검증합니다.
+ * 매퍼를 Mock으로 대체하여 첫 번째 갱신이 충돌(영향받은 행 0건)하는 상황을 재현합니다.
+ */
+@SpringBootTest(properties = "order.retry.backoff-delay=1")
+@ActiveProfiles("mybatis")
+@DisplayName("MyBatisOrderServiceRetryTest")
+class MyBatisOrderServiceRetryTest {
+
+    @MockBean
+    private OrderMapper orderMapper;
+
+    @MockBean
+    private UserMapper userMapper;
+
+    @MockBean
+    private ProductMapper productMapper;
+
+    @Autowired
+    private MyBatisOrderServiceImpl orderService;
+
+    @BeforeEach
+    void setUp() {
+        // Given: 매번 새로 읽을 때마다 PENDING 상태의 주문을 반환
+        when(orderMapper.findById(1L)).thenAnswer(invocation -> pendingOrder());
+    }
+
+    @Test
+    @DisplayName("충돌 후 재시도하여 주문 취소 성공")
+    void testCancelOrderRetriesOnConflict() {
+        // Given: 첫 번째 갱신은 충돌, 두 번째 갱신은 성공
+        when(orderMapper.update(any(OrderDTO.class))).thenReturn(0, 1);
+
+        // When: 주문을 취소
+        Order canceledOrder = orderService.cancelOrder(1L);
+
+        // Then: 다시 읽은 주문으로 취소가 완료되고, 재고는 한 번만 복구되었는지 검증
+        assertThat(canceledOrder.getStatus()).isEqualTo(OrderStatus.CANCELED);
+        verify(orderMapper, times(2)).findById(1L);
+        verify(orderMapper, times(2)).update(any(OrderDTO.class));
+        verify(productMapper, times(1)).increaseStock(10L, 2);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 충돌 예외 전파")
+    void testCancelOrderGivesUpAfterMaxAttempts() {
+        // Given: 모든 갱신이 충돌
+        when(orderMapper.update(any(OrderDTO.class))).thenReturn(0);
+
+        // When & Then: 설정된 최대 시도 횟수(3회)만큼 시도한 뒤 OptimisticLockingFailureException이 발생하는지 검증
+        assertThrows(OptimisticLockingFailureException.class, () -> orderService.cancelOrder(1L));
+        verify(orderMapper, times(3)).update(any(OrderDTO.class));
+        verify(productMapper, never()).increaseStock(any(), anyInt());
+    }
+
+    private OrderDTO pendingOrder() {
+        OrderDTO dto = new OrderDTO();
+        dto.setId(1L);
+        dto.setOrderDate(LocalDateTime.of(2024, 1, 1, 0, 0));
+        dto.setUserId(1L);
+        dto.setProductId(10L);
+        dto.setQuantity(2);
+        dto.setStatus(OrderStatus.PENDING.name());
+        dto.setTotalAmount(Money.of(200.0));
+        dto.setVersion(0L);
+        return dto;
+    }
+}
@@ -1,7 +1,9 @@
 package io.github.junhkang.springboottesting.service.impl;
 
+import io.github.junhkang.springboottesting.domain.Money;
 import io.github.junhkang.springboottesting.domain.Product;
 import io.github.junhkang.springboottesting.domain.ProductDTO;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
 import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
 import io.github.junhkang.springboottesting.repository.mybatis.ProductMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,7 +44,7 @@ class MyBatisProductServiceImplTest {
         testProduct = new Product();
         testProduct.setName("Test Product");
         testProduct.setDescription("Test Description");
-        testProduct.setPrice(100.0);
+        testProduct.setPrice(Money.of(100.0));
         testProduct.setStock(50);
 
         ProductDTO dto = new ProductDTO();
@@ -95,6 +97,22 @@ class MyBatisProductServiceImplTest {
 
             assertThat(exception.getMessage()).isEqualTo("Product not found with id " + nonExistentId);
         }
+
+        @Test
+        @DisplayName("상품 버전과 목록 집계 값 - 재고가 바뀌면 함께 바뀜")
+        void testVersionStampChangesWithStock() {
+            // Given: 재고 변경 전의 버전과 집계 값
+            VersionStamp before = productService.getCatalogVersionStamp();
+            assertThat(productService.getProductVersion(testProduct.getId())).isEqualTo(0L);
+
+            // When: 재고 차감
+            productMapper.decreaseStock(testProduct.getId(), 1);
+
+            // Then: 상품 버전과 목록 집계 값이 바뀌고, 없는 상품의 버전은 null
+            assertThat(productService.getProductVersion(testProduct.getId())).isEqualTo(1L);
+            assertThat(productService.getCatalogVersionStamp().toETag()).isNotEqualTo(before.toETag());
+            assertThat(productService.getProductVersion(999L)).isNull();
+        }
     }
 
     @Nested
@@ -108,7 +126,7 @@ class MyBatisProductServiceImplTest {
             Product newProduct = new Product();
             newProduct.setName("New Product");
             newProduct.setDescription("New Description");
-            newProduct.setPrice(200.0);
+            newProduct.setPrice(Money.of(200.0));
             newProduct.setStock(30);
 
             // When: 상품 생성
@@ -130,7 +148,7 @@ class MyBatisProductServiceImplTest {
             // Given: 필수 필드(이름)이 누락된 상품 생성
             Product incompleteProduct = new Product();
             incompleteProduct.setDescription("Missing Name");
-            incompleteProduct.setPrice(150.0);
+            incompleteProduct.setPrice(Money.of(150.0));
             incompleteProduct.setStock(10);
 
             // When & Then: 상품 생성 시 필드 누락으로 예외 발생 검증 (Optional 검증)
@@ -140,5 +158,43 @@ class MyBatisProductServiceImplTest {
 
             assertThat(exception.getMessage()).contains("Product name is required");
         }
+
+        @Test
+        @DisplayName("상품 생성 테스트 - 가격이 음수인 경우")
+        void testCreateProductNegativePrice() {
+            // Given: 가격이 음수인 상품
+            Product invalidProduct = new Product();
+            invalidProduct.setName("Invalid Product");
+            invalidProduct.setPrice(Money.of(-1.0));
+            invalidProduct.setStock(10);
+
+            // When & Then: JPA 구현체와 같은 규칙으로 예외 발생 검증
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+                productService.createProduct(invalidProduct);
+            });
+
+            assertThat(exception.getMessage()).isEqualTo("Product price cannot be negative.");
+        }
+
+        @Test
+        @DisplayName("상품 일괄 생성 테스트 - 생성된 ID가 각 상품에 채워짐")
+        void testCreateProducts() {
+            // Given: 새로운 상품 두 개
+            Product first = new Product();
+            first.setName("Bulk Product 1");
+            first.setPrice(Money.of(10.0));
+            first.setStock(1);
+            Product second = new Product();
+            second.setName("Bulk Product 2");
+            second.setPrice(Money.of(20.0));
+            second.setStock(2);
+
+            // When: 일괄 생성
+            List<Product> created = productService.createProducts(List.of(first, second));
+
+            // Then: 두 상품 모두 ID가 채워지고 데이터베이스에서 조회됨
+            assertThat(created).extracting(Product::getId).doesNotContainNull();
+            assertThat(productMapper.findById(created.get(1).getId()).getName()).isEqualTo("Bulk Product 2");
+        }
     }
 }
\ No newline at end of file
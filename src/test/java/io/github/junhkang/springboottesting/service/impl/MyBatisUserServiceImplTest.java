@@ -15,6 +15,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -90,6 +91,32 @@ class MyBatisUserServiceImplTest {
 
             assertThat(exception.getMessage()).isEqualTo("User not found with id " + nonExistentId);
         }
+
+        @Test
+        @DisplayName("여러 ID로 사용자 조회 - 요청 순서 유지, 없는 ID 제외")
+        void testGetUsersByIds() {
+            // Given: 존재하는 ID, 중복 ID, 존재하지 않는 ID를 섞은 목록
+            List<Long> ids = List.of(testUser.getId(), 2L, 999L, 1L, 2L);
+
+            // When: 여러 사용자를 한 번에 조회
+            List<User> users = userService.getUsersByIds(ids);
+
+            // Then: 존재하는 사용자만 요청 순서대로 한 번씩 반환되는지 검증
+            assertThat(users).extracting(User::getId).containsExactly(testUser.getId(), 2L, 1L);
+        }
+
+        @Test
+        @DisplayName("여러 ID로 사용자 조회 - IN 절 크기를 넘는 ID 목록")
+        void testGetUsersByIdsInChunks() {
+            // Given: 한 번의 IN 절에 담는 수보다 많은 ID
+            List<Long> ids = LongStream.rangeClosed(1, IdChunks.CHUNK_SIZE * 2L + 1).boxed().toList();
+
+            // When: 여러 사용자를 한 번에 조회
+            List<User> users = userService.getUsersByIds(ids);
+
+            // Then: 나누어 조회한 결과가 모두 합쳐지는지 검증 (data.sql 3명 + setUp() 1명)
+            assertThat(users).extracting(User::getId).contains(1L, 2L, 3L, testUser.getId());
+        }
     }
 
     @Nested
@@ -0,0 +1,270 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.*;
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: R2dbcOrderServiceImplTest
+ *
+ * r2dbc 프로파일의 주문 서비스가 블로킹 프로파일과 같은 규칙(조건부 재고 차감, 상태 검사, 재고 복구)으로 동작하는지
+ * StepVerifier로 검증합니다.
+ *
+ * 리액티브 트랜잭션은 테스트 메서드 단위로 롤백되지 않으므로, 각 테스트는 새로 만든 사용자와 상품만 사용합니다.
+ */
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("r2dbc")
+@DisplayName("R2dbcOrderServiceImplTest")
+class R2dbcOrderServiceImplTest {
+
+    @Autowired
+    private R2dbcOrderServiceImpl orderService;
+
+    @Autowired
+    private R2dbcProductServiceImpl productService;
+
+    @Autowired
+    private R2dbcUserServiceImpl userService;
+
+    private User testUser;
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        // Given: 테스트에 사용할 사용자와 재고 10개인 상품 생성
+        User user = new User();
+        user.setUsername("reactive_user");
+        user.setEmail("reactive_user@example.com");
+        testUser = userService.createUser(user).block();
+
+        Product product = new Product();
+        product.setName("Reactive Product");
+        product.setDescription("Product for r2dbc tests");
+        product.setPrice(Money.of(100.0));
+        product.setStock(10);
+        testProduct = productService.createProduct(product).block();
+    }
+
+    @Nested
+    @DisplayName("주문 생성 테스트")
+    class CreateOrderTests {
+
+        @Test
+        @DisplayName("주문 생성 시 재고 차감과 주문 그래프 반환")
+        void testCreateOrderSuccess() {
+            // When & Then: 3개 주문
+            StepVerifier.create(orderService.createOrder(testUser.getId(), testProduct.getId(), 3))
+                    .assertNext(order -> {
+                        assertThat(order.getId()).isNotNull();
+                        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+                        assertThat(order.getTotalAmount()).isEqualTo(Money.of(300.0));
+                        assertThat(order.getUser().getUsername()).isEqualTo("reactive_user");
+                        assertThat(order.getProduct().getStock()).isEqualTo(7);
+                        assertThat(order.getVersion()).isZero();
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("재고 부족 시 IllegalArgumentException 발생, 재고는 그대로")
+        void testCreateOrderInsufficientStock() {
+            // When & Then: 재고보다 많은 수량 주문
+            StepVerifier.create(orderService.createOrder(testUser.getId(), testProduct.getId(), 11))
+                    .expectErrorMatches(e -> e instanceof IllegalArgumentException
+                            && e.getMessage().equals("Insufficient stock for product id " + testProduct.getId()))
+                    .verify();
+            StepVerifier.create(productService.getProductById(testProduct.getId()))
+                    .assertNext(product -> assertThat(product.getStock()).isEqualTo(10))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 사용자로 주문 시 ResourceNotFoundException 발생")
+        void testCreateOrderUserNotFound() {
+            StepVerifier.create(orderService.createOrder(999L, testProduct.getId(), 1))
+                    .expectError(ResourceNotFoundException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("동시 주문에도 재고 이상으로 주문되지 않음")
+        void testConcurrentOrdersDoNotOversell() {
+            // When: 재고 10개에 3개씩 5건을 동시에 주문
+            List<Boolean> results = Flux.range(0, 5)
+                    .flatMap(i -> orderService.createOrder(testUser.getId(), testProduct.getId(), 3)
+                            .map(order -> true)
+                            .onErrorReturn(IllegalArgumentException.class, false))
+                    .collectList()
+                    .block();
+
+            // Then: 3건만 성공하고 남은 재고는 1개
+            assertThat(results).filteredOn(Boolean::booleanValue).hasSize(3);
+            StepVerifier.create(productService.getProductById(testProduct.getId()))
+                    .assertNext(product -> assertThat(product.getStock()).isEqualTo(1))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("일괄 주문 생성 시 상품별 재고를 차감하고 주문 ID 순으로 반환")
+        void testCreateOrders() {
+            List<OrderLine> lines = List.of(
+                    new OrderLine(testUser.getId(), testProduct.getId(), 2),
+                    new OrderLine(testUser.getId(), testProduct.getId(), 3));
+
+            StepVerifier.create(orderService.createOrders(lines))
+                    .assertNext(order -> assertThat(order.getQuantity()).isEqualTo(2))
+                    .assertNext(order -> assertThat(order.getQuantity()).isEqualTo(3))
+                    .verifyComplete();
+            StepVerifier.create(productService.getProductById(testProduct.getId()))
+                    .assertNext(product -> assertThat(product.getStock()).isEqualTo(5))
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("주문 변경 테스트")
+    class ModifyOrderTests {
+
+        @Test
+        @DisplayName("주문 취소 시 상태 변경과 재고 복구, 다시 취소하면 IllegalArgumentException 발생")
+        void testCancelOrder() {
+            // Given: 4개 주문
+            Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 4).block();
+
+            // When & Then: 취소하면 CANCELED, version 증가, 재고 복구
+            StepVerifier.create(orderService.cancelOrder(order.getId()))
+                    .assertNext(canceled -> {
+                        assertThat(canceled.getStatus()).isEqualTo(OrderStatus.CANCELED);
+                        assertThat(canceled.getVersion()).isEqualTo(1L);
+                        assertThat(canceled.getProduct().getStock()).isEqualTo(10);
+                    })
+                    .verifyComplete();
+            StepVerifier.create(orderService.cancelOrder(order.getId()))
+                    .expectErrorMessage("Only pending orders can be canceled.")
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("주문 수량 변경 시 재고와 금액 반영")
+        void testUpdateOrderQuantity() {
+            // Given: 2개 주문
+            Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 2).block();
+
+            // When & Then: 5개로 변경하면 재고 3개 추가 차감, 재고보다 많이 늘리면 실패
+            StepVerifier.create(orderService.updateOrderQuantity(order.getId(), 5))
+                    .assertNext(updated -> {
+                        assertThat(updated.getQuantity()).isEqualTo(5);
+                        assertThat(updated.getTotalAmount()).isEqualTo(Money.of(500.0));
+                        assertThat(updated.getProduct().getStock()).isEqualTo(5);
+                    })
+                    .verifyComplete();
+            StepVerifier.create(orderService.updateOrderQuantity(order.getId(), 20))
+                    .expectErrorMessage("Insufficient stock to increase quantity.")
+                    .verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("주문 조회 테스트")
+    class GetOrderTests {
+
+        @Test
+        @DisplayName("사용자별 주문 조회와 존재하지 않는 사용자 처리")
+        void testGetOrdersByUserId() {
+            // Given: 주문 두 건
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 1).block();
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 2).block();
+
+            // When & Then
+            StepVerifier.create(orderService.getOrdersByUserId(testUser.getId()))
+                    .expectNextCount(2)
+                    .verifyComplete();
+            StepVerifier.create(orderService.getOrdersByUserId(999L))
+                    .expectError(ResourceNotFoundException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("키셋 페이지네이션과 잘못된 페이지 크기 처리")
+        void testGetOrders() {
+            StepVerifier.create(orderService.getOrders(null, 2))
+                    .assertNext(page -> {
+                        assertThat(page.getContent()).hasSize(2);
+                        assertThat(page.getNextCursor()).isEqualTo(page.getContent().get(1).getId());
+                    })
+                    .verifyComplete();
+            StepVerifier.create(orderService.getOrders(null, 0))
+                    .expectError(IllegalArgumentException.class)
+                    .verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("주문 집계 테스트")
+    class OrderStatsTests {
+
+        @Test
+        @DisplayName("기간 집계는 사용자별 주문 수, 수량, 매출을 합산")
+        void testGetOrderStats() {
+            // Given: 주문 두 건
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 1).block();
+            orderService.createOrder(testUser.getId(), testProduct.getId(), 2).block();
+
+            // When & Then: 오늘을 포함하는 기간 집계에 테스트 사용자의 주문이 합산됨
+            LocalDateTime now = LocalDateTime.now();
+            StepVerifier.create(orderService.getOrderStats(now.minusDays(1), now.plusDays(1)))
+                    .assertNext(stats -> {
+                        assertThat(stats.getByUser())
+                                .contains(new OrderStatsRow(String.valueOf(testUser.getId()), 2L, 3L, Money.of(300.0)));
+                        assertThat(stats.getByProduct())
+                                .contains(new OrderStatsRow(String.valueOf(testProduct.getId()), 2L, 3L, Money.of(300.0)));
+                        assertThat(stats.getByStatus()).extracting(OrderStatsRow::getGroupKey).contains("PENDING");
+                        assertThat(stats.getByDay()).extracting(OrderStatsRow::getGroupKey).contains(now.toLocalDate().toString());
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("시작일이 종료일보다 늦으면 IllegalArgumentException 발생")
+        void testGetOrderStatsInvalidRange() {
+            LocalDateTime now = LocalDateTime.now();
+            StepVerifier.create(orderService.getOrderStats(now, now.minusDays(1)))
+                    .expectErrorMessage("Start date must not be after end date.")
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("사용자 주문 목록 집계 값은 주문이 추가·수정되면 바뀜")
+        void testOrdersVersionStampChanges() {
+            // Given: 주문이 없는 사용자
+            StepVerifier.create(orderService.getOrdersVersionStampByUserId(testUser.getId()))
+                    .assertNext(stamp -> assertThat(stamp.getRowCount()).isZero())
+                    .verifyComplete();
+
+            // When: 주문 생성 후 수량 변경
+            Order order = orderService.createOrder(testUser.getId(), testProduct.getId(), 1).block();
+            VersionStamp created = orderService.getOrdersVersionStampByUserId(testUser.getId()).block();
+            orderService.updateOrderQuantity(order.getId(), 2).block();
+
+            // Then: 행 수와 ID 합계는 주문 한 건, 수정 후에는 버전 합계가 늘어남
+            assertThat(created.getRowCount()).isEqualTo(1L);
+            assertThat(created.getIdSum()).isEqualTo(order.getId());
+            StepVerifier.create(orderService.getOrdersVersionStampByUserId(testUser.getId()))
+                    .assertNext(stamp -> assertThat(stamp.getVersionSum()).isGreaterThan(created.getVersionSum()))
+                    .verifyComplete();
+        }
+    }
+}
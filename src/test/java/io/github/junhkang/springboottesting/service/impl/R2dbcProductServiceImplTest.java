@@ -0,0 +1,132 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.Money;
+import io.github.junhkang.springboottesting.domain.Product;
+import io.github.junhkang.springboottesting.domain.VersionStamp;
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: R2dbcProductServiceImplTest
+ *
+ * r2dbc 프로파일의 상품 서비스가 블로킹 프로파일과 같은 검증 규칙과 조회 결과를 제공하는지 StepVerifier로 검증합니다.
+ *
+ * 리액티브 트랜잭션은 테스트 메서드 단위로 롤백되지 않으므로, 각 테스트는 새로 만든 상품만 사용합니다.
+ */
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("r2dbc")
+@DisplayName("R2dbcProductServiceImplTest")
+class R2dbcProductServiceImplTest {
+
+    @Autowired
+    private R2dbcProductServiceImpl productService;
+
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        // Given: 테스트에 사용할 상품 생성
+        testProduct = productService.createProduct(newProduct("Reactive Catalog Product", Money.of(50.0), 5)).block();
+    }
+
+    @Nested
+    @DisplayName("상품 생성 테스트")
+    class CreateProductTests {
+
+        @Test
+        @DisplayName("상품 생성 시 ID와 초기 버전 할당")
+        void testCreateProductSuccess() {
+            StepVerifier.create(productService.createProduct(newProduct("New Product", Money.of(10.0), 3)))
+                    .assertNext(product -> {
+                        assertThat(product.getId()).isNotNull();
+                        assertThat(product.getVersion()).isZero();
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("이름이 없으면 IllegalArgumentException 발생")
+        void testCreateProductWithoutName() {
+            StepVerifier.create(productService.createProduct(newProduct(" ", Money.of(10.0), 3)))
+                    .expectErrorMatches(e -> e instanceof IllegalArgumentException
+                            && e.getMessage().equals("Product name is required."))
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("가격이 음수면 IllegalArgumentException 발생")
+        void testCreateProductNegativePrice() {
+            StepVerifier.create(productService.createProduct(newProduct("Invalid Product", Money.of(-1.0), 3)))
+                    .expectErrorMessage("Product price cannot be negative.")
+                    .verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("상품 조회 테스트")
+    class GetProductTests {
+
+        @Test
+        @DisplayName("ID로 상품 조회와 존재하지 않는 상품 처리")
+        void testGetProductById() {
+            StepVerifier.create(productService.getProductById(testProduct.getId()))
+                    .assertNext(product -> {
+                        assertThat(product.getName()).isEqualTo("Reactive Catalog Product");
+                        assertThat(product.getPrice()).isEqualTo(Money.of(50.0));
+                        assertThat(product.getStock()).isEqualTo(5);
+                        assertThat(product.getDescription()).isNull();
+                    })
+                    .verifyComplete();
+            StepVerifier.create(productService.getProductById(999L))
+                    .expectError(ResourceNotFoundException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("여러 ID로 조회 시 요청 순서대로, 존재하지 않는 ID는 건너뜀")
+        void testGetProductsByIds() {
+            StepVerifier.create(productService.getProductsByIds(List.of(testProduct.getId(), 999L, 1L)))
+                    .assertNext(product -> assertThat(product.getId()).isEqualTo(testProduct.getId()))
+                    .assertNext(product -> assertThat(product.getId()).isEqualTo(1L))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("상품이 추가되면 목록 집계 값이 바뀜")
+        void testCatalogVersionStampChanges() {
+            // Given: 현재 상품 목록의 집계 값
+            VersionStamp before = productService.getCatalogVersionStamp().block();
+
+            // When: 상품 추가
+            Product added = productService.createProduct(newProduct("Stamp Product", Money.of(1.0), 1)).block();
+
+            // Then: 행 수와 ID 합계가 늘어남
+            StepVerifier.create(productService.getCatalogVersionStamp())
+                    .assertNext(after -> {
+                        assertThat(after.getRowCount()).isEqualTo(before.getRowCount() + 1);
+                        assertThat(after.getIdSum()).isEqualTo(before.getIdSum() + added.getId());
+                        assertThat(after.toETag()).isNotEqualTo(before.toETag());
+                    })
+                    .verifyComplete();
+        }
+    }
+
+    private static Product newProduct(String name, Money price, int stock) {
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(price);
+        product.setStock(stock);
+        return product;
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.junhkang.springboottesting.service.impl;
+
+import io.github.junhkang.springboottesting.domain.User;
+import io.github.junhkang.springboottesting.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 클래스: R2dbcUserServiceImplTest
+ *
+ * r2dbc 프로파일의 사용자 서비스가 블로킹 프로파일과 같은 검증 규칙과 조회 결과를 제공하는지 StepVerifier로 검증합니다.
+ *
+ * 리액티브 트랜잭션은 테스트 메서드 단위로 롤백되지 않으므로, 각 테스트는 새로 만든 사용자만 사용합니다.
+ */
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("r2dbc")
+@DisplayName("R2dbcUserServiceImplTest")
+class R2dbcUserServiceImplTest {
+
+    @Autowired
+    private R2dbcUserServiceImpl userService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        // Given: 테스트에 사용할 사용자 생성
+        testUser = userService.createUser(newUser("reactive_member", "reactive_member@example.com")).block();
+    }
+
+    @Nested
+    @DisplayName("사용자 생성 테스트")
+    class CreateUserTests {
+
+        @Test
+        @DisplayName("사용자 생성 시 ID 할당")
+        void testCreateUserSuccess() {
+            StepVerifier.create(userService.createUser(newUser("new_member", "new_member@example.com")))
+                    .assertNext(user -> {
+                        assertThat(user.getId()).isNotNull();
+                        assertThat(user.getUsername()).isEqualTo("new_member");
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("사용자 이름이 없으면 IllegalArgumentException 발생")
+        void testCreateUserWithoutUsername() {
+            StepVerifier.create(userService.createUser(newUser("", "nameless@example.com")))
+                    .expectErrorMatches(e -> e instanceof IllegalArgumentException
+                            && e.getMessage().equals("Username is required."))
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("이메일 형식이 잘못되면 IllegalArgumentException 발생")
+        void testCreateUserInvalidEmail() {
+            StepVerifier.create(userService.createUser(newUser("invalid_member", "invalid-email")))
+                    .expectErrorMessage("Invalid email format.")
+                    .verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("사용자 조회 테스트")
+    class GetUserTests {
+
+        @Test
+        @DisplayName("ID로 사용자 조회와 존재하지 않는 사용자 처리")
+        void testGetUserById() {
+            StepVerifier.create(userService.getUserById(testUser.getId()))
+                    .assertNext(user -> {
+                        assertThat(user.getUsername()).isEqualTo("reactive_member");
+                        assertThat(user.getEmail()).isEqualTo("reactive_member@example.com");
+                    })
+                    .verifyComplete();
+            StepVerifier.create(userService.getUserById(999L))
+                    .expectError(ResourceNotFoundException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("여러 ID로 조회 시 요청 순서대로, 존재하지 않는 ID는 건너뜀")
+        void testGetUsersByIds() {
+            StepVerifier.create(userService.getUsersByIds(List.of(testUser.getId(), 999L, 1L)))
+                    .assertNext(user -> assertThat(user.getId()).isEqualTo(testUser.getId()))
+                    .assertNext(user -> assertThat(user.getId()).isEqualTo(1L))
+                    .verifyComplete();
+        }
+    }
+
+    private static User newUser(String username, String email) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        return user;
+    }
+}